@@ -3,10 +3,15 @@ package com.calendar;
 import com.calendar.exception.EventOverlapException;
 import com.calendar.exception.InvalidEventException;
 import com.calendar.factory.ServiceFactory;
+import com.calendar.model.ConflictReport;
 import com.calendar.model.Event;
+import com.calendar.model.EventConflict;
 import com.calendar.model.TimeSlot;
 import com.calendar.service.CalendarServiceImpl;
+import com.calendar.service.ReminderDelivery;
+import com.calendar.service.ReminderScheduler;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -19,6 +24,7 @@ import java.util.Scanner;
 public class CalendarApp {
     private final CalendarServiceImpl calendarService;
     private final Scanner scanner;
+    private final ReminderScheduler reminders;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy");
     private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy HH:mm");
@@ -27,6 +33,11 @@ public class CalendarApp {
     public CalendarApp() {
         this.calendarService = ServiceFactory.createService();
         this.scanner = new Scanner(System.in);
+
+        // Print a reminder 15 minutes before each event starts
+        this.reminders = new ReminderScheduler(List.of(Duration.ofMinutes(15)), ReminderDelivery.console());
+        reminders.watch(calendarService);
+        reminders.start();
     }
 
     public static void main(String[] args) {
@@ -66,13 +77,16 @@ public class CalendarApp {
                         deleteEvent();
                         break;
                     case "8":
+                        checkForConflicts();
+                        break;
+                    case "9":
                         running = false;
                         System.out.println("\n" + "=".repeat(50));
                         System.out.println("Thank you for using Calendar Application!");
                         System.out.println("=".repeat(50));
                         break;
                     default:
-                        System.out.println("\nInvalid choice. Please enter a number from 1-8.");
+                        System.out.println("\nInvalid choice. Please enter a number from 1-9.");
                 }
             } catch (EventOverlapException e) {
                 System.out.println("\nOverlap Error: " + e.getMessage());
@@ -87,6 +101,8 @@ public class CalendarApp {
         }
 
         scanner.close();
+        reminders.close();
+        calendarService.close();
     }
 
     private void printWelcome() {
@@ -108,9 +124,10 @@ public class CalendarApp {
         System.out.println("5. Find Next Available Slot");
         System.out.println("6. List All Events");
         System.out.println("7. Delete Event");
-        System.out.println("8. Exit");
+        System.out.println("8. Check for Conflicts");
+        System.out.println("9. Exit");
         System.out.println("-".repeat(50));
-        System.out.print("Enter your choice (1-8): ");
+        System.out.print("Enter your choice (1-9): ");
         System.out.flush();
     }
 
@@ -689,6 +706,30 @@ public class CalendarApp {
         }
     }
 
+    private void checkForConflicts() {
+        System.out.println("\n--- Conflict Check ---");
+        ConflictReport report = calendarService.findConflicts();
+
+        if (!report.hasConflicts()) {
+            System.out.println("  No overlapping events found.");
+            return;
+        }
+
+        System.out.println("  Found " + report.getConflicts().size() + " overlapping pair(s) in " +
+            report.getClusters().size() + " group(s):\n");
+        for (int i = 0; i < report.getClusters().size(); i++) {
+            System.out.println("  Group " + (i + 1) + ":");
+            for (Event event : report.getClusters().get(i)) {
+                System.out.println("    - " + event);
+            }
+        }
+
+        System.out.println("\n  Overlapping pairs:");
+        for (EventConflict conflict : report.getConflicts()) {
+            System.out.println("    " + conflict.getFirst().getTitle() + " <-> " + conflict.getSecond().getTitle());
+        }
+    }
+
     private void displayEventsTable(List<Event> events) {
         if (events.isEmpty()) {
             System.out.println("  No events found.");
@@ -0,0 +1,13 @@
+package com.calendar.exception;
+
+// Thrown when a storage backend (e.g. a database) fails to read or write events
+public class StorageException extends RuntimeException {
+
+    public StorageException(String message) {
+        super(message);
+    }
+
+    public StorageException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
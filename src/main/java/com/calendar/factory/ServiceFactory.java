@@ -1,14 +1,35 @@
 package com.calendar.factory;
 
+import com.calendar.model.WorkingHoursPolicy;
 import com.calendar.service.*;
+import java.time.Clock;
+import java.time.ZoneId;
 
 // Creates and wires up the calendar service with all its dependencies
 public class ServiceFactory {
 
-    // Creates a calendar service with in-memory storage
+    // Creates a calendar service with in-memory storage and cached slot searches
     public static CalendarServiceImpl createService() {
         EventStorage storage = new InMemoryEventStorage();
-        SlotFinder slotFinder = new StandardSlotFinder(storage);
+        SlotFinder slotFinder = new CachingSlotFinder(new StandardSlotFinder(storage));
+        return new CalendarServiceImpl(storage, slotFinder);
+    }
+
+    // Creates a calendar service whose slot search follows the given working hours, step and time zone;
+    // the zone is also the calendar's, so days mean the same thing to the storage and the slot search
+    public static CalendarServiceImpl createService(WorkingHoursPolicy policy, int granularityMinutes, ZoneId zone) {
+        EventStorage storage = new InMemoryEventStorage(zone);
+        // One clock for both, so the cache and the finder agree on which day is today
+        Clock clock = Clock.system(zone);
+        SlotFinder slotFinder = new CachingSlotFinder(
+            new ConfigurableSlotFinder(storage, policy, granularityMinutes, clock), clock);
+        return new CalendarServiceImpl(storage, slotFinder, clock);
+    }
+
+    // Creates a calendar service that keeps events in a database, e.g. "jdbc:h2:./calendar"
+    public static CalendarServiceImpl createService(String jdbcUrl) {
+        EventStorage storage = new JdbcEventStorage(jdbcUrl);
+        SlotFinder slotFinder = new CachingSlotFinder(new StandardSlotFinder(storage));
         return new CalendarServiceImpl(storage, slotFinder);
     }
 }
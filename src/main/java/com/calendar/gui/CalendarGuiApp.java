@@ -2,21 +2,35 @@ package com.calendar.gui;
 
 import com.calendar.factory.ServiceFactory;
 import com.calendar.gui.controller.MainWindowController;
+import com.calendar.gui.util.GuiReminderDelivery;
 import com.calendar.service.CalendarServiceImpl;
+import com.calendar.service.ReminderScheduler;
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
 import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.stage.Stage;
 
+import java.time.Duration;
+import java.util.List;
+
 // Main JavaFX Application class - entry point for the GUI
 public class CalendarGuiApp extends Application {
+    private static final Duration REMINDER_OFFSET = Duration.ofMinutes(15);
+
+    private ReminderScheduler reminders;
+    private CalendarServiceImpl calendarService;
 
     @Override
     public void start(Stage primaryStage) {
         try {
             // Create single shared calendar service instance
-            CalendarServiceImpl calendarService = ServiceFactory.createService();
+            calendarService = ServiceFactory.createService();
+
+            // Pop up a reminder shortly before each event
+            reminders = new ReminderScheduler(List.of(REMINDER_OFFSET), new GuiReminderDelivery());
+            reminders.watch(calendarService);
+            reminders.start();
 
             // Load Main Window FXML
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/com/calendar/gui/view/MainWindow.fxml"));
@@ -55,6 +69,16 @@ public class CalendarGuiApp extends Application {
         }
     }
 
+    @Override
+    public void stop() {
+        if (reminders != null) {
+            reminders.close();
+        }
+        if (calendarService != null) {
+            calendarService.close();
+        }
+    }
+
     public static void main(String[] args) {
         launch(args);
     }
@@ -3,6 +3,7 @@ package com.calendar.gui.controller;
 import com.calendar.gui.util.AlertUtil;
 import com.calendar.gui.util.DataChangeListener;
 import com.calendar.gui.util.DateTimeUtil;
+import com.calendar.model.SlotHold;
 import com.calendar.model.TimeSlot;
 import com.calendar.service.CalendarServiceImpl;
 import javafx.collections.FXCollections;
@@ -10,11 +11,16 @@ import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 // Controller for Available Slots View - finds and displays available time slots
 public class AvailableSlotsController implements DataChangeListener {
+    // How long a picked slot stays reserved while the create dialog is open
+    private static final Duration BOOKING_HOLD = Duration.ofMinutes(5);
+
     private CalendarServiceImpl calendarService;
     private MainWindowController mainController;
 
@@ -131,10 +137,19 @@ public class AvailableSlotsController implements DataChangeListener {
             return;
         }
 
+        // Reserve the slot so nobody else can take it while the form is being filled in
+        Optional<SlotHold> hold = calendarService.holdSlot(selectedSlot, System.getProperty("user.name"), BOOKING_HOLD);
+        if (hold.isEmpty()) {
+            AlertUtil.showWarning("Slot Taken", "This slot was just booked or is being booked by someone else.");
+            handleFindSlots();
+            return;
+        }
+
         // Open create event dialog with pre-filled times
         mainController.openCreateEventDialog(
                 selectedSlot.getStartTime(),
-                selectedSlot.getEndTime()
+                selectedSlot.getEndTime(),
+                hold.get().getId()
         );
     }
 
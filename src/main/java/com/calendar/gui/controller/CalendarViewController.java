@@ -113,9 +113,7 @@ public class CalendarViewController implements DataChangeListener {
         }
 
         // Get events for this date
-        List<Event> dayEvents = calendarService.getAllEvents().stream()
-                .filter(e -> e.getStartTime().toLocalDate().equals(date))
-                .sorted()
+        List<Event> dayEvents = calendarService.listEventsForDate(date.atStartOfDay()).stream()
                 .limit(5) // Show max 5 events
                 .collect(Collectors.toList());
 
@@ -4,6 +4,7 @@ import com.calendar.gui.model.EventTableModel;
 import com.calendar.gui.util.AlertUtil;
 import com.calendar.gui.util.DataChangeListener;
 import com.calendar.model.Event;
+import com.calendar.model.SyncDelta;
 import com.calendar.service.CalendarServiceImpl;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -11,7 +12,10 @@ import javafx.fxml.FXML;
 import javafx.scene.control.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 // Controller for Event List View - displays all events in a table
@@ -40,11 +44,20 @@ public class EventListController implements DataChangeListener {
     @FXML
     private DatePicker datePicker;
 
+    @FXML
+    private TextField searchField;
+
     @FXML
     private Label eventCountLabel;
 
     private final ObservableList<EventTableModel> eventData = FXCollections.observableArrayList();
 
+    private static final int SEARCH_LIMIT = 200;
+
+    // Local copy of all events, kept current with sync deltas instead of reloading everything
+    private final Map<String, Event> allEvents = new HashMap<>();
+    private String syncToken;
+
     @FXML
     public void initialize() {
         // This will be called later after service is injected
@@ -71,6 +84,7 @@ public class EventListController implements DataChangeListener {
         // Add date picker listener
         datePicker.valueProperty().addListener((obs, oldVal, newVal) -> {
             if (newVal != null) {
+                searchField.clear();
                 filterByDate(newVal);
             }
         });
@@ -105,9 +119,23 @@ public class EventListController implements DataChangeListener {
         }
     }
 
+    @FXML
+    private void handleSearch() {
+        String query = searchField.getText().trim();
+        if (query.isEmpty()) {
+            handleRefresh();
+            return;
+        }
+        datePicker.setValue(null);
+        searchByTitle(query);
+        mainController.setStatus("Search results for \"" + query + "\"");
+    }
+
     @FXML
     private void handleRefresh() {
-        if (datePicker.getValue() != null) {
+        if (!searchField.getText().trim().isEmpty()) {
+            searchByTitle(searchField.getText().trim());
+        } else if (datePicker.getValue() != null) {
             filterByDate(datePicker.getValue());
         } else {
             loadAllEvents();
@@ -118,12 +146,22 @@ public class EventListController implements DataChangeListener {
     @FXML
     private void handleClearFilter() {
         datePicker.setValue(null);
+        searchField.clear();
         loadAllEvents();
         mainController.setStatus("Filter cleared");
     }
 
     private void loadAllEvents() {
-        List<Event> events = calendarService.getAllEvents();
+        SyncDelta delta = calendarService.changesSince(syncToken);
+        if (delta.isFullResync()) {
+            allEvents.clear();
+        }
+        delta.getDeletedEventIds().forEach(allEvents::remove);
+        delta.getChangedEvents().forEach(event -> allEvents.put(event.getId(), event));
+        syncToken = delta.getSyncToken();
+
+        List<Event> events = new ArrayList<>(allEvents.values());
+        events.sort(null);
         updateTable(events);
     }
 
@@ -132,6 +170,11 @@ public class EventListController implements DataChangeListener {
         updateTable(events);
     }
 
+    private void searchByTitle(String query) {
+        List<Event> events = calendarService.searchEvents(query, SEARCH_LIMIT);
+        updateTable(events);
+    }
+
     private void updateTable(List<Event> events) {
         eventData.clear();
         List<EventTableModel> models = events.stream()
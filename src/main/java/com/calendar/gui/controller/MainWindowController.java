@@ -107,12 +107,18 @@ public class MainWindowController {
 
     // Public method to open create event dialog with pre-filled date/times
     public void openCreateEventDialog(LocalDateTime startTime, LocalDateTime endTime) {
+        openCreateEventDialog(startTime, endTime, null);
+    }
+
+    // Same, for a slot reserved with CalendarServiceImpl.holdSlot - the hold is used for the
+    // booking, or given back if the dialog is cancelled or the booking fails
+    public void openCreateEventDialog(LocalDateTime startTime, LocalDateTime endTime, String holdId) {
         CreateEventController controller = new CreateEventController(startTime, endTime);
         Optional<Event> result = controller.showDialog();
 
         result.ifPresent(event -> {
             try {
-                calendarService.addEvent(event);
+                calendarService.addEvent(event, holdId);
                 AlertUtil.showSuccess("Event created successfully!");
                 notifyDataChanged();
                 setStatus("Event created: " + event.getTitle());
@@ -122,6 +128,10 @@ public class MainWindowController {
                 AlertUtil.showError("Error", "Failed to create event: " + e.getMessage());
             }
         });
+        // No-op if the booking used the hold
+        if (holdId != null) {
+            calendarService.releaseHold(holdId);
+        }
     }
 
     private void updateEventCount() {
@@ -0,0 +1,21 @@
+package com.calendar.gui.util;
+
+import com.calendar.model.Reminder;
+import com.calendar.service.ReminderDelivery;
+import javafx.application.Platform;
+import javafx.scene.control.Alert;
+
+// Shows reminders as non-blocking notification dialogs on the JavaFX thread
+public class GuiReminderDelivery implements ReminderDelivery {
+
+    @Override
+    public void deliver(Reminder reminder) {
+        Platform.runLater(() -> {
+            Alert alert = new Alert(Alert.AlertType.INFORMATION);
+            alert.setTitle("Reminder");
+            alert.setHeaderText(reminder.getEvent().getTitle());
+            alert.setContentText(reminder.toString());
+            alert.show();
+        });
+    }
+}
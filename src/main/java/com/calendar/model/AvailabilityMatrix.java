@@ -0,0 +1,80 @@
+package com.calendar.model;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+
+// Number of available slots per day and duration over a date range.
+// Stored as one flat int array (day-major) to stay compact for year-long ranges.
+public class AvailabilityMatrix {
+    private final LocalDate startDate;
+    private final int dayCount;
+    private final int[] durations;
+    private final int[] counts;
+
+    public AvailabilityMatrix(LocalDate startDate, int dayCount, int[] durations, int[] counts) {
+        if (startDate == null) {
+            throw new IllegalArgumentException("Start date cannot be null");
+        }
+        if (counts.length != dayCount * durations.length) {
+            throw new IllegalArgumentException("Counts must have one entry per day and duration");
+        }
+        this.startDate = startDate;
+        this.dayCount = dayCount;
+        this.durations = durations.clone();
+        this.counts = counts;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return startDate.plusDays(dayCount - 1L);
+    }
+
+    public int getDayCount() {
+        return dayCount;
+    }
+
+    public int[] getDurations() {
+        return durations.clone();
+    }
+
+    public int getCount(int dayIndex, int durationIndex) {
+        return counts[dayIndex * durations.length + durationIndex];
+    }
+
+    public int getCount(LocalDate date, int durationMinutes) {
+        long dayIndex = ChronoUnit.DAYS.between(startDate, date);
+        if (dayIndex < 0 || dayIndex >= dayCount) {
+            throw new IllegalArgumentException("Date is outside the matrix: " + date);
+        }
+        return getCount((int) dayIndex, durationIndex(durationMinutes));
+    }
+
+    // Total open slots of the given duration across the whole range
+    public long getTotal(int durationMinutes) {
+        int durationIndex = durationIndex(durationMinutes);
+        long total = 0;
+        for (int day = 0; day < dayCount; day++) {
+            total += getCount(day, durationIndex);
+        }
+        return total;
+    }
+
+    private int durationIndex(int durationMinutes) {
+        for (int i = 0; i < durations.length; i++) {
+            if (durations[i] == durationMinutes) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Duration was not searched: " + durationMinutes);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Availability[%s - %s, durations %s]",
+            startDate, getEndDate(), Arrays.toString(durations));
+    }
+}
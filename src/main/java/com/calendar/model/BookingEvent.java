@@ -0,0 +1,99 @@
+package com.calendar.model;
+
+import java.time.Instant;
+import java.util.Map;
+
+// Something that happened to the calendar, as recorded in an event-sourced log. The calendar's
+// state is whatever you get by applying these in order, starting from an empty map of events by ID.
+public abstract class BookingEvent {
+    private final String eventId;
+
+    protected BookingEvent(String eventId) {
+        if (eventId == null) {
+            throw new IllegalArgumentException("Event ID cannot be null");
+        }
+        this.eventId = eventId;
+    }
+
+    public String getEventId() {
+        return eventId;
+    }
+
+    // Apply this change to a projection of the calendar keyed by event ID
+    public abstract void applyTo(Map<String, Event> events);
+
+    // An event was booked - or rebooked with new details, replacing the earlier booking
+    public static final class EventBooked extends BookingEvent {
+        private final Event event;
+
+        public EventBooked(Event event) {
+            super(event == null ? null : event.getId());
+            this.event = event;
+        }
+
+        public Event getEvent() {
+            return event;
+        }
+
+        @Override
+        public void applyTo(Map<String, Event> events) {
+            events.put(getEventId(), event);
+        }
+
+        @Override
+        public String toString() {
+            return "EventBooked[" + event + "]";
+        }
+    }
+
+    // An existing event got new start and end times; everything else stays as booked. The times are
+    // instants, so replay puts the event exactly where it was, even inside a DST overlap.
+    public static final class EventMoved extends BookingEvent {
+        private final Instant newStartTime;
+        private final Instant newEndTime;
+
+        public EventMoved(String eventId, Instant newStartTime, Instant newEndTime) {
+            super(eventId);
+            if (newStartTime == null || newEndTime == null) {
+                throw new IllegalArgumentException("New times cannot be null");
+            }
+            this.newStartTime = newStartTime;
+            this.newEndTime = newEndTime;
+        }
+
+        public Instant getNewStartTime() {
+            return newStartTime;
+        }
+
+        public Instant getNewEndTime() {
+            return newEndTime;
+        }
+
+        @Override
+        public void applyTo(Map<String, Event> events) {
+            events.computeIfPresent(getEventId(), (id, event) -> event.withTimes(newStartTime, newEndTime));
+        }
+
+        @Override
+        public String toString() {
+            return "EventMoved[" + getEventId() + " to " + newStartTime + " - " + newEndTime + "]";
+        }
+    }
+
+    public static final class EventCancelled extends BookingEvent {
+
+        public EventCancelled(String eventId) {
+            super(eventId);
+        }
+
+        @Override
+        public void applyTo(Map<String, Event> events) {
+            events.remove(getEventId());
+        }
+
+        @Override
+        public String toString() {
+            return "EventCancelled[" + getEventId() + "]";
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.calendar.model;
+
+import java.time.Instant;
+
+// One entry in the change feed: what happened to which event, and its position in the feed.
+// Sequence numbers start at 1 and increase by one per record, so a consumer resumes from the
+// sequence after the last record it processed.
+public class ChangeRecord {
+
+    public enum Type {
+        ADDED,
+        UPDATED,
+        DELETED,
+        // Every event was removed; carries no event
+        CLEARED
+    }
+
+    private final long sequence;
+    private final Instant timestamp;
+    private final Type type;
+    private final Event event;
+
+    public ChangeRecord(long sequence, Instant timestamp, Type type, Event event) {
+        if (sequence <= 0) {
+            throw new IllegalArgumentException("Sequence must be positive");
+        }
+        if (timestamp == null || type == null) {
+            throw new IllegalArgumentException("Timestamp and type cannot be null");
+        }
+        if ((event == null) != (type == Type.CLEARED)) {
+            throw new IllegalArgumentException("Only CLEARED records come without an event");
+        }
+        this.sequence = sequence;
+        this.timestamp = timestamp;
+        this.type = type;
+        this.event = event;
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    public Instant getTimestamp() {
+        return timestamp;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    // The event as it is after the change (as it was, for DELETED); null for CLEARED
+    public Event getEvent() {
+        return event;
+    }
+
+    @Override
+    public String toString() {
+        return "#" + sequence + " " + type + (event == null ? "" : " " + event.getId());
+    }
+}
@@ -0,0 +1,33 @@
+package com.calendar.model;
+
+import java.util.Collections;
+import java.util.List;
+
+// Result of auditing a calendar for overlapping events.
+// Pairs lists every overlapping pair; clusters groups events chained together by overlaps.
+public class ConflictReport {
+    private final List<EventConflict> conflicts;
+    private final List<List<Event>> clusters;
+
+    public ConflictReport(List<EventConflict> conflicts, List<List<Event>> clusters) {
+        this.conflicts = Collections.unmodifiableList(conflicts);
+        this.clusters = Collections.unmodifiableList(clusters);
+    }
+
+    public List<EventConflict> getConflicts() {
+        return conflicts;
+    }
+
+    public List<List<Event>> getClusters() {
+        return clusters;
+    }
+
+    public boolean hasConflicts() {
+        return !conflicts.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d conflict(s) in %d cluster(s)", conflicts.size(), clusters.size());
+    }
+}
@@ -1,32 +1,85 @@
 package com.calendar.model;
 
 import com.calendar.exception.InvalidEventException;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
 import java.time.format.DateTimeFormatter;
-import java.util.Objects;
-import java.util.UUID;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.TreeSet;
 
-// Represents a calendar event with title and time
+// Represents a calendar event with title and time.
+// The absolute instants (epoch seconds) are the source of truth and drive ordering and overlap
+// checks, so they stay correct across zones and DST changes. Wall-clock times are derived from them
+// in the event's zone for display; a local time inside a DST overlap is read with the earlier offset.
 public class Event implements Comparable<Event> {
-    private final String id;
+    // Generated IDs only build their text form when getId() is first called
+    private final EventId id;
     private final String title;
     private final LocalDateTime startTime;
     private final LocalDateTime endTime;
+    private final ZoneId zone;
+    private final long startEpochSecond;
+    private final long endEpochSecond;
+    private final Set<String> tags;
+    private final List<String> attendees;
 
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy HH:mm");
 
     // Constructor with all fields
-    public Event(String id, String title, LocalDateTime startTime, LocalDateTime endTime) {
-        validateEvent(id, title, startTime, endTime);
+    public Event(String id, String title, LocalDateTime startTime, LocalDateTime endTime, ZoneId zone,
+                 Set<String> tags, List<String> attendees) {
+        this(toEventId(id), title, inZone(startTime, zone, "Start"), inZone(endTime, zone, "End"), tags, attendees);
+    }
+
+    // Start and end carry their offsets and are in the same zone
+    private Event(EventId id, String title, ZonedDateTime startTime, ZonedDateTime endTime,
+                  Set<String> tags, List<String> attendees) {
+        if (title == null || title.trim().isEmpty()) {
+            throw new InvalidEventException("Event title cannot be null or empty");
+        }
         this.id = id;
         this.title = title;
-        this.startTime = startTime;
-        this.endTime = endTime;
+        this.startTime = startTime.toLocalDateTime();
+        this.endTime = endTime.toLocalDateTime();
+        this.zone = startTime.getZone();
+        this.startEpochSecond = startTime.toEpochSecond();
+        this.endEpochSecond = endTime.toEpochSecond();
+        this.tags = normalizeTags(tags);
+        this.attendees = normalizeAttendees(attendees);
+        if (endEpochSecond <= startEpochSecond) {
+            throw new InvalidEventException("End time must be after start time");
+        }
+    }
+
+    // Constructor for an event without attendees
+    public Event(String id, String title, LocalDateTime startTime, LocalDateTime endTime, ZoneId zone,
+                 Set<String> tags) {
+        this(id, title, startTime, endTime, zone, tags, Collections.emptyList());
     }
 
-    // Constructor with auto-generated ID
+    // Constructor for an untagged event
+    public Event(String id, String title, LocalDateTime startTime, LocalDateTime endTime, ZoneId zone) {
+        this(id, title, startTime, endTime, zone, Collections.emptySet());
+    }
+
+    // Constructor for an event in the system time zone
+    public Event(String id, String title, LocalDateTime startTime, LocalDateTime endTime) {
+        this(id, title, startTime, endTime, ZoneId.systemDefault());
+    }
+
+    // Constructor with auto-generated, time-ordered ID
     public Event(String title, LocalDateTime startTime, LocalDateTime endTime) {
-        this(UUID.randomUUID().toString(), title, startTime, endTime);
+        this(EventId.next(), title, inZone(startTime, ZoneId.systemDefault(), "Start"),
+            inZone(endTime, ZoneId.systemDefault(), "End"), Collections.emptySet(), Collections.emptyList());
     }
 
     // Create a new event (Static Factory Method)
@@ -34,32 +87,152 @@ public class Event implements Comparable<Event> {
         return new Event(title, startTime, endTime);
     }
 
-    private void validateEvent(String id, String title, LocalDateTime startTime, LocalDateTime endTime) {
+    // Create a new event in the start time's zone
+    public static Event create(String title, ZonedDateTime startTime, ZonedDateTime endTime) {
+        if (startTime == null || endTime == null) {
+            throw new InvalidEventException("Start and end times cannot be null");
+        }
+        return new Event(EventId.next(), title, startTime, endTime.withZoneSameInstant(startTime.getZone()),
+            Collections.emptySet(), Collections.emptyList());
+    }
+
+    // Create a new event from absolute instants, displayed in the given zone
+    public static Event create(String title, Instant startTime, Instant endTime, ZoneId zone) {
+        if (startTime == null || endTime == null || zone == null) {
+            throw new InvalidEventException("Start time, end time and zone cannot be null");
+        }
+        return create(title, startTime.atZone(zone), endTime.atZone(zone));
+    }
+
+    // Rebuild a stored event from its instants, so it reads back at exactly the instants it was saved
+    public static Event restore(String id, String title, Instant startTime, Instant endTime, ZoneId zone,
+                                Set<String> tags, List<String> attendees) {
+        if (startTime == null || endTime == null || zone == null) {
+            throw new InvalidEventException("Start time, end time and zone cannot be null");
+        }
+        return new Event(toEventId(id), title, startTime.atZone(zone), endTime.atZone(zone), tags, attendees);
+    }
+
+    // Same event (ID, title, zone, tags, attendees) at new times
+    public Event withTimes(LocalDateTime newStartTime, LocalDateTime newEndTime) {
+        return new Event(id, title, inZone(newStartTime, zone, "Start"), inZone(newEndTime, zone, "End"),
+            tags, attendees);
+    }
+
+    // Same, at new absolute times - the only unambiguous form inside a DST overlap
+    public Event withTimes(Instant newStartTime, Instant newEndTime) {
+        if (newStartTime == null || newEndTime == null) {
+            throw new InvalidEventException("Start and end times cannot be null");
+        }
+        return new Event(id, title, newStartTime.atZone(zone), newEndTime.atZone(zone), tags, attendees);
+    }
+
+    // Same event with a different set of tags
+    public Event withTags(Set<String> newTags) {
+        return new Event(id, title, zoned(startTime, startEpochSecond), zoned(endTime, endEpochSecond),
+            newTags, attendees);
+    }
+
+    // Same event with a different attendee list
+    public Event withAttendees(List<String> newAttendees) {
+        return new Event(id, title, zoned(startTime, startEpochSecond), zoned(endTime, endEpochSecond),
+            tags, newAttendees);
+    }
+
+    private static EventId toEventId(String id) {
         if (id == null || id.trim().isEmpty()) {
             throw new InvalidEventException("Event ID cannot be null or empty");
         }
-        if (title == null || title.trim().isEmpty()) {
-            throw new InvalidEventException("Event title cannot be null or empty");
+        return EventId.of(id);
+    }
+
+    // Tags are trimmed and lower-cased so "Interview" and "interview " are the same tag
+    private static Set<String> normalizeTags(Set<String> tags) {
+        if (tags == null || tags.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Set<String> normalized = new TreeSet<>();
+        for (String tag : tags) {
+            if (tag == null || tag.trim().isEmpty()) {
+                throw new InvalidEventException("Tags cannot be null or empty");
+            }
+            normalized.add(tag.trim().toLowerCase(Locale.ROOT));
+        }
+        return Collections.unmodifiableSet(normalized);
+    }
+
+    // Attendee IDs are trimmed and lower-cased like tags; duplicates are dropped, order is kept
+    private static List<String> normalizeAttendees(List<String> attendees) {
+        if (attendees == null || attendees.isEmpty()) {
+            return Collections.emptyList();
         }
-        if (startTime == null) {
-            throw new InvalidEventException("Start time cannot be null");
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String attendee : attendees) {
+            if (attendee == null || attendee.trim().isEmpty()) {
+                throw new InvalidEventException("Attendees cannot be null or empty");
+            }
+            normalized.add(attendee.trim().toLowerCase(Locale.ROOT));
         }
-        if (endTime == null) {
-            throw new InvalidEventException("End time cannot be null");
+        return Collections.unmodifiableList(new ArrayList<>(normalized));
+    }
+
+    // One of this event's own times with the offset it was saved at
+    private ZonedDateTime zoned(LocalDateTime local, long epochSecond) {
+        return ZonedDateTime.ofLocal(local, zone, zone.getRules().getOffset(Instant.ofEpochSecond(epochSecond)));
+    }
+
+    // A wall-clock time in the zone; one inside a DST overlap takes the earlier offset
+    private static ZonedDateTime inZone(LocalDateTime time, ZoneId zone, String which) {
+        if (time == null) {
+            throw new InvalidEventException(which + " time cannot be null");
         }
-        if (endTime.isBefore(startTime) || endTime.isEqual(startTime)) {
-            throw new InvalidEventException("End time must be after start time");
+        if (zone == null) {
+            throw new InvalidEventException("Time zone cannot be null");
         }
+        return time.atZone(zone);
     }
 
     // Check if this event overlaps with another
     public boolean overlapsWith(Event other) {
-        return this.startTime.isBefore(other.endTime) && other.startTime.isBefore(this.endTime);
+        return this.startEpochSecond < other.endEpochSecond && other.startEpochSecond < this.endEpochSecond;
     }
 
-    // Check if this event is on the given date
+    // Check if this event is on the given date (any part of it, for events spanning several days)
     public boolean isOnDate(LocalDateTime date) {
-        return startTime.toLocalDate().isEqual(date.toLocalDate());
+        return coversDate(date.toLocalDate());
+    }
+
+    public boolean coversDate(LocalDate date) {
+        return !date.isBefore(startTime.toLocalDate()) && !date.isAfter(getLastDate());
+    }
+
+    // Last date the event covers - an event ending exactly at midnight does not cover that day
+    public LocalDate getLastDate() {
+        LocalDate endDate = endTime.toLocalDate();
+        if (endTime.toLocalTime().equals(LocalTime.MIDNIGHT) && endDate.isAfter(startTime.toLocalDate())) {
+            return endDate.minusDays(1);
+        }
+        return endDate;
+    }
+
+    // The same, for a calendar kept in the given zone rather than the event's own: a 23:00-01:00
+    // meeting in Tokyo covers one date on a Tokyo calendar and a different one on a New York calendar.
+    // Storage day indexes, slot searches and day views all bucket events this way.
+    public boolean coversDate(LocalDate date, ZoneId calendarZone) {
+        return !date.isBefore(getFirstDate(calendarZone)) && !date.isAfter(getLastDate(calendarZone));
+    }
+
+    public LocalDate getFirstDate(ZoneId calendarZone) {
+        return LocalDate.ofInstant(getStartInstant(), calendarZone);
+    }
+
+    public LocalDate getLastDate(ZoneId calendarZone) {
+        LocalDateTime end = LocalDateTime.ofInstant(getEndInstant(), calendarZone);
+        LocalDate endDate = end.toLocalDate();
+        if (end.toLocalTime().equals(LocalTime.MIDNIGHT) && endDate.isAfter(getFirstDate(calendarZone))) {
+            return endDate.minusDays(1);
+        }
+        return endDate;
     }
 
     // Check if this event starts after the given time
@@ -68,6 +241,11 @@ public class Event implements Comparable<Event> {
     }
 
     public String getId() {
+        return id.toString();
+    }
+
+    // The ID as a map key: hashes and compares without building the text of a generated ID
+    public EventId getEventId() {
         return id;
     }
 
@@ -83,18 +261,55 @@ public class Event implements Comparable<Event> {
         return endTime;
     }
 
+    public Set<String> getTags() {
+        return tags;
+    }
+
+    public boolean hasTag(String tag) {
+        return tag != null && tags.contains(tag.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public List<String> getAttendees() {
+        return attendees;
+    }
+
+    public boolean hasAttendee(String attendee) {
+        return attendee != null && attendees.contains(attendee.trim().toLowerCase(Locale.ROOT));
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    public Instant getStartInstant() {
+        return Instant.ofEpochSecond(startEpochSecond);
+    }
+
+    public Instant getEndInstant() {
+        return Instant.ofEpochSecond(endEpochSecond);
+    }
+
+    public long getStartEpochSecond() {
+        return startEpochSecond;
+    }
+
+    public long getEndEpochSecond() {
+        return endEpochSecond;
+    }
+
+    // Real elapsed minutes, so a DST change inside the event is accounted for
     public long getDurationInMinutes() {
-        return java.time.Duration.between(startTime, endTime).toMinutes();
+        return (endEpochSecond - startEpochSecond) / 60;
     }
 
-    // Sort by start time, then by end time
+    // Sort by start instant, then by end instant
     @Override
     public int compareTo(Event other) {
-        int startComparison = this.startTime.compareTo(other.startTime);
+        int startComparison = Long.compare(this.startEpochSecond, other.startEpochSecond);
         if (startComparison != 0) {
             return startComparison;
         }
-        return this.endTime.compareTo(other.endTime);
+        return Long.compare(this.endEpochSecond, other.endEpochSecond);
     }
 
     // Events are equal if they have the same ID
@@ -103,12 +318,12 @@ public class Event implements Comparable<Event> {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         Event event = (Event) o;
-        return Objects.equals(id, event.id);
+        return id.equals(event.id);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id);
+        return id.hashCode();
     }
 
     @Override
@@ -0,0 +1,29 @@
+package com.calendar.model;
+
+// Two stored events whose times overlap
+public class EventConflict {
+    private final Event first;
+    private final Event second;
+
+    public EventConflict(Event first, Event second) {
+        if (first == null || second == null) {
+            throw new IllegalArgumentException("Conflicting events cannot be null");
+        }
+        this.first = first;
+        this.second = second;
+    }
+
+    // The event that starts first
+    public Event getFirst() {
+        return first;
+    }
+
+    public Event getSecond() {
+        return second;
+    }
+
+    @Override
+    public String toString() {
+        return first + " overlaps " + second;
+    }
+}
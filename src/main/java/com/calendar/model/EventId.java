@@ -0,0 +1,196 @@
+package com.calendar.model;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+// Time-ordered 128-bit event ID (ULID-style): 48 bits of epoch millis, a 16-bit per-thread sequence,
+// then 64 random bits. Generation is lock-free - each thread keeps its own last-millis/sequence
+// state and draws from ThreadLocalRandom instead of the shared SecureRandom behind UUID.randomUUID.
+// IDs from one thread are strictly increasing; across threads they sort by creation millisecond.
+// The 26-char Crockford base32 text form sorts the same way and is only built when first asked for;
+// hashing, equality and ordering work on the two longs.
+// Caller-supplied IDs not in that form are kept as opaque text (see of), so every event - and every
+// map keyed by event ID - uses this one type.
+public final class EventId implements Comparable<EventId> {
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+    private static final int TEXT_LENGTH = 26;
+    private static final long MAX_SEQUENCE = 0xFFFF;
+
+    // Digit value of each upper-case ASCII character, -1 where it is not a digit
+    private static final int[] DIGITS = new int[128];
+
+    // [last millis, sequence] for the current thread
+    private static final ThreadLocal<long[]> STATE = ThreadLocal.withInitial(() -> new long[2]);
+
+    static {
+        Arrays.fill(DIGITS, -1);
+        for (int i = 0; i < ALPHABET.length; i++) {
+            DIGITS[ALPHABET[i]] = i;
+        }
+    }
+
+    private final long high;
+    private final long low;
+    // True for caller-supplied text that is not a canonical 128-bit ID; only text is meaningful then
+    private final boolean opaque;
+    private String text;
+
+    private EventId(long high, long low) {
+        this.high = high;
+        this.low = low;
+        this.opaque = false;
+    }
+
+    private EventId(String text) {
+        this.high = 0;
+        this.low = 0;
+        this.opaque = true;
+        this.text = text;
+    }
+
+    public static EventId next() {
+        return next(System.currentTimeMillis());
+    }
+
+    // Package-private so tests can drive the clock
+    static EventId next(long millis) {
+        long[] state = STATE.get();
+        if (millis > state[0]) {
+            state[0] = millis;
+            state[1] = 0;
+        } else if (++state[1] > MAX_SEQUENCE) {
+            // Sequence exhausted (or the clock went back): borrow the next millisecond
+            state[0]++;
+            state[1] = 0;
+        }
+        return new EventId(state[0] << 16 | state[1], ThreadLocalRandom.current().nextLong());
+    }
+
+    // The ID for a caller-supplied string: the binary form when the string is exactly what toString
+    // would print for it, otherwise the text as is. Either way toString gives back the same string.
+    public static EventId of(String text) {
+        if (text == null) {
+            throw new IllegalArgumentException("Event ID cannot be null");
+        }
+        if (text.length() == TEXT_LENGTH && text.charAt(0) <= '7') {
+            long high = 0;
+            long low = 0;
+            int i = 0;
+            for (; i < TEXT_LENGTH; i++) {
+                char c = text.charAt(i);
+                int value = c < DIGITS.length ? DIGITS[c] : -1;
+                if (value < 0) {
+                    break;
+                }
+                high = high << 5 | low >>> 59;
+                low = low << 5 | value;
+            }
+            if (i == TEXT_LENGTH) {
+                EventId id = new EventId(high, low);
+                id.text = text;
+                return id;
+            }
+        }
+        return new EventId(text);
+    }
+
+    // Strict form of of: the text must be a 128-bit ID (either case)
+    public static EventId parse(String text) {
+        if (text == null || text.length() != TEXT_LENGTH) {
+            throw new IllegalArgumentException("Event ID must be " + TEXT_LENGTH + " characters: " + text);
+        }
+        long high = 0;
+        long low = 0;
+        for (int i = 0; i < TEXT_LENGTH; i++) {
+            int value = decode(text.charAt(i));
+            if (i == 0 && value > 7) {
+                throw new IllegalArgumentException("Event ID out of range: " + text);
+            }
+            // Shift the 128-bit value left by 5 and add the new digit
+            high = high << 5 | low >>> 59;
+            low = low << 5 | value;
+        }
+        return new EventId(high, low);
+    }
+
+    private static int decode(char c) {
+        char upper = Character.toUpperCase(c);
+        int value = upper < DIGITS.length ? DIGITS[upper] : -1;
+        if (value < 0) {
+            throw new IllegalArgumentException("Invalid character in event ID: " + c);
+        }
+        return value;
+    }
+
+    // False for opaque caller-supplied text, which has no timestamp or bits
+    public boolean isBinary() {
+        return !opaque;
+    }
+
+    // Creation time in epoch millis
+    public long getTimestamp() {
+        return requireBinary().high >>> 16;
+    }
+
+    public long getMostSignificantBits() {
+        return requireBinary().high;
+    }
+
+    public long getLeastSignificantBits() {
+        return requireBinary().low;
+    }
+
+    private EventId requireBinary() {
+        if (opaque) {
+            throw new IllegalStateException("Not a time-ordered event ID: " + text);
+        }
+        return this;
+    }
+
+    // Same order as the text forms: binary IDs compare unsigned, which matches their base32 text
+    @Override
+    public int compareTo(EventId other) {
+        if (opaque || other.opaque) {
+            return toString().compareTo(other.toString());
+        }
+        int result = Long.compareUnsigned(high, other.high);
+        return result != 0 ? result : Long.compareUnsigned(low, other.low);
+    }
+
+    // An opaque ID never equals a binary one: of only keeps text opaque when it is not canonical
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        EventId other = (EventId) o;
+        if (opaque || other.opaque) {
+            return opaque == other.opaque && text.equals(other.text);
+        }
+        return high == other.high && low == other.low;
+    }
+
+    @Override
+    public int hashCode() {
+        return opaque ? text.hashCode() : Long.hashCode(high ^ low);
+    }
+
+    // 128 bits as 26 base32 digits, most significant first (the leading digit holds the top 3 bits)
+    @Override
+    public String toString() {
+        String result = text;
+        if (result == null) {
+            char[] chars = new char[TEXT_LENGTH];
+            long h = high;
+            long l = low;
+            for (int i = TEXT_LENGTH - 1; i >= 0; i--) {
+                chars[i] = ALPHABET[(int) (l & 31)];
+                l = l >>> 5 | h << 59;
+                h >>>= 5;
+            }
+            result = new String(chars);
+            text = result;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,43 @@
+package com.calendar.model;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+
+// A reminder that an event is about to start, delivered `offset` before its start time
+public class Reminder {
+    private final Event event;
+    private final Duration offset;
+    private final Instant dueAt;
+
+    private static final DateTimeFormatter TIME_FORMATTER = DateTimeFormatter.ofPattern("HH:mm");
+
+    public Reminder(Event event, Duration offset, Instant dueAt) {
+        if (event == null || offset == null || dueAt == null) {
+            throw new IllegalArgumentException("Event, offset and due time cannot be null");
+        }
+        this.event = event;
+        this.offset = offset;
+        this.dueAt = dueAt;
+    }
+
+    public Event getEvent() {
+        return event;
+    }
+
+    public Duration getOffset() {
+        return offset;
+    }
+
+    public Instant getDueAt() {
+        return dueAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s starts in %d minutes (%s)",
+            event.getTitle(),
+            offset.toMinutes(),
+            event.getStartTime().format(TIME_FORMATTER));
+    }
+}
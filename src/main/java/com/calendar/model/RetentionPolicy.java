@@ -0,0 +1,59 @@
+package com.calendar.model;
+
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneId;
+
+// How long ended events are kept, and how many are removed per batch when purging.
+// Immutable - withBatchSize returns a modified copy.
+public class RetentionPolicy {
+
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
+    private final Period keepFor;
+    private final int batchSize;
+
+    private RetentionPolicy(Period keepFor, int batchSize) {
+        this.keepFor = keepFor;
+        this.batchSize = batchSize;
+    }
+
+    // Keep events until the given period has passed since they ended
+    public static RetentionPolicy keepFor(Period keepFor) {
+        if (keepFor == null || keepFor.isNegative() || keepFor.isZero()) {
+            throw new IllegalArgumentException("Retention period must be positive");
+        }
+        return new RetentionPolicy(keepFor, DEFAULT_BATCH_SIZE);
+    }
+
+    // Keep events for the given number of months after they end
+    public static RetentionPolicy keepMonths(int months) {
+        return keepFor(Period.ofMonths(months));
+    }
+
+    public RetentionPolicy withBatchSize(int newBatchSize) {
+        if (newBatchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        return new RetentionPolicy(keepFor, newBatchSize);
+    }
+
+    // Events ending at or before this instant have expired. Calendar periods (months) are
+    // applied in the given zone so "3 months" means the same wall-clock date.
+    public Instant cutoff(Instant now, ZoneId zone) {
+        return now.atZone(zone).minus(keepFor).toInstant();
+    }
+
+    public Period getKeepFor() {
+        return keepFor;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    @Override
+    public String toString() {
+        return "RetentionPolicy[keepFor=" + keepFor + ", batchSize=" + batchSize + "]";
+    }
+}
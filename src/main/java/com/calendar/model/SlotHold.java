@@ -0,0 +1,80 @@
+package com.calendar.model;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+
+// A short-lived reservation of a time slot while someone fills in the booking form.
+// Blocks the interval for everyone else until it is confirmed, released or expires.
+public class SlotHold {
+    private final String id;
+    private final String holder;
+    private final LocalDateTime startTime;
+    private final LocalDateTime endTime;
+    private final long startEpochSecond;
+    private final long endEpochSecond;
+    private final Instant expiresAt;
+
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("MM-dd-yyyy HH:mm");
+
+    public SlotHold(String holder, TimeSlot slot, ZoneId zone, Instant expiresAt) {
+        if (holder == null || holder.trim().isEmpty()) {
+            throw new IllegalArgumentException("Holder cannot be null or empty");
+        }
+        if (slot == null || zone == null || expiresAt == null) {
+            throw new IllegalArgumentException("Slot, zone and expiry cannot be null");
+        }
+        this.id = EventId.next().toString();
+        this.holder = holder;
+        this.startTime = slot.getStartTime();
+        this.endTime = slot.getEndTime();
+        this.startEpochSecond = startTime.atZone(zone).toEpochSecond();
+        this.endEpochSecond = endTime.atZone(zone).toEpochSecond();
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean overlaps(long otherStartSecond, long otherEndSecond) {
+        return startEpochSecond < otherEndSecond && otherStartSecond < endEpochSecond;
+    }
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getHolder() {
+        return holder;
+    }
+
+    public LocalDateTime getStartTime() {
+        return startTime;
+    }
+
+    public LocalDateTime getEndTime() {
+        return endTime;
+    }
+
+    public long getStartEpochSecond() {
+        return startEpochSecond;
+    }
+
+    public long getEndEpochSecond() {
+        return endEpochSecond;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("Held by %s: %s - %s",
+            holder,
+            startTime.format(FORMATTER),
+            endTime.format(FORMATTER));
+    }
+}
@@ -0,0 +1,43 @@
+package com.calendar.model;
+
+import java.util.List;
+
+// What a client has to apply to catch up: events added or changed since its sync token, IDs of
+// events deleted since then, and the token to send next time. A full resync carries every event
+// instead, and the client should replace its copy rather than merge into it.
+public class SyncDelta {
+    private final String syncToken;
+    private final List<Event> changedEvents;
+    private final List<String> deletedEventIds;
+    private final boolean fullResync;
+
+    public SyncDelta(String syncToken, List<Event> changedEvents, List<String> deletedEventIds, boolean fullResync) {
+        if (syncToken == null || changedEvents == null || deletedEventIds == null) {
+            throw new IllegalArgumentException("Token, changed events and deleted IDs cannot be null");
+        }
+        this.syncToken = syncToken;
+        this.changedEvents = List.copyOf(changedEvents);
+        this.deletedEventIds = List.copyOf(deletedEventIds);
+        this.fullResync = fullResync;
+    }
+
+    public String getSyncToken() {
+        return syncToken;
+    }
+
+    public List<Event> getChangedEvents() {
+        return changedEvents;
+    }
+
+    public List<String> getDeletedEventIds() {
+        return deletedEventIds;
+    }
+
+    public boolean isFullResync() {
+        return fullResync;
+    }
+
+    public boolean isEmpty() {
+        return !fullResync && changedEvents.isEmpty() && deletedEventIds.isEmpty();
+    }
+}
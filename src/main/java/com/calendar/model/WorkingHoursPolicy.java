@@ -0,0 +1,133 @@
+package com.calendar.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+// Working hours for a calendar: hours per weekday, daily breaks and holidays.
+// Immutable - the with* methods return a modified copy.
+public class WorkingHoursPolicy {
+
+    private final Map<DayOfWeek, LocalTime[]> hours;
+    private final List<LocalTime[]> breaks;
+    private final Set<LocalDate> holidays;
+
+    private WorkingHoursPolicy(Map<DayOfWeek, LocalTime[]> hours, List<LocalTime[]> breaks, Set<LocalDate> holidays) {
+        this.hours = hours;
+        this.breaks = breaks;
+        this.holidays = holidays;
+    }
+
+    // Same hours on every day of the week
+    public static WorkingHoursPolicy of(LocalTime start, LocalTime end) {
+        validateRange(start, end);
+        Map<DayOfWeek, LocalTime[]> hours = new EnumMap<>(DayOfWeek.class);
+        for (DayOfWeek day : DayOfWeek.values()) {
+            hours.put(day, new LocalTime[] {start, end});
+        }
+        return new WorkingHoursPolicy(hours, Collections.emptyList(), Collections.emptySet());
+    }
+
+    // Monday to Friday only, weekends off
+    public static WorkingHoursPolicy weekdays(LocalTime start, LocalTime end) {
+        return of(start, end)
+            .withDayOff(DayOfWeek.SATURDAY)
+            .withDayOff(DayOfWeek.SUNDAY);
+    }
+
+    // The 9 AM - 6 PM every day used by StandardSlotFinder
+    public static WorkingHoursPolicy standard() {
+        return of(LocalTime.of(9, 0), LocalTime.of(18, 0));
+    }
+
+    public WorkingHoursPolicy withHours(DayOfWeek day, LocalTime start, LocalTime end) {
+        if (day == null) {
+            throw new IllegalArgumentException("Day cannot be null");
+        }
+        validateRange(start, end);
+        Map<DayOfWeek, LocalTime[]> newHours = new EnumMap<>(DayOfWeek.class);
+        newHours.putAll(hours);
+        newHours.put(day, new LocalTime[] {start, end});
+        return new WorkingHoursPolicy(newHours, breaks, holidays);
+    }
+
+    public WorkingHoursPolicy withDayOff(DayOfWeek day) {
+        if (day == null) {
+            throw new IllegalArgumentException("Day cannot be null");
+        }
+        Map<DayOfWeek, LocalTime[]> newHours = new EnumMap<>(DayOfWeek.class);
+        newHours.putAll(hours);
+        newHours.remove(day);
+        return new WorkingHoursPolicy(newHours, breaks, holidays);
+    }
+
+    // A break that applies on every working day (e.g. lunch)
+    public WorkingHoursPolicy withBreak(LocalTime start, LocalTime end) {
+        validateRange(start, end);
+        List<LocalTime[]> newBreaks = new ArrayList<>(breaks);
+        newBreaks.add(new LocalTime[] {start, end});
+        newBreaks.sort(Comparator.comparing(range -> range[0]));
+        return new WorkingHoursPolicy(hours, Collections.unmodifiableList(newBreaks), holidays);
+    }
+
+    public WorkingHoursPolicy withHoliday(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        Set<LocalDate> newHolidays = new HashSet<>(holidays);
+        newHolidays.add(date);
+        return new WorkingHoursPolicy(hours, breaks, Collections.unmodifiableSet(newHolidays));
+    }
+
+    public boolean isWorkingDay(LocalDate date) {
+        return hours.containsKey(date.getDayOfWeek()) && !holidays.contains(date);
+    }
+
+    // Start of the working day, or null if the weekday is off
+    public LocalTime getStart(DayOfWeek day) {
+        LocalTime[] range = hours.get(day);
+        return range == null ? null : range[0];
+    }
+
+    // End of the working day, or null if the weekday is off
+    public LocalTime getEnd(DayOfWeek day) {
+        LocalTime[] range = hours.get(day);
+        return range == null ? null : range[1];
+    }
+
+    // Breaks as [start, end] pairs sorted by start
+    public List<LocalTime[]> getBreaks() {
+        return breaks;
+    }
+
+    private static void validateRange(LocalTime start, LocalTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end times cannot be null");
+        }
+        if (!end.isAfter(start)) {
+            throw new IllegalArgumentException("End time must be after start time");
+        }
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("WorkingHours[");
+        for (Map.Entry<DayOfWeek, LocalTime[]> entry : hours.entrySet()) {
+            sb.append(entry.getKey()).append(' ')
+                .append(entry.getValue()[0]).append('-').append(entry.getValue()[1]).append(", ");
+        }
+        for (LocalTime[] range : breaks) {
+            sb.append("break ").append(range[0]).append('-').append(range[1]).append(", ");
+        }
+        sb.append(holidays.size()).append(" holiday(s)]");
+        return sb.toString();
+    }
+}
@@ -0,0 +1,73 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Inverted index attendee -> that person's events in start order. A per-person agenda or overlap
+// check only walks that person's events, and saving an event touches one sorted map per attendee
+// (O(attendees * log n)). Not thread-safe - the owning storage locks.
+public class AttendeeIndex {
+
+    private final Map<String, Agenda> agendas = new HashMap<>();
+
+    public void add(Event event) {
+        EventKey key = EventKey.of(event);
+        for (String attendee : event.getAttendees()) {
+            agendas.computeIfAbsent(attendee, a -> new Agenda()).add(key, event);
+        }
+    }
+
+    public void remove(Event event) {
+        EventKey key = EventKey.of(event);
+        for (String attendee : event.getAttendees()) {
+            Agenda agenda = agendas.get(attendee);
+            if (agenda == null) {
+                continue;
+            }
+            agenda.events.remove(key);
+            if (agenda.events.isEmpty()) {
+                agendas.remove(attendee);
+            }
+        }
+    }
+
+    public void clear() {
+        agendas.clear();
+    }
+
+    // The attendee's events overlapping [startSecond, endSecond), sorted by start time
+    public List<Event> find(String attendee, long startSecond, long endSecond) {
+        List<Event> result = new ArrayList<>();
+        if (attendee == null) {
+            return result;
+        }
+        Agenda agenda = agendas.get(attendee.trim().toLowerCase(Locale.ROOT));
+        if (agenda == null) {
+            return result;
+        }
+        // Same lookback trick as the main storage, bounded by this person's longest event
+        for (Event event : agenda.events.subMap(EventKey.probe(startSecond - agenda.maxDurationSeconds), true,
+                EventKey.probe(endSecond), false).values()) {
+            if (event.getEndEpochSecond() > startSecond) {
+                result.add(event);
+            }
+        }
+        return result;
+    }
+
+    private static final class Agenda {
+        private final NavigableMap<EventKey, Event> events = new TreeMap<>();
+        private long maxDurationSeconds;
+
+        void add(EventKey key, Event event) {
+            events.put(key, event);
+            maxDurationSeconds = Math.max(maxDurationSeconds, event.getEndEpochSecond() - event.getStartEpochSecond());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.TimeSlot;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Decorator that caches slot search results per (date, duration) with LRU eviction.
+// One cache wraps one finder, so the finder's working-hours config is part of the key implicitly.
+// Entries for a date are dropped only when events on that date change. The clock must be the one
+// the delegate searches with, so "today" (which is never cached) is the same day for both.
+public class CachingSlotFinder implements SlotFinder {
+
+    private static final int DEFAULT_MAX_DAYS = 256;
+
+    private final SlotFinder delegate;
+    private final int maxDays;
+    private final Clock clock;
+
+    // Date -> (duration -> slots), kept in access order so the eldest day is evicted first
+    private final LinkedHashMap<LocalDate, Map<Integer, List<TimeSlot>>> cache;
+
+    // Bumped on every invalidation so a search racing with a write never caches stale slots
+    private long generation;
+
+    public CachingSlotFinder(SlotFinder delegate) {
+        this(delegate, DEFAULT_MAX_DAYS);
+    }
+
+    public CachingSlotFinder(SlotFinder delegate, int maxDays) {
+        this(delegate, maxDays, Clock.systemDefaultZone());
+    }
+
+    public CachingSlotFinder(SlotFinder delegate, Clock clock) {
+        this(delegate, DEFAULT_MAX_DAYS, clock);
+    }
+
+    public CachingSlotFinder(SlotFinder delegate, int maxDays, Clock clock) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("SlotFinder cannot be null");
+        }
+        if (maxDays <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.delegate = delegate;
+        this.maxDays = maxDays;
+        this.clock = clock;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, Map<Integer, List<TimeSlot>>> eldest) {
+                return size() > CachingSlotFinder.this.maxDays;
+            }
+        };
+    }
+
+    @Override
+    public Optional<TimeSlot> findNextAvailableSlot(int durationMinutes, LocalDate date) {
+        List<TimeSlot> allSlots = findAllAvailableSlots(durationMinutes, date);
+        return allSlots.isEmpty() ? Optional.empty() : Optional.of(allSlots.get(0));
+    }
+
+    @Override
+    public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date) {
+        // Today's slots start from the current time, so they go stale every minute - don't cache them
+        if (date == null || date.isEqual(LocalDate.now(clock))) {
+            return delegate.findAllAvailableSlots(durationMinutes, date);
+        }
+
+        long startGeneration;
+        synchronized (cache) {
+            startGeneration = generation;
+            Map<Integer, List<TimeSlot>> byDuration = cache.get(date);
+            if (byDuration != null) {
+                List<TimeSlot> cached = byDuration.get(durationMinutes);
+                if (cached != null) {
+                    return cached;
+                }
+            }
+        }
+
+        List<TimeSlot> slots = Collections.unmodifiableList(delegate.findAllAvailableSlots(durationMinutes, date));
+
+        synchronized (cache) {
+            if (generation == startGeneration) {
+                cache.computeIfAbsent(date, d -> new HashMap<>()).put(durationMinutes, slots);
+            }
+        }
+        return slots;
+    }
+
+    // Bulk searches bring their own events, so they go straight to the delegate
+    @Override
+    public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+        return delegate.findAllAvailableSlots(durationMinutes, date, dayEvents);
+    }
+
+    @Override
+    public int countAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+        return delegate.countAvailableSlots(durationMinutes, date, dayEvents);
+    }
+
+    @Override
+    public void invalidate(LocalDate date) {
+        synchronized (cache) {
+            generation++;
+            cache.remove(date);
+        }
+        delegate.invalidate(date);
+    }
+
+    @Override
+    public void invalidateAll() {
+        synchronized (cache) {
+            generation++;
+            cache.clear();
+        }
+        delegate.invalidateAll();
+    }
+
+    // Number of days currently cached
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+}
@@ -1,21 +1,67 @@
 package com.calendar.service;
 
 import com.calendar.exception.EventOverlapException;
+import com.calendar.model.AvailabilityMatrix;
+import com.calendar.model.ConflictReport;
 import com.calendar.model.Event;
+import com.calendar.model.RetentionPolicy;
+import com.calendar.model.SlotHold;
+import com.calendar.model.SyncDelta;
 import com.calendar.model.TimeSlot;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
-// Main service for calendar operations - validates events and coordinates storage
-public class CalendarServiceImpl {
+// Main service for calendar operations - validates events and coordinates storage.
+// Close it when done to stop the slot-hold timer thread.
+public class CalendarServiceImpl implements AutoCloseable {
 
     private final EventStorage storage;
     private final SlotFinder slotFinder;
+    private final ConflictDetector conflictDetector;
+    private final SlotHoldRegistry holds;
+    private final IdempotencyTable idempotencyKeys;
+    private final SyncLog syncLog;
+    private final List<EventChangeListener> listeners = new CopyOnWriteArrayList<>();
+
+    // Retried requests are recognised for a day; the oldest keys go first beyond the limit
+    private static final int IDEMPOTENCY_KEY_LIMIT = 100_000;
+    private static final Duration IDEMPOTENCY_KEY_TTL = Duration.ofHours(24);
+
+    // Deletes remembered for delta sync; clients further behind get a full resync
+    private static final int SYNC_TOMBSTONE_LIMIT = 100_000;
+
+    // Makes each overlap check + write atomic against other writers
+    private final ReentrantLock writeLock = new ReentrantLock();
+
+    // Events removed by retention purges since the service was created
+    private final AtomicLong purgedEvents = new AtomicLong();
+
+    // Listener calls that threw; the change itself was applied regardless
+    private final AtomicLong listenerFailures = new AtomicLong();
 
     public CalendarServiceImpl(EventStorage storage, SlotFinder slotFinder) {
+        this(storage, slotFinder, Clock.systemDefaultZone());
+    }
+
+    // The clock drives hold expiry, "today" and retention purges
+    public CalendarServiceImpl(EventStorage storage, SlotFinder slotFinder, Clock clock) {
         if (storage == null) {
             throw new IllegalArgumentException("EventStorage cannot be null");
         }
@@ -24,29 +70,219 @@ public class CalendarServiceImpl {
         }
         this.storage = storage;
         this.slotFinder = slotFinder;
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.conflictDetector = new ConflictDetector(storage);
+        this.holds = new SlotHoldRegistry(clock);
+        this.idempotencyKeys = new IdempotencyTable(IDEMPOTENCY_KEY_LIMIT, IDEMPOTENCY_KEY_TTL, clock);
+        this.syncLog = new SyncLog(SYNC_TOMBSTONE_LIMIT);
+        listeners.add(syncLog);
     }
 
     public void addEvent(Event event) {
-        if (hasOverlap(event)) {
-            throw new EventOverlapException(
-                "Event overlaps with existing event(s). Cannot add overlapping events.");
+        addEvent(event, null);
+    }
+
+    // Add an event into a slot the caller is holding: the hold doesn't count as a conflict and is
+    // released once the event is saved. A null or expired hold gets the normal overlap check.
+    public void addEvent(Event event, String holdId) {
+        writeLock.lock();
+        try {
+            if (hasOverlap(event, holdId)) {
+                throw new EventOverlapException(
+                    "Event overlaps with existing event(s). Cannot add overlapping events.");
+            }
+            storage.save(event);
+            if (holdId != null) {
+                holds.remove(holdId);
+            }
+            invalidateSlots(event);
+            notifyListeners(listener -> listener.onEventAdded(event));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Add an event identified by a client-supplied key. A retry with the same key (e.g. after a
+    // timeout) returns the event created the first time - answered from the dedup table without an
+    // overlap check or storage access - instead of double-booking or failing on its own booking.
+    // Reusing a key for different event details is rejected.
+    public Event addEventIdempotent(String idempotencyKey, Event event) {
+        if (idempotencyKey == null || idempotencyKey.trim().isEmpty()) {
+            throw new IllegalArgumentException("Idempotency key cannot be null or empty");
+        }
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        Optional<Event> previous = idempotencyKeys.find(idempotencyKey);
+        if (previous.isPresent()) {
+            return sameRequest(idempotencyKey, previous.get(), event);
+        }
+        writeLock.lock();
+        try {
+            // A concurrent retry may have won the race
+            previous = idempotencyKeys.find(idempotencyKey);
+            if (previous.isPresent()) {
+                return sameRequest(idempotencyKey, previous.get(), event);
+            }
+            addEvent(event);
+            idempotencyKeys.record(idempotencyKey, event);
+            return event;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Retries carry the same details but usually a freshly generated ID, so the ID is not compared
+    private static Event sameRequest(String key, Event original, Event retry) {
+        boolean same = original.getTitle().equals(retry.getTitle())
+            && original.getStartEpochSecond() == retry.getStartEpochSecond()
+            && original.getEndEpochSecond() == retry.getEndEpochSecond();
+        if (!same) {
+            throw new IllegalArgumentException("Idempotency key " + key + " was already used for a different event");
+        }
+        return original;
+    }
+
+    // Hold a slot for the given time while the holder completes the booking. Fails (empty) if the
+    // slot is already booked or held by someone else; the hold lapses by itself after the TTL.
+    public Optional<SlotHold> holdSlot(TimeSlot slot, String holder, Duration ttl) {
+        if (slot == null || ttl == null || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Slot and a positive TTL are required");
+        }
+        writeLock.lock();
+        try {
+            Clock clock = holds.getClock();
+            SlotHold hold = new SlotHold(holder, slot, getZone(), clock.instant().plus(ttl));
+            long start = hold.getStartEpochSecond();
+            long end = hold.getEndEpochSecond();
+            boolean booked = !storage.findBetween(Instant.ofEpochSecond(start), Instant.ofEpochSecond(end)).isEmpty();
+            if (booked || !holds.findOverlapping(start, end, null).isEmpty()) {
+                return Optional.empty();
+            }
+            holds.add(hold, ttl);
+            return Optional.of(hold);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Give a held slot back early; false if the hold already expired or was used
+    public boolean releaseHold(String holdId) {
+        return holds.remove(holdId).isPresent();
+    }
+
+    public int getActiveHoldCount() {
+        return holds.size();
+    }
+
+    // Replace an existing event (matched by ID) with new details; false if it doesn't exist.
+    // The overlap check only looks at events around the new times and ignores the event itself.
+    public boolean updateEvent(Event updated) {
+        writeLock.lock();
+        try {
+            Optional<Event> existing = storage.findById(updated.getId());
+            if (existing.isEmpty()) {
+                return false;
+            }
+            if (hasOverlap(updated, null)) {
+                throw new EventOverlapException(
+                    "Event overlaps with existing event(s). Cannot move event there.");
+            }
+            storage.update(updated);
+            invalidateSlots(existing.get());
+            invalidateSlots(updated);
+            notifyListeners(listener -> listener.onEventUpdated(existing.get(), updated));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Reschedule an event to new times, keeping its ID and title
+    public Optional<Event> moveEvent(String eventId, LocalDateTime newStartTime, LocalDateTime newEndTime) {
+        writeLock.lock();
+        try {
+            Optional<Event> existing = storage.findById(eventId);
+            if (existing.isEmpty()) {
+                return Optional.empty();
+            }
+            Event moved = existing.get().withTimes(newStartTime, newEndTime);
+            updateEvent(moved);
+            return Optional.of(moved);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Listeners hear about every add, update and delete made through this service
+    public void addChangeListener(EventChangeListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
         }
-        storage.save(event);
+        listeners.add(listener);
+    }
+
+    public void removeChangeListener(EventChangeListener listener) {
+        listeners.remove(listener);
     }
 
-    private boolean hasOverlap(Event newEvent) {
-        return storage.findAll().stream()
-            .anyMatch(existingEvent -> existingEvent.overlapsWith(newEvent));
+    // Number of listener calls that threw since the service was created
+    public long getListenerFailureCount() {
+        return listenerFailures.get();
+    }
+
+    // By the time listeners run the change is already in storage, so a failing listener must neither
+    // fail the caller's write nor keep the listeners after it from hearing about the change
+    private void notifyListeners(Consumer<EventChangeListener> notification) {
+        for (EventChangeListener listener : listeners) {
+            try {
+                notification.accept(listener);
+            } catch (RuntimeException e) {
+                listenerFailures.incrementAndGet();
+            }
+        }
+    }
+
+    // Run several writes under one acquisition of the write lock (used by MutationPipeline to apply
+    // a batch); the lock is reentrant, so the individual calls inside don't contend
+    void runExclusive(Runnable writes) {
+        writeLock.lock();
+        try {
+            writes.run();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Drop cached slot results for every day the event covers
+    private void invalidateSlots(Event event) {
+        ZoneId zone = getZone();
+        for (LocalDate date = event.getFirstDate(zone); !date.isAfter(event.getLastDate(zone)); date = date.plusDays(1)) {
+            slotFinder.invalidate(date);
+        }
+    }
+
+    private boolean hasOverlap(Event newEvent, String ownHoldId) {
+        return !storage.findOverlapping(newEvent).isEmpty()
+            || !holds.findOverlapping(newEvent.getStartEpochSecond(), newEvent.getEndEpochSecond(), ownHoldId).isEmpty();
+    }
+
+    // The calendar's time zone, taken from the storage: per-day queries bucket events into days in
+    // this zone, and wall-clock times passed to the service are read in it
+    public ZoneId getZone() {
+        return storage.getZone();
     }
 
     public List<Event> listEventsForToday() {
-        return listEventsForDate(LocalDateTime.now());
+        return storage.findByDate(LocalDate.ofInstant(holds.getClock().instant(), getZone()));
     }
 
     public List<Event> listRemainingEventsForToday() {
-        LocalDateTime now = LocalDateTime.now();
-        return storage.findByDate(now.toLocalDate()).stream()
-            .filter(event -> event.getEndTime().isAfter(now))
+        Instant now = holds.getClock().instant();
+        return storage.findByDate(LocalDate.ofInstant(now, getZone())).stream()
+            .filter(event -> event.getEndInstant().isAfter(now))
             .sorted()
             .collect(Collectors.toList());
     }
@@ -56,30 +292,258 @@ public class CalendarServiceImpl {
     }
 
     public Optional<TimeSlot> findNextAvailableSlot(int durationInMinutes, LocalDateTime date) {
-        return slotFinder.findNextAvailableSlot(durationInMinutes, date.toLocalDate());
+        LocalDate day = date.toLocalDate();
+        List<Event> held = holds.findBusyEvents(day, getZone());
+        if (held.isEmpty()) {
+            return slotFinder.findNextAvailableSlot(durationInMinutes, day);
+        }
+        return findSlotsAround(durationInMinutes, day, held).stream().findFirst();
     }
 
     public List<TimeSlot> findAllAvailableSlots(int durationInMinutes) {
-        return slotFinder.findAllAvailableSlots(durationInMinutes, LocalDate.now());
+        return findAllAvailableSlots(durationInMinutes, LocalDateTime.ofInstant(holds.getClock().instant(), getZone()));
     }
 
     public List<TimeSlot> findAllAvailableSlots(int durationInMinutes, LocalDateTime date) {
-        return slotFinder.findAllAvailableSlots(durationInMinutes, date.toLocalDate());
+        LocalDate day = date.toLocalDate();
+        List<Event> held = holds.findBusyEvents(day, getZone());
+        if (held.isEmpty()) {
+            return slotFinder.findAllAvailableSlots(durationInMinutes, day);
+        }
+        return findSlotsAround(durationInMinutes, day, held);
+    }
+
+    // Held slots count as busy; such days skip the slot cache since holds come and go quickly
+    private List<TimeSlot> findSlotsAround(int durationInMinutes, LocalDate day, List<Event> held) {
+        List<Event> busy = new ArrayList<>(storage.findByDate(day));
+        busy.addAll(held);
+        Collections.sort(busy);
+        return slotFinder.findAllAvailableSlots(durationInMinutes, day, busy);
+    }
+
+    // Count open slots for every day in [from, to] and each duration.
+    // Events are fetched in one ordered range query and bucketed per day; days are then
+    // counted in parallel on the common fork-join pool.
+    public AvailabilityMatrix findAvailability(LocalDate from, LocalDate to, int... durations) {
+        if (from == null || to == null) {
+            throw new IllegalArgumentException("Dates cannot be null");
+        }
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("End date must not be before start date");
+        }
+        if (durations == null || durations.length == 0) {
+            throw new IllegalArgumentException("At least one duration is required");
+        }
+        for (int duration : durations) {
+            if (duration <= 0) {
+                throw new IllegalArgumentException("Duration must be positive");
+            }
+        }
+
+        int dayCount = (int) ChronoUnit.DAYS.between(from, to) + 1;
+        List<List<Event>> eventsByDay = new ArrayList<>(dayCount);
+        for (int i = 0; i < dayCount; i++) {
+            eventsByDay.add(new ArrayList<>());
+        }
+
+        // Days are the calendar's, whatever zone each event was booked in
+        ZoneId zone = getZone();
+        List<Event> events = storage.findBetween(
+            from.atStartOfDay(zone).toInstant(),
+            to.plusDays(1).atStartOfDay(zone).toInstant());
+        for (Event event : events) {
+            // Multi-day events go into every day they cover
+            long firstIndex = Math.max(0, ChronoUnit.DAYS.between(from, event.getFirstDate(zone)));
+            long lastIndex = Math.min(dayCount - 1, ChronoUnit.DAYS.between(from, event.getLastDate(zone)));
+            for (long dayIndex = firstIndex; dayIndex <= lastIndex; dayIndex++) {
+                eventsByDay.get((int) dayIndex).add(event);
+            }
+        }
+
+        for (int i = 0; i < dayCount; i++) {
+            List<Event> held = holds.findBusyEvents(from.plusDays(i), zone);
+            if (!held.isEmpty()) {
+                eventsByDay.get(i).addAll(held);
+                Collections.sort(eventsByDay.get(i));
+            }
+        }
+
+        int[] counts = new int[dayCount * durations.length];
+        IntStream.range(0, dayCount).parallel().forEach(day -> {
+            LocalDate date = from.plusDays(day);
+            List<Event> dayEvents = eventsByDay.get(day);
+            for (int i = 0; i < durations.length; i++) {
+                counts[day * durations.length + i] = slotFinder.countAvailableSlots(durations[i], date, dayEvents);
+            }
+        });
+        return new AvailabilityMatrix(from, dayCount, durations, counts);
+    }
+
+    // Audit existing data for overlapping events (they can only appear via imports or direct storage writes)
+    public ConflictReport findConflicts() {
+        return conflictDetector.detect();
+    }
+
+    // Find events whose title contains every word of the query, best matches first.
+    // Start and end limit the search to events starting in that range; null means unbounded.
+    public List<Event> searchEvents(String query, LocalDateTime start, LocalDateTime end, int limit) {
+        if (query == null) {
+            throw new IllegalArgumentException("Query cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        ZoneId zone = getZone();
+        Instant from = start == null ? Instant.MIN : start.atZone(zone).toInstant();
+        Instant to = end == null ? Instant.MAX : end.atZone(zone).toInstant();
+        return storage.searchByTitle(query, from, to, limit);
+    }
+
+    public List<Event> searchEvents(String query, int limit) {
+        return searchEvents(query, null, null, limit);
+    }
+
+    // Events on any day in [from, to] tagged with all of the given tags
+    public List<Event> findEventsWithAllTags(Collection<String> tags, LocalDate from, LocalDate to) {
+        return storage.findByTags(tags, true, from, to);
+    }
+
+    // Events on any day in [from, to] tagged with at least one of the given tags
+    public List<Event> findEventsWithAnyTag(Collection<String> tags, LocalDate from, LocalDate to) {
+        return storage.findByTags(tags, false, from, to);
+    }
+
+    // One person's events on any day in [from, to], sorted by start time
+    public List<Event> getAgenda(String attendee, LocalDate from, LocalDate to) {
+        if (attendee == null || from == null || to == null) {
+            throw new IllegalArgumentException("Attendee and dates cannot be null");
+        }
+        ZoneId zone = getZone();
+        return storage.findByAttendee(attendee,
+            from.atStartOfDay(zone).toInstant(), to.plusDays(1).atStartOfDay(zone).toInstant());
+    }
+
+    // Existing events that would double-book any attendee of the given event
+    public List<Event> findAttendeeConflicts(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        return storage.findAttendeeConflicts(event);
     }
 
     public List<Event> getAllEvents() {
         return storage.findAll();
     }
 
+    // Delta sync: events added or changed and IDs deleted since the token, plus the token for next
+    // time. Pass null on first sync; a null, stale or unknown token gets every event (full resync).
+    // Runs alongside writes rather than under the write lock - see SyncLog.changesSince.
+    public SyncDelta changesSince(String syncToken) {
+        return syncLog.changesSince(syncToken, storage::findAll);
+    }
+
     public int getEventCount() {
         return storage.count();
     }
 
     public boolean deleteEvent(String eventId) {
-        return storage.delete(eventId);
+        writeLock.lock();
+        try {
+            Optional<Event> existing = storage.findById(eventId);
+            if (existing.isEmpty() || !storage.delete(eventId)) {
+                return false;
+            }
+            invalidateSlots(existing.get());
+            notifyListeners(listener -> listener.onEventDeleted(existing.get()));
+            return true;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Delete every event starting in [start, end), e.g. to purge a month; returns how many were removed
+    public int deleteBetween(LocalDateTime start, LocalDateTime end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    // Delete events starting in [start, end) that match the predicate (e.g. by title)
+    public int deleteWhere(Predicate<Event> predicate, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        ZoneId zone = getZone();
+        writeLock.lock();
+        try {
+            List<Event> removed = storage.deleteWhere(predicate,
+                start.atZone(zone).toInstant(), end.atZone(zone).toInstant());
+            for (Event event : removed) {
+                invalidateSlots(event);
+                notifyListeners(listener -> listener.onEventDeleted(event));
+            }
+            return removed.size();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // Delete events that ended before the policy's cutoff. Expired events are found without the
+    // write lock and removed in batches of the policy's size, releasing the lock between batches
+    // so foreground adds and reads are only ever held up for one batch. Returns how many were removed.
+    public int purgeExpired(RetentionPolicy policy) {
+        return purgeExpired(policy, holds.getClock().instant());
+    }
+
+    public int purgeExpired(RetentionPolicy policy, Instant now) {
+        if (policy == null || now == null) {
+            throw new IllegalArgumentException("Policy and time cannot be null");
+        }
+        Instant cutoff = policy.cutoff(now, getZone());
+        List<Event> expired = storage.findBetween(Instant.MIN, cutoff).stream()
+            .filter(event -> !event.getEndInstant().isAfter(cutoff))
+            .collect(Collectors.toList());
+
+        int removed = 0;
+        for (int from = 0; from < expired.size(); from += policy.getBatchSize()) {
+            List<Event> batch = expired.subList(from, Math.min(expired.size(), from + policy.getBatchSize()));
+            writeLock.lock();
+            try {
+                for (Event event : batch) {
+                    // Skip events moved or deleted since the scan
+                    Optional<Event> current = storage.findById(event.getId());
+                    if (current.isPresent() && !current.get().getEndInstant().isAfter(cutoff)
+                            && storage.delete(event.getId())) {
+                        invalidateSlots(current.get());
+                        notifyListeners(listener -> listener.onEventDeleted(current.get()));
+                        removed++;
+                    }
+                }
+            } finally {
+                writeLock.unlock();
+            }
+            Thread.yield();
+        }
+        purgedEvents.addAndGet(removed);
+        return removed;
+    }
+
+    // Total number of events removed by purgeExpired so far
+    public long getPurgedEventCount() {
+        return purgedEvents.get();
     }
 
     public void clearAllEvents() {
-        storage.clear();
+        writeLock.lock();
+        try {
+            storage.clear();
+            slotFinder.invalidateAll();
+            notifyListeners(EventChangeListener::onAllEventsCleared);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        holds.close();
     }
 }
@@ -0,0 +1,479 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.ChangeRecord;
+import com.calendar.model.Event;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Durable, ordered log of every change made through the service, for mirroring the calendar into
+// other systems. Each add, update and delete becomes a sequence-numbered record appended to the
+// current segment file (changes-<first sequence>.log); a new segment starts once the current one
+// reaches the size limit, and old segments can be dropped once every consumer is past them.
+//
+// Record layout: payload length, CRC32 of the rest, sequence, timestamp, type, then the event as it
+// is after the change. Consumers pull from any sequence: transferTo() hands a batch of whole records
+// straight from the segment file to a channel (FileChannel.transferTo - no copy through the heap),
+// and decode() turns those bytes back into ChangeRecords on the other side.
+//
+// Appends go to the OS page cache and are not forced one by one: a segment is forced when the next
+// one is started, and flush() forces the current one. A process crash loses nothing, but a machine
+// crash can lose records appended since the last flush - call flush() as often as that matters.
+//
+// If an append fails the feed stops: recording later changes would leave a hole consumers could
+// not see, so every further append is refused and isFailed() reports it.
+public class ChangeFeed implements EventChangeListener, AutoCloseable {
+
+    // length, CRC, sequence, timestamp, type
+    static final int HEADER_BYTES = 4 + 4 + 8 + 8 + 1;
+
+    private static final long DEFAULT_SEGMENT_BYTES = 64L * 1024 * 1024;
+    private static final int READ_BATCH_BYTES = 256 * 1024;
+
+    private final Path directory;
+    private final long maxSegmentBytes;
+    private final Clock clock;
+
+    // First sequence of each segment -> segment; the last one is appended to
+    private final TreeMap<Long, Segment> segments = new TreeMap<>();
+    private long nextSequence = 1;
+    private volatile CalendarServiceImpl service;
+    private volatile StorageException failure;
+
+    public ChangeFeed(Path directory) {
+        this(directory, DEFAULT_SEGMENT_BYTES, Clock.systemDefaultZone());
+    }
+
+    public ChangeFeed(Path directory, long maxSegmentBytes, Clock clock) {
+        if (directory == null || clock == null) {
+            throw new IllegalArgumentException("Directory and clock cannot be null");
+        }
+        if (maxSegmentBytes <= HEADER_BYTES || maxSegmentBytes > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Segment size out of range");
+        }
+        this.directory = directory;
+        this.maxSegmentBytes = maxSegmentBytes;
+        this.clock = clock;
+        openSegments();
+    }
+
+    // Pick up the feed written by an earlier run; a torn record at the very end is cut off
+    private void openSegments() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(ChangeFeed::isSegmentFile).sorted().collect(Collectors.toList());
+            }
+            for (int i = 0; i < files.size(); i++) {
+                Path file = files.get(i);
+                long baseSequence = Long.parseLong(file.getFileName().toString().substring(8, 28));
+                if (!segments.isEmpty() && baseSequence != nextSequence) {
+                    throw new StorageException("Change feed has a gap before " + file);
+                }
+                Segment segment = Segment.open(file, baseSequence, i == files.size() - 1);
+                segments.put(baseSequence, segment);
+                nextSequence = baseSequence + segment.count;
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot open change feed in " + directory, e);
+        }
+    }
+
+    // Record every change made through the service from now on
+    public void watch(CalendarServiceImpl service) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        this.service = service;
+        service.addChangeListener(this);
+    }
+
+    // Append one record; returns its sequence number
+    public synchronized long append(ChangeRecord.Type type, Event event) {
+        if (type == null || (event == null) != (type == ChangeRecord.Type.CLEARED)) {
+            throw new IllegalArgumentException("Only CLEARED records come without an event");
+        }
+        if (failure != null) {
+            throw new StorageException("Change feed stopped after an earlier failure", failure);
+        }
+        long sequence = nextSequence;
+        ByteBuffer record = encode(sequence, clock.instant(), type, event);
+        try {
+            Segment segment = segments.isEmpty() ? null : segments.lastEntry().getValue();
+            if (segment == null || (segment.size > 0 && segment.size + record.remaining() > maxSegmentBytes)) {
+                if (segment != null) {
+                    segment.channel.force(false);
+                }
+                segment = Segment.create(directory.resolve(segmentName(sequence)), sequence);
+                segments.put(sequence, segment);
+            }
+            segment.append(record);
+        } catch (IOException e) {
+            failure = new StorageException("Failed to append change #" + sequence, e);
+            throw failure;
+        }
+        nextSequence++;
+        return sequence;
+    }
+
+    // Oldest sequence still available (the next one to be written if the feed is empty)
+    public synchronized long getFirstSequence() {
+        return segments.isEmpty() ? nextSequence : segments.firstKey();
+    }
+
+    // Sequence the next record will get; a consumer that has read up to here is caught up
+    public synchronized long getNextSequence() {
+        return nextSequence;
+    }
+
+    public synchronized int getSegmentCount() {
+        return segments.size();
+    }
+
+    // True once an append has failed; the feed records nothing after that
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+    // Copy whole records starting at fromSequence to the target, at most maxBytes of them (but always
+    // at least one record, and never past the end of a segment). Returns the sequence to continue from,
+    // which is fromSequence itself when the consumer is already caught up.
+    public long transferTo(long fromSequence, long maxBytes, WritableByteChannel target) throws IOException {
+        if (target == null) {
+            throw new IllegalArgumentException("Target cannot be null");
+        }
+        Segment segment;
+        long start;
+        long end;
+        long next;
+        synchronized (this) {
+            checkAvailable(fromSequence);
+            if (fromSequence == nextSequence) {
+                return fromSequence;
+            }
+            segment = segments.floorEntry(fromSequence).getValue();
+            int first = (int) (fromSequence - segment.baseSequence);
+            start = segment.positions[first];
+            int last = first + 1;
+            while (last < segment.count && segment.endOf(last) - start <= maxBytes) {
+                last++;
+            }
+            end = segment.endOf(last - 1);
+            next = segment.baseSequence + last;
+            // Pinned, so deleteSegmentsBefore leaves the channel open until this transfer is done
+            segment.readers++;
+        }
+        // Appends only ever add bytes past `end`, so the transfer needs no lock
+        try {
+            long position = start;
+            while (position < end) {
+                position += segment.channel.transferTo(position, end - position, target);
+            }
+        } finally {
+            synchronized (this) {
+                segment.readers--;
+                if (segment.retired && segment.readers == 0) {
+                    segment.delete();
+                }
+            }
+        }
+        return next;
+    }
+
+    // Decoded records from fromSequence on, at most maxRecords of them
+    public List<ChangeRecord> read(long fromSequence, int maxRecords) {
+        if (maxRecords <= 0) {
+            throw new IllegalArgumentException("Max records must be positive");
+        }
+        List<ChangeRecord> records = new ArrayList<>();
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        WritableByteChannel sink = Channels.newChannel(bytes);
+        long sequence = fromSequence;
+        try {
+            while (records.size() < maxRecords) {
+                bytes.reset();
+                long next = transferTo(sequence, READ_BATCH_BYTES, sink);
+                if (next == sequence) {
+                    break;
+                }
+                records.addAll(decode(ByteBuffer.wrap(bytes.toByteArray())));
+                sequence = next;
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to read change feed from #" + fromSequence, e);
+        }
+        return records.size() > maxRecords ? new ArrayList<>(records.subList(0, maxRecords)) : records;
+    }
+
+    // Drop whole segments whose records all come before the sequence (the current segment is kept);
+    // returns how many segments were deleted
+    public synchronized int deleteSegmentsBefore(long sequence) {
+        int deleted = 0;
+        try {
+            while (segments.size() > 1) {
+                Map.Entry<Long, Segment> oldest = segments.firstEntry();
+                if (segments.higherKey(oldest.getKey()) > sequence) {
+                    break;
+                }
+                segments.remove(oldest.getKey());
+                Segment segment = oldest.getValue();
+                // A segment still being transferred from is deleted by its last reader
+                segment.retired = true;
+                if (segment.readers == 0) {
+                    segment.delete();
+                }
+                deleted++;
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete change feed segments", e);
+        }
+        return deleted;
+    }
+
+    // Force appended records to disk
+    public synchronized void flush() {
+        if (segments.isEmpty()) {
+            return;
+        }
+        try {
+            segments.lastEntry().getValue().channel.force(false);
+        } catch (IOException e) {
+            throw new StorageException("Failed to flush change feed", e);
+        }
+    }
+
+    @Override
+    public void onEventAdded(Event event) {
+        append(ChangeRecord.Type.ADDED, event);
+    }
+
+    @Override
+    public void onEventUpdated(Event previous, Event updated) {
+        append(ChangeRecord.Type.UPDATED, updated);
+    }
+
+    @Override
+    public void onEventDeleted(Event event) {
+        append(ChangeRecord.Type.DELETED, event);
+    }
+
+    @Override
+    public void onAllEventsCleared() {
+        append(ChangeRecord.Type.CLEARED, null);
+    }
+
+    @Override
+    public synchronized void close() {
+        CalendarServiceImpl watched = service;
+        if (watched != null) {
+            watched.removeChangeListener(this);
+        }
+        flush();
+        try {
+            for (Segment segment : segments.values()) {
+                segment.channel.close();
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to close change feed", e);
+        }
+    }
+
+    // Parse the whole records in the buffer (as written by transferTo); a trailing partial record is left unread
+    public static List<ChangeRecord> decode(ByteBuffer buffer) {
+        List<ChangeRecord> records = new ArrayList<>();
+        while (buffer.remaining() >= HEADER_BYTES) {
+            int start = buffer.position();
+            int length = buffer.getInt(start);
+            if (buffer.remaining() < HEADER_BYTES + length) {
+                break;
+            }
+            byte[] record = new byte[HEADER_BYTES + length];
+            buffer.get(record);
+            records.add(parse(record));
+        }
+        return records;
+    }
+
+    private void checkAvailable(long sequence) {
+        long first = segments.isEmpty() ? nextSequence : segments.firstKey();
+        if (sequence < first) {
+            throw new IllegalArgumentException("Change #" + sequence + " is no longer available; feed starts at #" + first);
+        }
+        if (sequence > nextSequence) {
+            throw new IllegalArgumentException("Change #" + sequence + " has not been written yet");
+        }
+    }
+
+    private static ByteBuffer encode(long sequence, Instant timestamp, ChangeRecord.Type type, Event event) {
+        byte[] payload = new byte[0];
+        if (event != null) {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            try (DataOutputStream out = new DataOutputStream(bytes)) {
+                EventCodec.write(out, event);
+            } catch (IOException e) {
+                throw new StorageException("Failed to encode event " + event.getId(), e);
+            }
+            payload = bytes.toByteArray();
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_BYTES + payload.length);
+        buffer.putInt(payload.length);
+        buffer.putInt(0);
+        buffer.putLong(sequence);
+        buffer.putLong(timestamp.toEpochMilli());
+        buffer.put((byte) type.ordinal());
+        buffer.put(payload);
+        buffer.putInt(4, checksum(buffer.array()));
+        buffer.flip();
+        return buffer;
+    }
+
+    private static ChangeRecord parse(byte[] record) {
+        ByteBuffer buffer = ByteBuffer.wrap(record);
+        int length = buffer.getInt();
+        int crc = buffer.getInt();
+        if (crc != checksum(record)) {
+            throw new StorageException("Corrupt change record (checksum mismatch)");
+        }
+        long sequence = buffer.getLong();
+        Instant timestamp = Instant.ofEpochMilli(buffer.getLong());
+        ChangeRecord.Type type = ChangeRecord.Type.values()[buffer.get()];
+        Event event = null;
+        if (length > 0) {
+            try {
+                event = EventCodec.read(new DataInputStream(new ByteArrayInputStream(record, HEADER_BYTES, length)));
+            } catch (IOException e) {
+                throw new StorageException("Corrupt change record #" + sequence, e);
+            }
+        }
+        return new ChangeRecord(sequence, timestamp, type, event);
+    }
+
+    // CRC32 of everything after the length and checksum fields
+    private static int checksum(byte[] record) {
+        CRC32 crc = new CRC32();
+        crc.update(record, 8, record.length - 8);
+        return (int) crc.getValue();
+    }
+
+    private static String segmentName(long baseSequence) {
+        return String.format("changes-%020d.log", baseSequence);
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        return file.getFileName().toString().matches("changes-\\d{20}\\.log");
+    }
+
+    // One segment file plus the byte offset of each of its records, so any sequence is one lookup away
+    private static final class Segment {
+        private final Path file;
+        private final long baseSequence;
+        private final FileChannel channel;
+        private int[] positions = new int[1024];
+        private int count;
+        private long size;
+        // Guarded by the feed's monitor: transfers in progress, and whether the segment was dropped
+        private int readers;
+        private boolean retired;
+
+        private Segment(Path file, long baseSequence, FileChannel channel) {
+            this.file = file;
+            this.baseSequence = baseSequence;
+            this.channel = channel;
+        }
+
+        static Segment create(Path file, long baseSequence) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+            return new Segment(file, baseSequence, channel);
+        }
+
+        // Rebuild the offsets by walking the record headers; only the active segment may end in a torn record
+        static Segment open(Path file, long baseSequence, boolean active) throws IOException {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Segment segment = new Segment(file, baseSequence, channel);
+            long fileSize = channel.size();
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            long position = 0;
+            while (position < fileSize) {
+                byte[] record;
+                try {
+                    int length = in.readInt();
+                    if (length < 0 || position + HEADER_BYTES + length > fileSize) {
+                        throw new EOFException();
+                    }
+                    record = new byte[HEADER_BYTES + length];
+                    ByteBuffer.wrap(record).putInt(length);
+                    in.readFully(record, 4, record.length - 4);
+                } catch (EOFException e) {
+                    record = null;
+                }
+                boolean valid = record != null && checksumMatches(record)
+                    && ByteBuffer.wrap(record).getLong(8) == baseSequence + segment.count;
+                if (!valid) {
+                    if (!active) {
+                        channel.close();
+                        throw new StorageException("Corrupt change feed segment " + file + " at byte " + position);
+                    }
+                    channel.truncate(position);
+                    break;
+                }
+                segment.track(record.length);
+                position += record.length;
+            }
+            return segment;
+        }
+
+        void append(ByteBuffer record) throws IOException {
+            int length = record.remaining();
+            long position = size;
+            while (record.hasRemaining()) {
+                position += channel.write(record, position);
+            }
+            track(length);
+        }
+
+        long endOf(int index) {
+            return index + 1 < count ? positions[index + 1] : size;
+        }
+
+        void delete() throws IOException {
+            channel.close();
+            Files.deleteIfExists(file);
+        }
+
+        private void track(int recordBytes) {
+            if (count == positions.length) {
+                positions = Arrays.copyOf(positions, count * 2);
+            }
+            positions[count++] = (int) size;
+            size += recordBytes;
+        }
+
+        private static boolean checksumMatches(byte[] record) {
+            return ByteBuffer.wrap(record).getInt(4) == checksum(record);
+        }
+    }
+}
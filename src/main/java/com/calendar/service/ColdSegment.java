@@ -0,0 +1,234 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+// Immutable, compressed on-disk batch of archived events.
+// Layout (deflated): a string dictionary shared by titles, zones, tags and attendees, then the events
+// sorted by start with the start delta-encoded against the previous event and the duration stored
+// instead of the end, all as variable-length ints. Wall-clock times are rebuilt from the instants
+// and zone, so a local time that fell in a DST gap comes back as the resolved one.
+// Only a summary stays on the heap: time bounds, event count and sorted ID hashes (for cheap
+// "might this segment hold ID x" checks). Removed events are tombstoned: their IDs are kept in memory
+// and appended to a small ".removed" side file, so the segment itself never has to be rewritten.
+final class ColdSegment {
+
+    private static final int FORMAT_VERSION = 1;
+
+    private final Path file;
+    private final long minStartSecond;
+    private final long maxEndSecond;
+    private final int size;
+    private final int[] idHashes;
+    private final Set<String> tombstones = ConcurrentHashMap.newKeySet();
+
+    private ColdSegment(Path file, List<Event> events) {
+        this.file = file;
+        this.size = events.size();
+        long minStart = Long.MAX_VALUE;
+        long maxEnd = Long.MIN_VALUE;
+        int[] hashes = new int[events.size()];
+        for (int i = 0; i < events.size(); i++) {
+            Event event = events.get(i);
+            minStart = Math.min(minStart, event.getStartEpochSecond());
+            maxEnd = Math.max(maxEnd, event.getEndEpochSecond());
+            hashes[i] = event.getId().hashCode();
+        }
+        Arrays.sort(hashes);
+        this.minStartSecond = minStart;
+        this.maxEndSecond = maxEnd;
+        this.idHashes = hashes;
+    }
+
+    // Write the events to a new segment file. The data goes to a temp file that is forced to disk
+    // before being renamed into place, so after a crash the segment is either complete or absent.
+    static ColdSegment write(Path file, List<Event> events) throws IOException {
+        List<Event> sorted = new ArrayList<>(events);
+        sorted.sort(null);
+
+        Map<String, Integer> dictionary = new HashMap<>();
+        List<String> strings = new ArrayList<>();
+        for (Event event : sorted) {
+            intern(event.getTitle(), dictionary, strings);
+            intern(event.getZone().getId(), dictionary, strings);
+            event.getTags().forEach(tag -> intern(tag, dictionary, strings));
+            event.getAttendees().forEach(attendee -> intern(attendee, dictionary, strings));
+        }
+
+        Path temp = file.resolveSibling(file.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+             DeflaterOutputStream deflated = new DeflaterOutputStream(Channels.newOutputStream(channel));
+             DataOutputStream out = new DataOutputStream(new BufferedOutputStream(deflated))) {
+            out.writeInt(FORMAT_VERSION);
+            writeVarLong(out, strings.size());
+            for (String string : strings) {
+                out.writeUTF(string);
+            }
+            writeVarLong(out, sorted.size());
+            long previousStart = sorted.isEmpty() ? 0 : sorted.get(0).getStartEpochSecond();
+            out.writeLong(previousStart);
+            for (Event event : sorted) {
+                out.writeUTF(event.getId());
+                writeVarLong(out, event.getStartEpochSecond() - previousStart);
+                writeVarLong(out, event.getEndEpochSecond() - event.getStartEpochSecond());
+                writeVarLong(out, dictionary.get(event.getTitle()));
+                writeVarLong(out, dictionary.get(event.getZone().getId()));
+                writeVarLong(out, event.getTags().size());
+                for (String tag : event.getTags()) {
+                    writeVarLong(out, dictionary.get(tag));
+                }
+                writeVarLong(out, event.getAttendees().size());
+                for (String attendee : event.getAttendees()) {
+                    writeVarLong(out, dictionary.get(attendee));
+                }
+                previousStart = event.getStartEpochSecond();
+            }
+            out.flush();
+            deflated.finish();
+            channel.force(true);
+        }
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        return new ColdSegment(file, sorted);
+    }
+
+    // Open an existing segment, rebuilding its summary and tombstones
+    static ColdSegment open(Path file) throws IOException {
+        ColdSegment segment = new ColdSegment(file, decode(file));
+        Path removed = segment.getTombstoneFile();
+        if (Files.exists(removed)) {
+            segment.tombstones.addAll(Files.readAllLines(removed, StandardCharsets.UTF_8));
+        }
+        return segment;
+    }
+
+    // Every live event in the segment, sorted by start
+    List<Event> read() throws IOException {
+        List<Event> events = decode(file);
+        if (!tombstones.isEmpty()) {
+            events.removeIf(event -> tombstones.contains(event.getId()));
+        }
+        return events;
+    }
+
+    private static List<Event> decode(Path file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(
+                new InflaterInputStream(Files.newInputStream(file))))) {
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported segment format " + version + " in " + file);
+            }
+            String[] strings = new String[(int) readVarLong(in)];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.readUTF();
+            }
+            int count = (int) readVarLong(in);
+            long start = in.readLong();
+            List<Event> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                String id = in.readUTF();
+                start += readVarLong(in);
+                long end = start + readVarLong(in);
+                String title = strings[(int) readVarLong(in)];
+                ZoneId zone = ZoneId.of(strings[(int) readVarLong(in)]);
+                Set<String> tags = new LinkedHashSet<>();
+                for (int t = (int) readVarLong(in); t > 0; t--) {
+                    tags.add(strings[(int) readVarLong(in)]);
+                }
+                List<String> attendees = new ArrayList<>();
+                for (int a = (int) readVarLong(in); a > 0; a--) {
+                    attendees.add(strings[(int) readVarLong(in)]);
+                }
+                events.add(Event.restore(id, title, Instant.ofEpochSecond(start), Instant.ofEpochSecond(end),
+                    zone, tags, attendees));
+            }
+            return events;
+        }
+    }
+
+    private static void intern(String value, Map<String, Integer> dictionary, List<String> strings) {
+        if (!dictionary.containsKey(value)) {
+            dictionary.put(value, strings.size());
+            strings.add(value);
+        }
+    }
+
+    // Unsigned LEB128: 7 bits per byte, high bit set while more bytes follow
+    private static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    private static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; ; shift += 7) {
+            int b = in.readUnsignedByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+    }
+
+    boolean overlaps(long startSecond, long endSecond) {
+        return minStartSecond < endSecond && startSecond < maxEndSecond;
+    }
+
+    // False means the ID is definitely not here
+    boolean mightContain(String eventId) {
+        return !tombstones.contains(eventId) && Arrays.binarySearch(idHashes, eventId.hashCode()) >= 0;
+    }
+
+    void markRemoved(String eventId) throws IOException {
+        if (tombstones.add(eventId)) {
+            Files.write(getTombstoneFile(), List.of(eventId), StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    // Remove the segment and its tombstones from disk
+    void delete() throws IOException {
+        Files.deleteIfExists(file);
+        Files.deleteIfExists(getTombstoneFile());
+    }
+
+    int liveCount() {
+        return size - tombstones.size();
+    }
+
+    Path getFile() {
+        return file;
+    }
+
+    private Path getTombstoneFile() {
+        return file.resolveSibling(file.getFileName() + ".removed");
+    }
+}
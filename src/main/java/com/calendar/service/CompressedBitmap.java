@@ -0,0 +1,283 @@
+package com.calendar.service;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+// Compressed set of non-negative ints, laid out like a Roaring bitmap: values are split by their
+// high 16 bits into chunks, and each chunk holds its low 16 bits either as a sorted char array
+// (sparse, up to 4096 values) or as a 65536-bit bitset (dense). AND/OR work chunk by chunk.
+public class CompressedBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int BITSET_WORDS = 1024;
+
+    // Chunk keys (high 16 bits) in ascending order, parallel to containers
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public void add(int value) {
+        checkValue(value);
+        char key = (char) (value >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        containers[index] = containers[index].add((char) value);
+    }
+
+    public void remove(int value) {
+        checkValue(value);
+        int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        if (index < 0) {
+            return;
+        }
+        containers[index] = containers[index].remove((char) value);
+        if (containers[index].cardinality == 0) {
+            removeContainer(index);
+        }
+    }
+
+    public boolean contains(int value) {
+        if (value < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (value >>> 16));
+        return index >= 0 && containers[index].contains((char) value);
+    }
+
+    public int cardinality() {
+        int total = 0;
+        for (int i = 0; i < size; i++) {
+            total += containers[i].cardinality;
+        }
+        return total;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Visit values in ascending order
+    public void forEach(IntConsumer action) {
+        for (int i = 0; i < size; i++) {
+            int high = keys[i] << 16;
+            containers[i].forEach(low -> action.accept(high | low));
+        }
+    }
+
+    public int[] toArray() {
+        int[] result = new int[cardinality()];
+        int[] position = {0};
+        forEach(value -> result[position[0]++] = value);
+        return result;
+    }
+
+    public static CompressedBitmap and(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size && j < b.size) {
+            if (a.keys[i] < b.keys[j]) {
+                i++;
+            } else if (a.keys[i] > b.keys[j]) {
+                j++;
+            } else {
+                Container merged = Container.and(a.containers[i], b.containers[j]);
+                if (merged.cardinality > 0) {
+                    result.insertContainer(result.size, a.keys[i], merged);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static CompressedBitmap or(CompressedBitmap a, CompressedBitmap b) {
+        CompressedBitmap result = new CompressedBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < a.size || j < b.size) {
+            if (j >= b.size || (i < a.size && a.keys[i] < b.keys[j])) {
+                result.insertContainer(result.size, a.keys[i], a.containers[i].copy());
+                i++;
+            } else if (i >= a.size || a.keys[i] > b.keys[j]) {
+                result.insertContainer(result.size, b.keys[j], b.containers[j].copy());
+                j++;
+            } else {
+                result.insertContainer(result.size, a.keys[i], Container.or(a.containers[i], b.containers[j]));
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        if (size == keys.length) {
+            keys = Arrays.copyOf(keys, size * 2);
+            containers = Arrays.copyOf(containers, size * 2);
+        }
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void removeContainer(int index) {
+        System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+        System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+        size--;
+        containers[size] = null;
+    }
+
+    private static void checkValue(int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException("Bitmap values must be non-negative");
+        }
+    }
+
+    // Holds the low 16 bits of one chunk: sorted array while sparse, bitset once dense
+    private static final class Container {
+        private char[] array;
+        private long[] bits;
+        private int cardinality;
+
+        Container() {
+            this.array = new char[4];
+        }
+
+        private Container(char[] array, long[] bits, int cardinality) {
+            this.array = array;
+            this.bits = bits;
+            this.cardinality = cardinality;
+        }
+
+        boolean contains(char value) {
+            if (bits != null) {
+                return (bits[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(array, 0, cardinality, value) >= 0;
+        }
+
+        Container add(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) == 0) {
+                    bits[value >>> 6] |= mask;
+                    cardinality++;
+                }
+                return this;
+            }
+            int index = Arrays.binarySearch(array, 0, cardinality, value);
+            if (index >= 0) {
+                return this;
+            }
+            if (cardinality == ARRAY_MAX) {
+                return toBitset().add(value);
+            }
+            index = -index - 1;
+            if (cardinality == array.length) {
+                array = Arrays.copyOf(array, Math.min(ARRAY_MAX, Math.max(4, cardinality * 2)));
+            }
+            System.arraycopy(array, index, array, index + 1, cardinality - index);
+            array[index] = value;
+            cardinality++;
+            return this;
+        }
+
+        Container remove(char value) {
+            if (bits != null) {
+                long mask = 1L << value;
+                if ((bits[value >>> 6] & mask) != 0) {
+                    bits[value >>> 6] &= ~mask;
+                    cardinality--;
+                    if (cardinality <= ARRAY_MAX / 2) {
+                        return toArrayContainer();
+                    }
+                }
+                return this;
+            }
+            int index = Arrays.binarySearch(array, 0, cardinality, value);
+            if (index >= 0) {
+                System.arraycopy(array, index + 1, array, index, cardinality - index - 1);
+                cardinality--;
+            }
+            return this;
+        }
+
+        void forEach(IntConsumer action) {
+            if (bits != null) {
+                for (int word = 0; word < BITSET_WORDS; word++) {
+                    long w = bits[word];
+                    while (w != 0) {
+                        action.accept(word * 64 + Long.numberOfTrailingZeros(w));
+                        w &= w - 1;
+                    }
+                }
+            } else {
+                for (int i = 0; i < cardinality; i++) {
+                    action.accept(array[i]);
+                }
+            }
+        }
+
+        Container copy() {
+            return new Container(array == null ? null : array.clone(), bits == null ? null : bits.clone(), cardinality);
+        }
+
+        static Container and(Container a, Container b) {
+            if (a.bits != null && b.bits != null) {
+                long[] bits = new long[BITSET_WORDS];
+                int cardinality = 0;
+                for (int i = 0; i < BITSET_WORDS; i++) {
+                    bits[i] = a.bits[i] & b.bits[i];
+                    cardinality += Long.bitCount(bits[i]);
+                }
+                Container result = new Container(null, bits, cardinality);
+                return cardinality <= ARRAY_MAX ? result.toArrayContainer() : result;
+            }
+            // At least one side is sparse - probe the smaller array against the other container
+            Container small = a.bits == null && (b.bits != null || a.cardinality <= b.cardinality) ? a : b;
+            Container other = small == a ? b : a;
+            char[] values = new char[small.cardinality];
+            int count = 0;
+            for (int i = 0; i < small.cardinality; i++) {
+                if (other.contains(small.array[i])) {
+                    values[count++] = small.array[i];
+                }
+            }
+            return new Container(values, null, count);
+        }
+
+        static Container or(Container a, Container b) {
+            Container result = a.copy();
+            Container from = b;
+            if (a.bits == null && b.bits != null) {
+                result = b.copy();
+                from = a;
+            }
+            Container[] holder = {result};
+            from.forEach(value -> holder[0] = holder[0].add((char) value));
+            return holder[0];
+        }
+
+        private Container toBitset() {
+            long[] newBits = new long[BITSET_WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                newBits[array[i] >>> 6] |= 1L << array[i];
+            }
+            return new Container(null, newBits, cardinality);
+        }
+
+        private Container toArrayContainer() {
+            char[] values = new char[Math.max(4, cardinality)];
+            int[] count = {0};
+            forEach(value -> values[count[0]++] = (char) value);
+            return new Container(values, null, cardinality);
+        }
+    }
+}
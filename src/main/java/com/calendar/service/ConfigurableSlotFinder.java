@@ -0,0 +1,183 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.TimeSlot;
+import com.calendar.model.WorkingHoursPolicy;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+// Finds available slots using a configurable working-hours policy, slot granularity and time zone.
+// The day is worked out in UTC epoch minutes (plain longs); TimeSlot objects are only created for results.
+public class ConfigurableSlotFinder implements SlotFinder {
+
+    private final EventStorage storage;
+    private final WorkingHoursPolicy policy;
+    private final int granularityMinutes;
+    private final ZoneId zone;
+    private final Clock clock;
+
+    public ConfigurableSlotFinder(EventStorage storage, WorkingHoursPolicy policy, int granularityMinutes, ZoneId zone) {
+        this(storage, policy, granularityMinutes, Clock.system(zone));
+    }
+
+    // The calendar's time zone is taken from the clock
+    public ConfigurableSlotFinder(EventStorage storage, WorkingHoursPolicy policy, int granularityMinutes, Clock clock) {
+        if (storage == null) {
+            throw new IllegalArgumentException("EventStorage cannot be null");
+        }
+        if (policy == null) {
+            throw new IllegalArgumentException("WorkingHoursPolicy cannot be null");
+        }
+        if (granularityMinutes <= 0) {
+            throw new IllegalArgumentException("Granularity must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.storage = storage;
+        this.policy = policy;
+        this.granularityMinutes = granularityMinutes;
+        this.zone = clock.getZone();
+        this.clock = clock;
+    }
+
+    @Override
+    public Optional<TimeSlot> findNextAvailableSlot(int durationMinutes, LocalDate date) {
+        List<TimeSlot> allSlots = findAllAvailableSlots(durationMinutes, date);
+        return allSlots.isEmpty() ? Optional.empty() : Optional.of(allSlots.get(0));
+    }
+
+    @Override
+    public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        // The day in this finder's zone, which need not be the zone the storage buckets days by
+        return findAllAvailableSlots(durationMinutes, date, storage.findBetween(
+            date.atStartOfDay(zone).toInstant(), date.plusDays(1).atStartOfDay(zone).toInstant()));
+    }
+
+    @Override
+    public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+        validate(durationMinutes, date);
+        List<TimeSlot> availableSlots = new ArrayList<>();
+        long[] gaps = findFreeGaps(date, dayEvents);
+        long alignBase = date.atStartOfDay(zone).toEpochSecond() / 60;
+
+        for (int i = 0; i < gaps.length; i += 2) {
+            long slotStart = firstSlotStart(gaps[i], alignBase);
+            for (; slotStart + durationMinutes <= gaps[i + 1]; slotStart += granularityMinutes) {
+                availableSlots.add(new TimeSlot(toLocalDateTime(slotStart), toLocalDateTime(slotStart + durationMinutes)));
+            }
+        }
+        return availableSlots;
+    }
+
+    // Counts slots arithmetically per gap, without creating any TimeSlot
+    @Override
+    public int countAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+        validate(durationMinutes, date);
+        long[] gaps = findFreeGaps(date, dayEvents);
+        long alignBase = date.atStartOfDay(zone).toEpochSecond() / 60;
+
+        int count = 0;
+        for (int i = 0; i < gaps.length; i += 2) {
+            long lastStart = gaps[i + 1] - durationMinutes;
+            long slotStart = firstSlotStart(gaps[i], alignBase);
+            if (slotStart <= lastStart) {
+                count += (int) ((lastStart - slotStart) / granularityMinutes) + 1;
+            }
+        }
+        return count;
+    }
+
+    // Free [start, end) ranges of the working day in epoch minutes, packed as start0, end0, start1, end1, ...
+    private long[] findFreeGaps(LocalDate date, List<Event> dayEvents) {
+        if (!policy.isWorkingDay(date)) {
+            return new long[0];
+        }
+
+        long dayEnd = toEpochMinute(date, policy.getEnd(date.getDayOfWeek()));
+        long cursor = Math.max(toEpochMinute(date, policy.getStart(date.getDayOfWeek())), currentEpochMinute());
+        List<LocalTime[]> breaks = policy.getBreaks();
+        long[] gaps = new long[2 * (dayEvents.size() + breaks.size() + 1)];
+        int size = 0;
+
+        // Busy intervals are events and breaks, each list already sorted by start - merge them as we go
+        int e = 0;
+        int b = 0;
+        while (e < dayEvents.size() || b < breaks.size()) {
+            long busyStart;
+            long busyEnd;
+            if (b >= breaks.size() || (e < dayEvents.size()
+                    && Math.floorDiv(dayEvents.get(e).getStartEpochSecond(), 60) < toEpochMinute(date, breaks.get(b)[0]))) {
+                Event event = dayEvents.get(e++);
+                busyStart = Math.floorDiv(event.getStartEpochSecond(), 60);
+                busyEnd = Math.floorDiv(event.getEndEpochSecond() + 59, 60);
+            } else {
+                LocalTime[] range = breaks.get(b++);
+                busyStart = toEpochMinute(date, range[0]);
+                busyEnd = toEpochMinute(date, range[1]);
+            }
+
+            long gapEnd = Math.min(busyStart, dayEnd);
+            if (gapEnd > cursor) {
+                gaps[size++] = cursor;
+                gaps[size++] = gapEnd;
+            }
+            cursor = Math.max(cursor, busyEnd);
+        }
+        if (dayEnd > cursor) {
+            gaps[size++] = cursor;
+            gaps[size++] = dayEnd;
+        }
+        return Arrays.copyOf(gaps, size);
+    }
+
+    // First granularity boundary (counted from local midnight) at or after start
+    private long firstSlotStart(long start, long alignBase) {
+        long offset = Math.floorMod(start - alignBase, (long) granularityMinutes);
+        return offset == 0 ? start : start + granularityMinutes - offset;
+    }
+
+    private void validate(int durationMinutes, LocalDate date) {
+        if (durationMinutes <= 0) {
+            throw new IllegalArgumentException("Duration must be positive");
+        }
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+    }
+
+    private long currentEpochMinute() {
+        return Math.floorDiv(clock.millis() + 59_999, 60_000);
+    }
+
+    private long toEpochMinute(LocalDate date, LocalTime time) {
+        return date.atTime(time).atZone(zone).toEpochSecond() / 60;
+    }
+
+    private LocalDateTime toLocalDateTime(long epochMinute) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochMinute * 60), zone);
+    }
+
+    public WorkingHoursPolicy getPolicy() {
+        return policy;
+    }
+
+    public int getGranularityMinutes() {
+        return granularityMinutes;
+    }
+
+    public ZoneId getZone() {
+        return zone;
+    }
+}
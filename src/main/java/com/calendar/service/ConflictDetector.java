@@ -0,0 +1,99 @@
+package com.calendar.service;
+
+import com.calendar.model.ConflictReport;
+import com.calendar.model.Event;
+import com.calendar.model.EventConflict;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.stream.Collectors;
+
+// Finds all overlapping events already in storage (e.g. after an import) with a sweep line.
+// Events are split into day partitions that no event crosses, and partitions are swept in parallel.
+// Cost is O(n log n + k) for n events and k reported pairs.
+public class ConflictDetector {
+
+    private final EventStorage storage;
+
+    public ConflictDetector(EventStorage storage) {
+        if (storage == null) {
+            throw new IllegalArgumentException("EventStorage cannot be null");
+        }
+        this.storage = storage;
+    }
+
+    public ConflictReport detect() {
+        List<List<Event>> partitions = partitionByDay(storage.findAll());
+
+        List<ConflictReport> partial = partitions.parallelStream()
+            .map(this::sweep)
+            .collect(Collectors.toList());
+
+        List<EventConflict> conflicts = new ArrayList<>();
+        List<List<Event>> clusters = new ArrayList<>();
+        for (ConflictReport report : partial) {
+            conflicts.addAll(report.getConflicts());
+            clusters.addAll(report.getClusters());
+        }
+        return new ConflictReport(conflicts, clusters);
+    }
+
+    // Split sorted events by start date on the storage's calendar, merging days when an event runs
+    // past midnight into the next one
+    private List<List<Event>> partitionByDay(List<Event> sortedEvents) {
+        ZoneId zone = storage.getZone();
+        List<List<Event>> partitions = new ArrayList<>();
+        List<Event> current = new ArrayList<>();
+        long maxEnd = Long.MIN_VALUE;
+
+        for (Event event : sortedEvents) {
+            boolean newDay = !current.isEmpty()
+                && !event.getFirstDate(zone).isEqual(current.get(0).getFirstDate(zone));
+            if (newDay && maxEnd <= event.getStartEpochSecond()) {
+                partitions.add(current);
+                current = new ArrayList<>();
+            }
+            current.add(event);
+            maxEnd = Math.max(maxEnd, event.getEndEpochSecond());
+        }
+        if (!current.isEmpty()) {
+            partitions.add(current);
+        }
+        return partitions;
+    }
+
+    // Sweep one partition: every event still active when the next one starts overlaps it
+    private ConflictReport sweep(List<Event> events) {
+        List<EventConflict> conflicts = new ArrayList<>();
+        List<List<Event>> clusters = new ArrayList<>();
+        PriorityQueue<Event> active = new PriorityQueue<>(Comparator.comparingLong(Event::getEndEpochSecond));
+
+        List<Event> cluster = new ArrayList<>();
+        long clusterEnd = Long.MIN_VALUE;
+
+        for (Event event : events) {
+            while (!active.isEmpty() && active.peek().getEndEpochSecond() <= event.getStartEpochSecond()) {
+                active.poll();
+            }
+            for (Event other : active) {
+                conflicts.add(new EventConflict(other, event));
+            }
+            active.add(event);
+
+            if (event.getStartEpochSecond() >= clusterEnd) {
+                if (cluster.size() > 1) {
+                    clusters.add(cluster);
+                }
+                cluster = new ArrayList<>();
+            }
+            cluster.add(event);
+            clusterEnd = Math.max(clusterEnd, event.getEndEpochSecond());
+        }
+        if (cluster.size() > 1) {
+            clusters.add(cluster);
+        }
+        return new ConflictReport(conflicts, clusters);
+    }
+}
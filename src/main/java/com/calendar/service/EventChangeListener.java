@@ -0,0 +1,22 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+
+// Notified by CalendarServiceImpl after each successful write. Callbacks run on the writing thread
+// while the service's write lock is held, so they see changes in commit order - keep them short
+// and hand slow work off to another thread. An exception thrown by a callback does not undo the
+// write or reach the caller; the service only counts it (getListenerFailureCount).
+public interface EventChangeListener {
+
+    default void onEventAdded(Event event) {
+    }
+
+    default void onEventUpdated(Event previous, Event updated) {
+    }
+
+    default void onEventDeleted(Event event) {
+    }
+
+    default void onAllEventsCleared() {
+    }
+}
@@ -0,0 +1,70 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+// Binary form of a single event, shared by the on-disk logs (change feed, event log and snapshots).
+// Times are stored with their UTC offset, so an event reads back at exactly the instants it was
+// saved, even inside a DST overlap. Entries written without an offset are read in the event's zone.
+final class EventCodec {
+
+    private EventCodec() {
+    }
+
+    static void write(DataOutput out, Event event) throws IOException {
+        out.writeUTF(event.getId());
+        out.writeUTF(event.getTitle());
+        out.writeUTF(withOffset(event.getStartTime(), event.getStartInstant(), event.getZone()));
+        out.writeUTF(withOffset(event.getEndTime(), event.getEndInstant(), event.getZone()));
+        out.writeUTF(event.getZone().getId());
+        out.writeInt(event.getTags().size());
+        for (String tag : event.getTags()) {
+            out.writeUTF(tag);
+        }
+        out.writeInt(event.getAttendees().size());
+        for (String attendee : event.getAttendees()) {
+            out.writeUTF(attendee);
+        }
+    }
+
+    static Event read(DataInput in) throws IOException {
+        String id = in.readUTF();
+        String title = in.readUTF();
+        String start = in.readUTF();
+        String end = in.readUTF();
+        ZoneId zone = ZoneId.of(in.readUTF());
+        Set<String> tags = new LinkedHashSet<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            tags.add(in.readUTF());
+        }
+        List<String> attendees = new ArrayList<>();
+        for (int i = in.readInt(); i > 0; i--) {
+            attendees.add(in.readUTF());
+        }
+        return Event.restore(id, title, instant(start, zone), instant(end, zone), zone, tags, attendees);
+    }
+
+    // The wall-clock time as written (sub-second part included) with the offset in force at the instant
+    private static String withOffset(LocalDateTime time, Instant instant, ZoneId zone) {
+        return time.atOffset(zone.getRules().getOffset(instant)).toString();
+    }
+
+    private static Instant instant(String time, ZoneId zone) {
+        try {
+            return OffsetDateTime.parse(time).toInstant();
+        } catch (DateTimeParseException e) {
+            return LocalDateTime.parse(time).atZone(zone).toInstant();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+
+// Sort key for ordered event maps: start, end, then id so events with identical times are kept apart.
+// The id is the binary EventId, so ties between generated IDs compare two longs rather than text.
+final class EventKey implements Comparable<EventKey> {
+    private final long start;
+    private final long end;
+    private final EventId id;
+
+    private EventKey(long start, long end, EventId id) {
+        this.start = start;
+        this.end = end;
+        this.id = id;
+    }
+
+    static EventKey of(Event event) {
+        return new EventKey(event.getStartEpochSecond(), event.getEndEpochSecond(), event.getEventId());
+    }
+
+    static EventKey of(long start, long end, String id) {
+        return new EventKey(start, end, EventId.of(id));
+    }
+
+    // Sorts before every event starting at the given second
+    static EventKey probe(long start) {
+        return new EventKey(start, Long.MIN_VALUE, null);
+    }
+
+    @Override
+    public int compareTo(EventKey other) {
+        int result = Long.compare(start, other.start);
+        if (result == 0) {
+            result = Long.compare(end, other.end);
+        }
+        if (result != 0 || id == other.id) {
+            return result;
+        }
+        // Only probes have no id
+        if (id == null || other.id == null) {
+            return id == null ? -1 : 1;
+        }
+        return id.compareTo(other.id);
+    }
+}
@@ -0,0 +1,598 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.BookingEvent;
+import com.calendar.model.Event;
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+// Event-sourced storage: the source of truth is an append-only log of what happened (EventBooked,
+// EventMoved, EventCancelled), and the in-memory indexes used for queries are a projection of it.
+//
+// The log is split into partitions by event ID (partition-NN.log), so all changes to one event stay
+// in order within one file and the partitions can be replayed independently. Every so many appends
+// a snapshot of each partition's events is written (partition-NN.snapshot) together with the log
+// offset it covers. On startup each partition loads its snapshot and replays only the log tail
+// after it, all partitions in parallel, so restart time is bounded by the snapshot interval
+// rather than by the whole history. A torn entry at the very end of a log (one that runs past the
+// end of the file, or the last entry failing its checksum) is cut off; a bad entry with more log
+// after it is corruption and fails startup, since dropping it would lose every later change.
+public class EventSourcedStorage implements EventStorage, AutoCloseable {
+
+    private static final int SNAPSHOT_FORMAT_VERSION = 1;
+    private static final int BOOKED = 0;
+    private static final int MOVED = 1;
+    private static final int CANCELLED = 2;
+
+    private final Path directory;
+    private final int snapshotInterval;
+    private final Partition[] partitions;
+    private final InMemoryEventStorage projection;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ExecutorService snapshotter;
+    private final AtomicBoolean snapshotPending = new AtomicBoolean();
+    private final Object snapshotLock = new Object();
+    private int appendsSinceSnapshot;
+    private final long replayedEntries;
+    private final long truncatedBytes;
+    private final AtomicLong snapshotFailures = new AtomicLong();
+
+    public EventSourcedStorage(Path directory) {
+        this(directory, 8, 10_000);
+    }
+
+    // The partition count must stay the same for the life of the log
+    public EventSourcedStorage(Path directory, int partitionCount, int snapshotInterval) {
+        this(directory, partitionCount, snapshotInterval, ZoneId.systemDefault());
+    }
+
+    // Days (findByDate, findByTags) are those of the given zone. The projection is rebuilt on every
+    // open, so the zone may differ from the one the log was written under.
+    public EventSourcedStorage(Path directory, int partitionCount, int snapshotInterval, ZoneId zone) {
+        if (directory == null || zone == null) {
+            throw new IllegalArgumentException("Directory and zone cannot be null");
+        }
+        if (partitionCount <= 0 || partitionCount > 100) {
+            throw new IllegalArgumentException("Partition count must be between 1 and 100");
+        }
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.directory = directory;
+        this.snapshotInterval = snapshotInterval;
+        this.partitions = new Partition[partitionCount];
+        this.projection = new InMemoryEventStorage(zone);
+        this.snapshotter = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "event-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.replayedEntries = recover();
+        long truncated = 0;
+        for (Partition partition : partitions) {
+            truncated += partition.truncated;
+        }
+        this.truncatedBytes = truncated;
+    }
+
+    // Rebuild the projection: snapshot + log tail per partition, replayed in parallel
+    private long recover() {
+        try {
+            Files.createDirectories(directory);
+            try (Stream<Path> listing = Files.list(directory)) {
+                long existing = listing.filter(file -> file.getFileName().toString().matches("partition-\\d{2}\\.log")).count();
+                if (existing > 0 && existing != partitions.length) {
+                    throw new StorageException("Log in " + directory + " has " + existing
+                        + " partitions, not " + partitions.length);
+                }
+            }
+            for (int i = 0; i < partitions.length; i++) {
+                partitions[i] = new Partition(directory, i);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot open event log in " + directory, e);
+        }
+
+        ExecutorService replayers = Executors.newFixedThreadPool(partitions.length, task -> {
+            Thread thread = new Thread(task, "event-replay");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<Map<String, Event>>> replays = new ArrayList<>();
+            for (Partition partition : partitions) {
+                replays.add(replayers.submit(partition::replay));
+            }
+            List<Event> events = new ArrayList<>();
+            for (Future<Map<String, Event>> replay : replays) {
+                events.addAll(replay.get().values());
+            }
+            projection.saveAll(events);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new StorageException("Interrupted while replaying event log", e);
+        } catch (ExecutionException e) {
+            throw new StorageException("Failed to replay event log", e.getCause());
+        } finally {
+            replayers.shutdownNow();
+        }
+        long replayed = 0;
+        for (Partition partition : partitions) {
+            replayed += partition.replayed;
+        }
+        return replayed;
+    }
+
+    @Override
+    public void save(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        writeLock.lock();
+        try {
+            append(new BookingEvent.EventBooked(event));
+            projection.save(event);
+        } finally {
+            writeLock.unlock();
+        }
+        maybeSnapshot();
+    }
+
+    // An update that only changes the times is logged as a move; anything else as a rebooking
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        writeLock.lock();
+        try {
+            Optional<Event> previous = projection.findById(event.getId());
+            if (previous.isEmpty()) {
+                return false;
+            }
+            if (sameDetails(previous.get(), event)) {
+                append(new BookingEvent.EventMoved(event.getId(), event.getStartInstant(), event.getEndInstant()));
+            } else {
+                append(new BookingEvent.EventBooked(event));
+            }
+            projection.update(event);
+        } finally {
+            writeLock.unlock();
+        }
+        maybeSnapshot();
+        return true;
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        writeLock.lock();
+        try {
+            if (projection.findById(eventId).isEmpty()) {
+                return false;
+            }
+            append(new BookingEvent.EventCancelled(eventId));
+            projection.delete(eventId);
+        } finally {
+            writeLock.unlock();
+        }
+        maybeSnapshot();
+        return true;
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        List<Event> removed;
+        writeLock.lock();
+        try {
+            // Log the cancellations before touching the projection, as for every other write
+            removed = projection.findBetween(start, end).stream()
+                .filter(event -> !event.getStartInstant().isBefore(start) && event.getStartInstant().isBefore(end))
+                .filter(predicate)
+                .collect(Collectors.toList());
+            for (Event event : removed) {
+                append(new BookingEvent.EventCancelled(event.getId()));
+                projection.delete(event.getId());
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        maybeSnapshot();
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        writeLock.lock();
+        try {
+            for (Event event : projection.findAll()) {
+                append(new BookingEvent.EventCancelled(event.getId()));
+            }
+            projection.clear();
+        } finally {
+            writeLock.unlock();
+        }
+        maybeSnapshot();
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return projection.findAll();
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return projection.findByDate(date);
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        return projection.findById(eventId);
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        return projection.findBetween(start, end);
+    }
+
+    @Override
+    public List<Event> findOverlapping(Event event) {
+        return projection.findOverlapping(event);
+    }
+
+    @Override
+    public List<Event> searchByTitle(String query, Instant start, Instant end, int limit) {
+        return projection.searchByTitle(query, start, end, limit);
+    }
+
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        return projection.findByTags(tags, matchAll, from, to);
+    }
+
+    @Override
+    public List<Event> findByAttendee(String attendee, Instant start, Instant end) {
+        return projection.findByAttendee(attendee, start, end);
+    }
+
+    @Override
+    public int count() {
+        return projection.count();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return projection.getZone();
+    }
+
+    // Log entries replayed on top of the snapshots when this instance started
+    public long getReplayedEntryCount() {
+        return replayedEntries;
+    }
+
+    // Bytes of torn log tail cut off during startup
+    public long getTruncatedByteCount() {
+        return truncatedBytes;
+    }
+
+    // Background snapshots that failed; the log is unaffected, but replay after a restart gets longer
+    public long getSnapshotFailureCount() {
+        return snapshotFailures.get();
+    }
+
+    // Snapshot every partition now. The events and log offsets are captured under the write lock;
+    // the files are written after it is released, each via a temp file so a crash keeps the old one.
+    public void snapshot() {
+        // One snapshot at a time, so an older capture never overwrites a newer one
+        synchronized (snapshotLock) {
+            Map<Integer, List<Event>> eventsByPartition = new HashMap<>();
+            long[] offsets = new long[partitions.length];
+            writeLock.lock();
+            try {
+                for (Event event : projection.findAll()) {
+                    eventsByPartition.computeIfAbsent(partitionOf(event.getId()), i -> new ArrayList<>()).add(event);
+                }
+                for (int i = 0; i < partitions.length; i++) {
+                    offsets[i] = partitions[i].size;
+                }
+                appendsSinceSnapshot = 0;
+            } finally {
+                writeLock.unlock();
+            }
+            try {
+                for (int i = 0; i < partitions.length; i++) {
+                    partitions[i].writeSnapshot(eventsByPartition.getOrDefault(i, List.of()), offsets[i]);
+                }
+            } catch (IOException e) {
+                throw new StorageException("Failed to write event log snapshot", e);
+            }
+        }
+    }
+
+    // Force appended log entries to disk
+    public void flush() {
+        writeLock.lock();
+        try {
+            for (Partition partition : partitions) {
+                partition.channel.force(false);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to flush event log", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        // Let a pending snapshot finish before the log channels close under it
+        snapshotter.shutdown();
+        try {
+            snapshotter.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writeLock.lock();
+        try {
+            for (Partition partition : partitions) {
+                partition.channel.force(false);
+                partition.channel.close();
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to close event log", e);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void append(BookingEvent change) {
+        Partition partition = partitions[partitionOf(change.getEventId())];
+        try {
+            partition.append(encode(change));
+        } catch (IOException e) {
+            throw new StorageException("Failed to append to event log " + partition.log, e);
+        }
+        appendsSinceSnapshot++;
+    }
+
+    // Snapshot in the background once enough has been appended; at most one snapshot runs at a time
+    private void maybeSnapshot() {
+        writeLock.lock();
+        try {
+            if (appendsSinceSnapshot < snapshotInterval || !snapshotPending.compareAndSet(false, true)) {
+                return;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+        snapshotter.execute(() -> {
+            try {
+                snapshot();
+            } catch (RuntimeException e) {
+                // The log still has everything; the next snapshot covers this one's entries too
+                snapshotFailures.incrementAndGet();
+            } finally {
+                snapshotPending.set(false);
+            }
+        });
+    }
+
+    private int partitionOf(String eventId) {
+        return Math.floorMod(eventId.hashCode(), partitions.length);
+    }
+
+    private static boolean sameDetails(Event a, Event b) {
+        return a.getTitle().equals(b.getTitle()) && a.getZone().equals(b.getZone())
+            && a.getTags().equals(b.getTags()) && a.getAttendees().equals(b.getAttendees());
+    }
+
+    // Frame: payload length, CRC32 of the payload, then the payload (type + fields)
+    private static ByteBuffer encode(BookingEvent change) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            if (change instanceof BookingEvent.EventBooked) {
+                out.writeByte(BOOKED);
+                EventCodec.write(out, ((BookingEvent.EventBooked) change).getEvent());
+            } else if (change instanceof BookingEvent.EventMoved) {
+                BookingEvent.EventMoved moved = (BookingEvent.EventMoved) change;
+                out.writeByte(MOVED);
+                out.writeUTF(moved.getEventId());
+                writeInstant(out, moved.getNewStartTime());
+                writeInstant(out, moved.getNewEndTime());
+            } else {
+                out.writeByte(CANCELLED);
+                out.writeUTF(change.getEventId());
+            }
+        } catch (IOException e) {
+            throw new StorageException("Failed to encode " + change, e);
+        }
+        byte[] payload = bytes.toByteArray();
+        ByteBuffer frame = ByteBuffer.allocate(8 + payload.length);
+        frame.putInt(payload.length);
+        frame.putInt(checksum(payload));
+        frame.put(payload);
+        frame.flip();
+        return frame;
+    }
+
+    private static BookingEvent decode(byte[] payload) throws IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload));
+        int type = in.readByte();
+        switch (type) {
+            case BOOKED:
+                return new BookingEvent.EventBooked(EventCodec.read(in));
+            case MOVED:
+                return new BookingEvent.EventMoved(in.readUTF(), readInstant(in), readInstant(in));
+            case CANCELLED:
+                return new BookingEvent.EventCancelled(in.readUTF());
+            default:
+                throw new IOException("Unknown log entry type " + type);
+        }
+    }
+
+    private static void writeInstant(DataOutputStream out, Instant instant) throws IOException {
+        out.writeLong(instant.getEpochSecond());
+        out.writeInt(instant.getNano());
+    }
+
+    private static Instant readInstant(DataInputStream in) throws IOException {
+        return Instant.ofEpochSecond(in.readLong(), in.readInt());
+    }
+
+    private static int checksum(byte[] payload) {
+        CRC32 crc = new CRC32();
+        crc.update(payload);
+        return (int) crc.getValue();
+    }
+
+    // One log file and its snapshot
+    private static final class Partition {
+        private final Path log;
+        private final Path snapshot;
+        private final FileChannel channel;
+        private long size;
+        private long replayed;
+        private long truncated;
+
+        Partition(Path directory, int index) throws IOException {
+            this.log = directory.resolve(String.format("partition-%02d.log", index));
+            this.snapshot = directory.resolve(String.format("partition-%02d.snapshot", index));
+            this.channel = FileChannel.open(log, StandardOpenOption.CREATE,
+                StandardOpenOption.READ, StandardOpenOption.WRITE);
+        }
+
+        // Load the snapshot, then apply the log from the offset it covers to the end
+        Map<String, Event> replay() throws IOException {
+            Map<String, Event> events = new HashMap<>();
+            long offset = readSnapshot(events);
+            long fileSize = channel.size();
+            if (offset > fileSize) {
+                throw new StorageException("Snapshot " + snapshot + " is ahead of its log");
+            }
+            channel.position(offset);
+            DataInputStream in = new DataInputStream(new BufferedInputStream(Channels.newInputStream(channel)));
+            long position = offset;
+            while (position < fileSize) {
+                if (position + 8 > fileSize) {
+                    tornTail(position, fileSize);
+                    break;
+                }
+                int length = in.readInt();
+                int crc = in.readInt();
+                if (length < 0) {
+                    throw new StorageException("Corrupt entry length at byte " + position + " of " + log);
+                }
+                long frameEnd = position + 8 + length;
+                if (frameEnd > fileSize) {
+                    tornTail(position, fileSize);
+                    break;
+                }
+                byte[] payload = new byte[length];
+                in.readFully(payload);
+                if (crc != checksum(payload)) {
+                    if (frameEnd == fileSize) {
+                        // Last entry, only partly written before a crash
+                        tornTail(position, fileSize);
+                        break;
+                    }
+                    throw new StorageException("Checksum mismatch at byte " + position + " of " + log
+                        + " with " + (fileSize - frameEnd) + " bytes of log after it");
+                }
+                decode(payload).applyTo(events);
+                replayed++;
+                position = frameEnd;
+            }
+            size = position;
+            return events;
+        }
+
+        private void tornTail(long position, long fileSize) throws IOException {
+            channel.truncate(position);
+            truncated = fileSize - position;
+        }
+
+        void append(ByteBuffer frame) throws IOException {
+            long position = size;
+            while (frame.hasRemaining()) {
+                position += channel.write(frame, position);
+            }
+            size = position;
+        }
+
+        void writeSnapshot(List<Event> events, long offset) throws IOException {
+            Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+            try (FileChannel file = FileChannel.open(temp, StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE);
+                 DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Channels.newOutputStream(file)))) {
+                out.writeInt(SNAPSHOT_FORMAT_VERSION);
+                out.writeLong(offset);
+                out.writeInt(events.size());
+                for (Event event : events) {
+                    EventCodec.write(out, event);
+                }
+                out.flush();
+                // On disk before the rename, or a crash could leave a renamed but empty snapshot
+                file.force(true);
+            }
+            // The log must hold everything the snapshot claims to cover before the snapshot replaces the old one
+            channel.force(false);
+            Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        }
+
+        private long readSnapshot(Map<String, Event> events) throws IOException {
+            if (!Files.exists(snapshot)) {
+                return 0;
+            }
+            try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+                int version = in.readInt();
+                if (version != SNAPSHOT_FORMAT_VERSION) {
+                    throw new StorageException("Unsupported snapshot format " + version + " in " + snapshot);
+                }
+                long offset = in.readLong();
+                for (int i = in.readInt(); i > 0; i--) {
+                    Event event = EventCodec.read(in);
+                    events.put(event.getId(), event);
+                }
+                return offset;
+            }
+        }
+    }
+}
@@ -1,20 +1,99 @@
 package com.calendar.service;
 
 import com.calendar.model.Event;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
 // Interface for event storage operations
 public interface EventStorage {
 
     void save(Event event);
 
+    // Save many events at once (e.g. an import); backends may batch the writes
+    default void saveAll(Collection<Event> events) {
+        events.forEach(this::save);
+    }
+
+    // Replace the stored event with the same ID; false if there is none
+    boolean update(Event event);
+
     List<Event> findAll();
 
+    // Events covering the date on this storage's calendar (see getZone), sorted
     List<Event> findByDate(LocalDate date);
 
+    // Zone of the calendar whose days findByDate and findByTags go by. An event belongs to every
+    // date its instants overlap in this zone, whatever zone it was created in.
+    default ZoneId getZone() {
+        return ZoneId.systemDefault();
+    }
+
+    Optional<Event> findById(String eventId);
+
+    // Events overlapping [start, end), sorted by start time
+    List<Event> findBetween(Instant start, Instant end);
+
+    // Stored events overlapping the given one, not counting the event itself (same ID)
+    default List<Event> findOverlapping(Event event) {
+        return findBetween(event.getStartInstant(), event.getEndInstant()).stream()
+            .filter(existing -> !existing.getId().equals(event.getId()) && existing.overlapsWith(event))
+            .collect(Collectors.toList());
+    }
+
+    // Events starting in [start, end) whose title matches every word of the query, best matches first.
+    // Matching and ranking follow TitleIndex; this default applies them to a scan of the range.
+    default List<Event> searchByTitle(String query, Instant start, Instant end, int limit) {
+        return TitleIndex.scan(findBetween(start, end), query, start.getEpochSecond(), end.getEpochSecond(), limit);
+    }
+
+    // Events covering any day in [from, to] that carry all (matchAll) or any of the tags, sorted
+    default List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        return findAll().stream()
+            .filter(event -> !event.getFirstDate(getZone()).isAfter(to) && !event.getLastDate(getZone()).isBefore(from))
+            .filter(event -> matchAll
+                ? tags.stream().allMatch(event::hasTag)
+                : tags.stream().anyMatch(event::hasTag))
+            .collect(Collectors.toList());
+    }
+
+    // The attendee's events overlapping [start, end), sorted by start time
+    default List<Event> findByAttendee(String attendee, Instant start, Instant end) {
+        return findBetween(start, end).stream()
+            .filter(event -> event.hasAttendee(attendee))
+            .collect(Collectors.toList());
+    }
+
+    // Stored events overlapping the given one that share at least one of its attendees
+    default List<Event> findAttendeeConflicts(Event event) {
+        Set<Event> conflicts = new TreeSet<>(Comparator.<Event>naturalOrder().thenComparing(Event::getEventId));
+        for (String attendee : event.getAttendees()) {
+            for (Event existing : findByAttendee(attendee, event.getStartInstant(), event.getEndInstant())) {
+                if (!existing.getId().equals(event.getId())) {
+                    conflicts.add(existing);
+                }
+            }
+        }
+        return new ArrayList<>(conflicts);
+    }
+
     boolean delete(String eventId);
 
+    // Remove events starting in [start, end); returns the removed events
+    List<Event> deleteBetween(Instant start, Instant end);
+
+    // Remove events starting in [start, end) that match the predicate; returns the removed events
+    List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end);
+
     void clear();
 
     int count();
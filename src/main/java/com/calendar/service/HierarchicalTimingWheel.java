@@ -0,0 +1,220 @@
+package com.calendar.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Timing wheel with several levels for timeouts spread over months or years (e.g. reminders).
+// Level 0 has one bucket per tick; each level above has buckets as wide as a full rotation of the
+// level below. A timeout is linked into the lowest level whose range covers its delay, and when a
+// higher-level bucket comes due its timeouts are cascaded down to finer levels, so scheduling and
+// cancelling stay O(1) no matter how far out the deadline is, and one thread can drive millions of
+// pending timeouts. With the defaults (100 ms ticks, 4 levels of 256) deadlines up to ~13 years
+// away go straight into a bucket; anything further just cascades through the top level again.
+public class HierarchicalTimingWheel implements AutoCloseable {
+
+    private final long tickMillis;
+    private final int bitsPerLevel;
+    private final int mask;
+    private final Timeout[][] levels;
+    private final Clock clock;
+    private final long startMillis;
+
+    // Last tick that has been processed
+    private long currentTick;
+    private int size;
+    private Thread worker;
+    private volatile boolean closed;
+
+    // Tasks that threw; the wheel keeps going
+    private final AtomicLong failedTasks = new AtomicLong();
+
+    public HierarchicalTimingWheel(Clock clock) {
+        this(Duration.ofMillis(100), 256, 4, clock);
+    }
+
+    public HierarchicalTimingWheel(Duration tick, int wheelSize, int levelCount, Clock clock) {
+        if (tick == null || tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (wheelSize < 2 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a power of two");
+        }
+        if (levelCount <= 0 || (long) Integer.numberOfTrailingZeros(wheelSize) * levelCount >= 62) {
+            throw new IllegalArgumentException("Level count out of range");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.tickMillis = tick.toMillis();
+        this.bitsPerLevel = Integer.numberOfTrailingZeros(wheelSize);
+        this.mask = wheelSize - 1;
+        this.levels = new Timeout[levelCount][wheelSize];
+        this.clock = clock;
+        this.startMillis = clock.millis();
+    }
+
+    // Run the task at the first tick at or after the deadline; a deadline in the past fires on the next tick
+    public synchronized Timeout schedule(Runnable task, long deadlineEpochMillis) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        long deadlineTick = Math.floorDiv(deadlineEpochMillis - startMillis + tickMillis - 1, tickMillis);
+        Timeout timeout = new Timeout(this, task, Math.max(currentTick + 1, deadlineTick));
+        link(timeout);
+        size++;
+        return timeout;
+    }
+
+    public Timeout schedule(Runnable task, Duration delay) {
+        return schedule(task, clock.millis() + delay.toMillis());
+    }
+
+    // Fire every timeout that is due; tasks run on the calling thread after the lock is released
+    public int advance() {
+        List<Timeout> due = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = (clock.millis() - startMillis) / tickMillis;
+            while (currentTick < nowTick) {
+                currentTick++;
+                // Cascade every level whose bucket boundary this tick crosses, coarsest first
+                for (int level = levels.length - 1; level > 0; level--) {
+                    if ((currentTick & ((1L << (bitsPerLevel * level)) - 1)) == 0) {
+                        cascade(level, (int) ((currentTick >>> (bitsPerLevel * level)) & mask));
+                    }
+                }
+                int bucket = (int) (currentTick & mask);
+                Timeout timeout = levels[0][bucket];
+                while (timeout != null) {
+                    Timeout next = timeout.next;
+                    if (timeout.deadlineTick <= currentTick) {
+                        unlink(timeout);
+                        size--;
+                        due.add(timeout);
+                    }
+                    timeout = next;
+                }
+            }
+        }
+        for (Timeout timeout : due) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                failedTasks.incrementAndGet();
+            }
+        }
+        return due.size();
+    }
+
+    // Advance on a daemon thread once per tick until close()
+    public synchronized void start() {
+        if (worker != null || closed) {
+            return;
+        }
+        worker = new Thread(() -> {
+            while (!closed) {
+                try {
+                    Thread.sleep(tickMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                advance();
+            }
+        }, "hierarchical-timing-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    public long getFailedTaskCount() {
+        return failedTasks.get();
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void cascade(int level, int bucket) {
+        Timeout timeout = levels[level][bucket];
+        levels[level][bucket] = null;
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            timeout.prev = null;
+            timeout.next = null;
+            link(timeout);
+            timeout = next;
+        }
+    }
+
+    // Lowest level whose span covers the remaining delay; past the top level, the top level.
+    // A timeout cascaded down on its own deadline tick lands in the level-0 bucket processed next.
+    private void link(Timeout timeout) {
+        long delta = Math.max(0, timeout.deadlineTick - currentTick);
+        int level = 0;
+        while (level < levels.length - 1 && (delta >>> (bitsPerLevel * (level + 1))) != 0) {
+            level++;
+        }
+        int bucket = (int) ((timeout.deadlineTick >>> (bitsPerLevel * level)) & mask);
+        timeout.level = level;
+        timeout.bucket = bucket;
+        timeout.next = levels[level][bucket];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        levels[level][bucket] = timeout;
+        timeout.linked = true;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            levels[timeout.level][timeout.bucket] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+    }
+
+    // Handle for a scheduled task - a node in its bucket's doubly linked list
+    public static final class Timeout {
+        private final HierarchicalTimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private int level;
+        private int bucket;
+        private Timeout prev;
+        private Timeout next;
+        private boolean linked;
+
+        private Timeout(HierarchicalTimingWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        // True if the task had not fired or been cancelled yet
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (!linked) {
+                    return false;
+                }
+                wheel.unlink(this);
+                wheel.size--;
+                return true;
+            }
+        }
+    }
+}
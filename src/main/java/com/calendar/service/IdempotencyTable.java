@@ -0,0 +1,78 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// Remembers which event each client idempotency key created, so a retried request gets the
+// original answer from a hash lookup. Bounded in size and age: entries are kept in insertion
+// order, which with a fixed TTL is also expiry order, so expired and overflow entries are
+// trimmed from the head in O(1) each.
+public class IdempotencyTable {
+
+    private final int maxEntries;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>();
+
+    public IdempotencyTable(int maxEntries, Duration ttl, Clock clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Table size must be positive");
+        }
+        if (ttl == null || ttl.isZero() || ttl.isNegative()) {
+            throw new IllegalArgumentException("TTL must be positive");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.maxEntries = maxEntries;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+    }
+
+    // The event created for this key, if it was recorded and has not expired
+    public synchronized Optional<Event> find(String key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        if (entry.expiresAtMillis <= clock.millis()) {
+            entries.remove(key);
+            return Optional.empty();
+        }
+        return Optional.of(entry.event);
+    }
+
+    public synchronized void record(String key, Event event) {
+        long now = clock.millis();
+        entries.remove(key);
+        entries.put(key, new Entry(event, now + ttlMillis));
+
+        Iterator<Map.Entry<String, Entry>> oldest = entries.entrySet().iterator();
+        while (oldest.hasNext()) {
+            Entry entry = oldest.next().getValue();
+            if (entries.size() <= maxEntries && entry.expiresAtMillis > now) {
+                break;
+            }
+            oldest.remove();
+        }
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    private static final class Entry {
+        private final Event event;
+        private final long expiresAtMillis;
+
+        Entry(Event event, long expiresAtMillis) {
+            this.event = event;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
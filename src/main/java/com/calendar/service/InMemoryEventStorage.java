@@ -1,18 +1,64 @@
 package com.calendar.service;
 
 import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import java.time.Instant;
 import java.time.LocalDate;
+import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
 
-// In-memory storage for events, keeps them sorted by start time
+// In-memory storage for events, keeps them sorted by start time.
+// Each event is also indexed under every day it covers in the storage's zone, so per-day lookups see
+// multi-day events too.
+// Saves, updates and deletes reposition single entries in O(log n); reads share a read lock.
 public class InMemoryEventStorage implements EventStorage {
 
-    private final List<Event> events;
+    private final NavigableMap<EventKey, Event> events;
+    private final Map<EventId, Event> eventsById;
+
+    // Epoch day -> events covering that day, sorted
+    private final Map<Long, NavigableMap<EventKey, Event>> eventsByDay;
+
+    private final TitleIndex titleIndex = new TitleIndex();
+    private final TagIndex tagIndex;
+    private final AttendeeIndex attendeeIndex = new AttendeeIndex();
+
+    // Longest event ever saved - bounds how far back a range query has to look
+    private long maxDurationSeconds;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ZoneId zone;
 
     public InMemoryEventStorage() {
-        this.events = new ArrayList<>();
+        this(ZoneId.systemDefault());
+    }
+
+    // Days are the calendar days of the given zone
+    public InMemoryEventStorage(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.zone = zone;
+        this.events = new TreeMap<>();
+        this.eventsById = new HashMap<>();
+        this.eventsByDay = new HashMap<>();
+        this.tagIndex = new TagIndex(zone);
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
     }
 
     @Override
@@ -20,13 +66,45 @@ public class InMemoryEventStorage implements EventStorage {
         if (event == null) {
             throw new IllegalArgumentException("Event cannot be null");
         }
-        events.add(event);
-        events.sort(Event::compareTo);
+        lock.writeLock().lock();
+        try {
+            Event previous = eventsById.get(event.getEventId());
+            if (previous != null) {
+                unindex(previous);
+            }
+            index(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            Event previous = eventsById.get(event.getEventId());
+            if (previous == null) {
+                return false;
+            }
+            unindex(previous);
+            index(event);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public List<Event> findAll() {
-        return new ArrayList<>(events);
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(events.values());
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
@@ -34,24 +112,211 @@ public class InMemoryEventStorage implements EventStorage {
         if (date == null) {
             throw new IllegalArgumentException("Date cannot be null");
         }
-        return events.stream()
-            .filter(event -> event.isOnDate(date.atStartOfDay()))
-            .sorted()
-            .collect(Collectors.toList());
+        lock.readLock().lock();
+        try {
+            NavigableMap<EventKey, Event> dayEvents = eventsByDay.get(date.toEpochDay());
+            return dayEvents == null ? new ArrayList<>() : new ArrayList<>(dayEvents.values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        long startSecond = start.getEpochSecond();
+        long endSecond = end.getEpochSecond();
+
+        lock.readLock().lock();
+        try {
+            // Only events starting within one max-duration before the range can reach into it
+            List<Event> result = new ArrayList<>();
+            for (Event event : events.subMap(EventKey.probe(startSecond - maxDurationSeconds), true,
+                    EventKey.probe(endSecond), false).values()) {
+                if (event.getEndEpochSecond() > startSecond) {
+                    result.add(event);
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> searchByTitle(String query, Instant start, Instant end, int limit) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            return titleIndex.search(query, start.getEpochSecond(), end.getEpochSecond(), limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        if (tags == null || from == null || to == null) {
+            throw new IllegalArgumentException("Tags and dates cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            return tagIndex.find(tags, matchAll, from.toEpochDay(), to.toEpochDay());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findByAttendee(String attendee, Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        lock.readLock().lock();
+        try {
+            return attendeeIndex.find(attendee, start.getEpochSecond(), end.getEpochSecond());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(eventsById.get(key(eventId)));
+        } finally {
+            lock.readLock().unlock();
+        }
     }
 
     @Override
     public boolean delete(String eventId) {
-        return events.removeIf(event -> event.getId().equals(eventId));
+        lock.writeLock().lock();
+        try {
+            Event event = eventsById.get(key(eventId));
+            if (event == null) {
+                return false;
+            }
+            unindex(event);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Callers look up by text; a null ID matches nothing
+    private static EventId key(String eventId) {
+        return eventId == null ? null : EventId.of(eventId);
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    // Walks only the run of events starting in the range (O(log n + k)) and removes matches from
+    // the ordered map through its iterator; secondary indexes are updated in the same pass
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            List<Event> removed = new ArrayList<>();
+            Iterator<Event> range = events.subMap(EventKey.probe(start.getEpochSecond()), true,
+                EventKey.probe(end.getEpochSecond()), false).values().iterator();
+            while (range.hasNext()) {
+                Event event = range.next();
+                if (predicate.test(event)) {
+                    range.remove();
+                    unindexSecondary(event);
+                    removed.add(event);
+                }
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public void clear() {
-        events.clear();
+        lock.writeLock().lock();
+        try {
+            events.clear();
+            eventsById.clear();
+            eventsByDay.clear();
+            titleIndex.clear();
+            tagIndex.clear();
+            attendeeIndex.clear();
+            maxDurationSeconds = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
     }
 
     @Override
     public int count() {
-        return events.size();
+        lock.readLock().lock();
+        try {
+            return events.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Add the event to every index - caller holds the write lock
+    private void index(Event event) {
+        EventKey key = EventKey.of(event);
+        events.put(key, event);
+        eventsById.put(event.getEventId(), event);
+        titleIndex.add(event);
+        tagIndex.add(event);
+        attendeeIndex.add(event);
+        maxDurationSeconds = Math.max(maxDurationSeconds, event.getEndEpochSecond() - event.getStartEpochSecond());
+
+        for (long day = firstDay(event); day <= lastDay(event); day++) {
+            eventsByDay.computeIfAbsent(day, d -> new TreeMap<>()).put(key, event);
+        }
+    }
+
+    // Remove the event from every index - caller holds the write lock
+    private void unindex(Event event) {
+        events.remove(EventKey.of(event));
+        unindexSecondary(event);
+    }
+
+    // Remove the event from the id and day indexes, leaving the ordered map alone
+    private void unindexSecondary(Event event) {
+        EventKey key = EventKey.of(event);
+        eventsById.remove(event.getEventId());
+        titleIndex.remove(event);
+        tagIndex.remove(event);
+        attendeeIndex.remove(event);
+
+        for (long day = firstDay(event); day <= lastDay(event); day++) {
+            NavigableMap<EventKey, Event> dayEvents = eventsByDay.get(day);
+            dayEvents.remove(key);
+            if (dayEvents.isEmpty()) {
+                eventsByDay.remove(day);
+            }
+        }
+    }
+
+    private long firstDay(Event event) {
+        return event.getFirstDate(zone).toEpochDay();
+    }
+
+    private long lastDay(Event event) {
+        return event.getLastDate(zone).toEpochDay();
     }
 }
@@ -0,0 +1,444 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.Event;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// Event storage backed by a JDBC database (an embedded H2 or SQLite file works well).
+// Range reads are pushed down to SQL: each row keeps its start/end epoch seconds and first/last
+// covered day (in the storage's zone) in indexed columns, and queries are bounded by the longest
+// event stored (same trick as the in-memory storage), so date, overlap and slot lookups never load
+// the whole table. The zone the day columns were computed for is recorded in the database; opening
+// it with another zone recomputes them once.
+// One connection is shared behind a lock and prepared statements are cached per SQL string.
+public class JdbcEventStorage implements EventStorage, AutoCloseable {
+
+    private static final String COLUMNS =
+        "id, title, start_time, end_time, zone, start_epoch, end_epoch, first_day, last_day, tags, attendees";
+    private static final String SELECT = "SELECT " + COLUMNS + " FROM events ";
+    private static final String ORDER = " ORDER BY start_epoch, end_epoch, id";
+
+    private static final String INSERT =
+        "INSERT INTO events (" + COLUMNS + ") VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+    private static final String UPDATE = "UPDATE events SET title = ?, start_time = ?, end_time = ?, zone = ?, "
+        + "start_epoch = ?, end_epoch = ?, first_day = ?, last_day = ?, tags = ?, attendees = ? WHERE id = ?";
+    private static final String DELETE = "DELETE FROM events WHERE id = ?";
+
+    // Tags and attendees are stored as one column each, joined with the ASCII unit separator
+    private static final String SEPARATOR = "\u001F";
+
+    private final Connection connection;
+    private final ZoneId zone;
+    private final Map<String, PreparedStatement> statements = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Longest event (in seconds and in days) ever stored - bounds how far back range queries look
+    private long maxDurationSeconds;
+    private long maxSpanDays;
+
+    public JdbcEventStorage(String jdbcUrl) {
+        this(connect(jdbcUrl));
+    }
+
+    public JdbcEventStorage(String jdbcUrl, ZoneId zone) {
+        this(connect(jdbcUrl), zone);
+    }
+
+    public JdbcEventStorage(Connection connection) {
+        this(connection, ZoneId.systemDefault());
+    }
+
+    // Days (findByDate, findByTags) are those of the given zone
+    public JdbcEventStorage(Connection connection, ZoneId zone) {
+        if (connection == null) {
+            throw new IllegalArgumentException("Connection cannot be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.connection = connection;
+        this.zone = zone;
+        run("initialize schema", () -> {
+            createSchema();
+            alignDays();
+            loadBounds();
+            return null;
+        });
+    }
+
+    private static Connection connect(String jdbcUrl) {
+        if (jdbcUrl == null || jdbcUrl.trim().isEmpty()) {
+            throw new IllegalArgumentException("JDBC URL cannot be null or empty");
+        }
+        try {
+            return DriverManager.getConnection(jdbcUrl);
+        } catch (SQLException e) {
+            throw new StorageException("Cannot open database " + jdbcUrl, e);
+        }
+    }
+
+    private void createSchema() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("CREATE TABLE IF NOT EXISTS events ("
+                + "id VARCHAR(64) PRIMARY KEY, "
+                + "title VARCHAR NOT NULL, "
+                + "start_time VARCHAR(32) NOT NULL, "
+                + "end_time VARCHAR(32) NOT NULL, "
+                + "zone VARCHAR(64) NOT NULL, "
+                + "start_epoch BIGINT NOT NULL, "
+                + "end_epoch BIGINT NOT NULL, "
+                + "first_day BIGINT NOT NULL, "
+                + "last_day BIGINT NOT NULL, "
+                + "tags VARCHAR NOT NULL, "
+                + "attendees VARCHAR NOT NULL)");
+            // id lookups use the primary key index
+            statement.execute("CREATE INDEX IF NOT EXISTS events_start_end ON events (start_epoch, end_epoch)");
+            statement.execute("CREATE INDEX IF NOT EXISTS events_days ON events (first_day, last_day)");
+            // One row: the zone the day columns were computed for
+            statement.execute("CREATE TABLE IF NOT EXISTS calendar_zone (zone VARCHAR(64) NOT NULL)");
+        }
+    }
+
+    // Recompute the day columns if they were computed for another zone, or before the zone was
+    // recorded (when each row used its event's own zone)
+    private void alignDays() throws SQLException {
+        String recorded = null;
+        try (ResultSet rows = statement("SELECT zone FROM calendar_zone").executeQuery()) {
+            if (rows.next()) {
+                recorded = rows.getString(1);
+            }
+        }
+        if (zone.getId().equals(recorded)) {
+            return;
+        }
+        inTransaction(() -> {
+            PreparedStatement update = statement("UPDATE events SET first_day = ?, last_day = ? WHERE id = ?");
+            for (Event event : query(SELECT + ORDER)) {
+                update.setLong(1, firstDay(event));
+                update.setLong(2, lastDay(event));
+                update.setString(3, event.getId());
+                update.addBatch();
+            }
+            update.executeBatch();
+            statement("DELETE FROM calendar_zone").executeUpdate();
+            PreparedStatement record = statement("INSERT INTO calendar_zone (zone) VALUES (?)");
+            record.setString(1, zone.getId());
+            record.executeUpdate();
+            return null;
+        });
+    }
+
+    private void loadBounds() throws SQLException {
+        try (ResultSet rows = statement("SELECT COALESCE(MAX(end_epoch - start_epoch), 0), "
+                + "COALESCE(MAX(last_day - first_day), 0) FROM events").executeQuery()) {
+            rows.next();
+            maxDurationSeconds = rows.getLong(1);
+            maxSpanDays = rows.getLong(2);
+        }
+    }
+
+    @Override
+    public void save(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        run("save event", () -> {
+            if (updateRow(event) == 0) {
+                bind(statement(INSERT), event).executeUpdate();
+            }
+            widenBounds(event);
+            return null;
+        });
+    }
+
+    // Bulk load in one transaction with batched statements - existing rows with the same IDs are replaced
+    @Override
+    public void saveAll(Collection<Event> events) {
+        if (events == null || events.contains(null)) {
+            throw new IllegalArgumentException("Events cannot be null");
+        }
+        run("save events", () -> inTransaction(() -> {
+            PreparedStatement delete = statement(DELETE);
+            PreparedStatement insert = statement(INSERT);
+            for (Event event : events) {
+                delete.setString(1, event.getId());
+                delete.addBatch();
+                bind(insert, event).addBatch();
+            }
+            delete.executeBatch();
+            insert.executeBatch();
+            events.forEach(this::widenBounds);
+            return null;
+        }));
+    }
+
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        return run("update event", () -> {
+            boolean updated = updateRow(event) > 0;
+            if (updated) {
+                widenBounds(event);
+            }
+            return updated;
+        });
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return run("load events", () -> query(SELECT + ORDER));
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return findCoveringDays(date.toEpochDay(), date.toEpochDay());
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        long startSecond = start.getEpochSecond();
+        return run("query events", () -> query(
+            SELECT + "WHERE start_epoch >= ? AND start_epoch < ? AND end_epoch > ?" + ORDER,
+            startSecond - maxDurationSeconds, end.getEpochSecond(), startSecond));
+    }
+
+    // Day range is pushed down; the tag filter runs on the (small) result
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        if (tags == null || from == null || to == null) {
+            throw new IllegalArgumentException("Tags and dates cannot be null");
+        }
+        return findCoveringDays(from.toEpochDay(), to.toEpochDay()).stream()
+            .filter(event -> matchAll
+                ? tags.stream().allMatch(event::hasTag)
+                : tags.stream().anyMatch(event::hasTag))
+            .collect(Collectors.toList());
+    }
+
+    private List<Event> findCoveringDays(long fromDay, long toDay) {
+        return run("query events", () -> query(
+            SELECT + "WHERE first_day >= ? AND first_day <= ? AND last_day >= ?" + ORDER,
+            fromDay - maxSpanDays, toDay, fromDay));
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        return run("find event", () -> query(SELECT + "WHERE id = ?", eventId).stream().findFirst());
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        return run("delete event", () -> {
+            PreparedStatement statement = statement(DELETE);
+            statement.setString(1, eventId);
+            return statement.executeUpdate() > 0;
+        });
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    // Candidates are selected by index range, filtered here, then deleted in one batch
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        return run("delete events", () -> inTransaction(() -> {
+            List<Event> removed = query(SELECT + "WHERE start_epoch >= ? AND start_epoch < ?" + ORDER,
+                start.getEpochSecond(), end.getEpochSecond()).stream()
+                .filter(predicate)
+                .collect(Collectors.toList());
+            if (!removed.isEmpty()) {
+                PreparedStatement delete = statement(DELETE);
+                for (Event event : removed) {
+                    delete.setString(1, event.getId());
+                    delete.addBatch();
+                }
+                delete.executeBatch();
+            }
+            return removed;
+        }));
+    }
+
+    @Override
+    public void clear() {
+        run("clear events", () -> {
+            statement("DELETE FROM events").executeUpdate();
+            maxDurationSeconds = 0;
+            maxSpanDays = 0;
+            return null;
+        });
+    }
+
+    @Override
+    public int count() {
+        return run("count events", () -> {
+            try (ResultSet rows = statement("SELECT COUNT(*) FROM events").executeQuery()) {
+                rows.next();
+                return rows.getInt(1);
+            }
+        });
+    }
+
+    @Override
+    public void close() {
+        run("close database", () -> {
+            for (PreparedStatement statement : statements.values()) {
+                statement.close();
+            }
+            statements.clear();
+            connection.close();
+            return null;
+        });
+    }
+
+    private int updateRow(Event event) throws SQLException {
+        PreparedStatement update = statement(UPDATE);
+        update.setString(1, event.getTitle());
+        update.setString(2, event.getStartTime().toString());
+        update.setString(3, event.getEndTime().toString());
+        update.setString(4, event.getZone().getId());
+        update.setLong(5, event.getStartEpochSecond());
+        update.setLong(6, event.getEndEpochSecond());
+        update.setLong(7, firstDay(event));
+        update.setLong(8, lastDay(event));
+        update.setString(9, String.join(SEPARATOR, event.getTags()));
+        update.setString(10, String.join(SEPARATOR, event.getAttendees()));
+        update.setString(11, event.getId());
+        return update.executeUpdate();
+    }
+
+    private PreparedStatement bind(PreparedStatement insert, Event event) throws SQLException {
+        insert.setString(1, event.getId());
+        insert.setString(2, event.getTitle());
+        insert.setString(3, event.getStartTime().toString());
+        insert.setString(4, event.getEndTime().toString());
+        insert.setString(5, event.getZone().getId());
+        insert.setLong(6, event.getStartEpochSecond());
+        insert.setLong(7, event.getEndEpochSecond());
+        insert.setLong(8, firstDay(event));
+        insert.setLong(9, lastDay(event));
+        insert.setString(10, String.join(SEPARATOR, event.getTags()));
+        insert.setString(11, String.join(SEPARATOR, event.getAttendees()));
+        return insert;
+    }
+
+    private List<Event> query(String sql, Object... params) throws SQLException {
+        PreparedStatement statement = statement(sql);
+        for (int i = 0; i < params.length; i++) {
+            statement.setObject(i + 1, params[i]);
+        }
+        List<Event> result = new ArrayList<>();
+        try (ResultSet rows = statement.executeQuery()) {
+            while (rows.next()) {
+                // The epoch columns are authoritative; start_time/end_time are kept for readability
+                result.add(Event.restore(
+                    rows.getString("id"),
+                    rows.getString("title"),
+                    Instant.ofEpochSecond(rows.getLong("start_epoch")),
+                    Instant.ofEpochSecond(rows.getLong("end_epoch")),
+                    ZoneId.of(rows.getString("zone")),
+                    new LinkedHashSet<>(split(rows.getString("tags"))),
+                    split(rows.getString("attendees"))));
+            }
+        }
+        return result;
+    }
+
+    private static List<String> split(String joined) {
+        return joined.isEmpty() ? Collections.emptyList() : Arrays.asList(joined.split(SEPARATOR));
+    }
+
+    // Prepared once per SQL string and reused - caller holds the lock
+    private PreparedStatement statement(String sql) throws SQLException {
+        PreparedStatement statement = statements.get(sql);
+        if (statement == null) {
+            statement = connection.prepareStatement(sql);
+            statements.put(sql, statement);
+        }
+        return statement;
+    }
+
+    private void widenBounds(Event event) {
+        maxDurationSeconds = Math.max(maxDurationSeconds, event.getEndEpochSecond() - event.getStartEpochSecond());
+        maxSpanDays = Math.max(maxSpanDays, lastDay(event) - firstDay(event));
+    }
+
+    private <T> T inTransaction(SqlWork<T> work) throws SQLException {
+        connection.setAutoCommit(false);
+        try {
+            T result = work.run();
+            connection.commit();
+            return result;
+        } catch (SQLException | RuntimeException e) {
+            connection.rollback();
+            throw e;
+        } finally {
+            connection.setAutoCommit(true);
+        }
+    }
+
+    // Runs the work under the connection lock, turning SQL failures into StorageException
+    private <T> T run(String action, SqlWork<T> work) {
+        lock.lock();
+        try {
+            return work.run();
+        } catch (SQLException e) {
+            throw new StorageException("Failed to " + action, e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    private long firstDay(Event event) {
+        return event.getFirstDate(zone).toEpochDay();
+    }
+
+    private long lastDay(Event event) {
+        return event.getLastDate(zone).toEpochDay();
+    }
+
+    @FunctionalInterface
+    private interface SqlWork<T> {
+        T run() throws SQLException;
+    }
+}
@@ -0,0 +1,192 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+// Funnels add/update/move/delete calls from many threads through one writer thread.
+// Callers enqueue a command into a bounded ring buffer (blocking when it is full, which is the
+// back-pressure) and get a CompletableFuture. The writer drains up to maxBatchSize commands at a
+// time and applies the whole batch under a single acquisition of the service's write lock, so the
+// per-command overlap check runs without lock hand-offs between competing writers. Futures are
+// completed after the lock is released, so callbacks never run while writes are blocked.
+public class MutationPipeline implements AutoCloseable {
+
+    private static final Command<Void> STOP = new Command<>(service -> null);
+
+    private final CalendarServiceImpl service;
+    private final BlockingQueue<Command<?>> queue;
+    private final int maxBatchSize;
+    private final Thread writer;
+    private volatile boolean closed;
+
+    public MutationPipeline(CalendarServiceImpl service, int capacity, int maxBatchSize) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        if (capacity <= 0 || maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Capacity and batch size must be positive");
+        }
+        this.service = service;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.maxBatchSize = maxBatchSize;
+        this.writer = new Thread(this::runWriter, "mutation-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    // Completes with the event, or exceptionally with EventOverlapException / InvalidEventException
+    public CompletableFuture<Event> addEvent(Event event) {
+        return submit(service -> {
+            service.addEvent(event);
+            return event;
+        });
+    }
+
+    public CompletableFuture<Boolean> updateEvent(Event event) {
+        return submit(service -> service.updateEvent(event));
+    }
+
+    public CompletableFuture<Optional<Event>> moveEvent(String eventId, LocalDateTime newStartTime,
+                                                        LocalDateTime newEndTime) {
+        return submit(service -> service.moveEvent(eventId, newStartTime, newEndTime));
+    }
+
+    public CompletableFuture<Boolean> deleteEvent(String eventId) {
+        return submit(service -> service.deleteEvent(eventId));
+    }
+
+    // Commands waiting for the writer
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    private <T> CompletableFuture<T> submit(Function<CalendarServiceImpl, T> action) {
+        Command<T> command = new Command<>(action);
+        if (closed) {
+            command.result.completeExceptionally(new IllegalStateException("Pipeline is closed"));
+            return command.result;
+        }
+        try {
+            queue.put(command);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            command.result.completeExceptionally(e);
+            return command.result;
+        }
+        // close() may have run between the check and the put. closed is set before the writer's
+        // final drain, so a command that missed that drain sees it here and withdraws itself; if
+        // it is no longer queued, the writer or the drain has already taken charge of it.
+        if (closed && queue.remove(command)) {
+            command.result.completeExceptionally(new IllegalStateException("Pipeline is closed"));
+        }
+        return command.result;
+    }
+
+    private void runWriter() {
+        List<Command<?>> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (true) {
+                batch.add(queue.take());
+                queue.drainTo(batch, maxBatchSize - 1);
+                boolean stop = applyBatch(batch);
+                batch.clear();
+                if (stop) {
+                    break;
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // However the writer exits, nothing it leaves behind may stay pending: refuse new
+            // commands, then fail the batch in hand and everything still queued
+            closed = true;
+            rejectAll(batch);
+            List<Command<?>> rejected = new ArrayList<>();
+            queue.drainTo(rejected);
+            rejectAll(rejected);
+        }
+    }
+
+    // Returns true once the stop marker has been reached
+    private boolean applyBatch(List<Command<?>> batch) {
+        Object[] results = new Object[batch.size()];
+        Throwable[] failures = new Throwable[batch.size()];
+        boolean stop = false;
+        service.runExclusive(() -> {
+            for (int i = 0; i < batch.size(); i++) {
+                if (batch.get(i) == STOP) {
+                    break;
+                }
+                try {
+                    results[i] = batch.get(i).action.apply(service);
+                } catch (Throwable e) {
+                    // Errors included: one failing command must not take the writer down
+                    failures[i] = e;
+                }
+            }
+        });
+        for (int i = 0; i < batch.size(); i++) {
+            Command<?> command = batch.get(i);
+            if (command == STOP) {
+                stop = true;
+            } else if (stop) {
+                command.result.completeExceptionally(new IllegalStateException("Pipeline is closed"));
+            } else if (failures[i] != null) {
+                command.result.completeExceptionally(failures[i]);
+            } else {
+                command.complete(results[i]);
+            }
+        }
+        return stop;
+    }
+
+    // Completing an already completed future is a no-op, so this is safe on a partly applied batch
+    private static void rejectAll(List<Command<?>> commands) {
+        for (Command<?> command : commands) {
+            if (command != STOP) {
+                command.result.completeExceptionally(new IllegalStateException("Pipeline is closed"));
+            }
+        }
+    }
+
+    // Stop accepting commands, apply everything already queued and wait for the writer to finish
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // offer, not put: if the writer is already gone nobody would make room in a full queue
+            boolean stopQueued = false;
+            while (!stopQueued && writer.isAlive()) {
+                stopQueued = queue.offer(STOP, 10, TimeUnit.MILLISECONDS);
+            }
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static final class Command<T> {
+        private final Function<CalendarServiceImpl, T> action;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+
+        Command(Function<CalendarServiceImpl, T> action) {
+            this.action = action;
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
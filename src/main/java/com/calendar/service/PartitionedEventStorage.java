@@ -0,0 +1,328 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+// Event storage split into one InMemoryEventStorage per month (by the UTC month of the start instant).
+// Range, day, tag and overlap queries only visit the months that can hold a match - bounded by the
+// longest event stored - so their cost does not grow with years of history. Whole past months can
+// be dropped or detached for archiving by unlinking their partition.
+// Partitions are disjoint and ordered by start instant, so concatenating their sorted results keeps
+// the overall order. There is no global ID map, so dropping or detaching a month only unlinks its
+// partition; single-event writes and lookups find an ID by probing the partitions' own ID maps,
+// newest month first, since that is where most of them land.
+public class PartitionedEventStorage implements EventStorage {
+
+    private static final long MIN_SECOND = LocalDateTime.MIN.toEpochSecond(ZoneOffset.UTC);
+    private static final long MAX_SECOND = LocalDateTime.MAX.toEpochSecond(ZoneOffset.UTC);
+
+    private final ZoneId zone;
+    private final NavigableMap<YearMonth, InMemoryEventStorage> partitions = new TreeMap<>();
+
+    // Longest event ever saved - how far back a query has to look for events reaching into it
+    private long maxDurationSeconds;
+    private long maxSpanDays;
+
+    // Guards the partition map; each partition has its own lock for its contents
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public PartitionedEventStorage() {
+        this(ZoneId.systemDefault());
+    }
+
+    // Days (findByDate, findByTags) are dates in the given zone, in every partition
+    public PartitionedEventStorage(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.zone = zone;
+    }
+
+    @Override
+    public void save(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            YearMonth month = monthOf(event.getStartEpochSecond());
+            InMemoryEventStorage target = partitions.get(month);
+            // An event moved to another month has to leave its old partition
+            if (target == null || target.findById(event.getId()).isEmpty()) {
+                YearMonth previous = locate(event.getId());
+                if (previous != null) {
+                    partitions.get(previous).delete(event.getId());
+                    dropIfEmpty(previous);
+                }
+            }
+            partitions.computeIfAbsent(month, m -> new InMemoryEventStorage(zone)).save(event);
+            widenBounds(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            if (locate(event.getId()) == null) {
+                return false;
+            }
+            save(event);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public List<Event> findAll() {
+        lock.readLock().lock();
+        try {
+            List<Event> result = new ArrayList<>();
+            for (InMemoryEventStorage partition : partitions.values()) {
+                result.addAll(partition.findAll());
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return collect(partitionsCovering(date, date), partition -> partition.findByDate(date));
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        return collect(partitionsStarting(start.getEpochSecond() - maxDurationSeconds, end.getEpochSecond()),
+            partition -> partition.findBetween(start, end));
+    }
+
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        if (tags == null || from == null || to == null) {
+            throw new IllegalArgumentException("Tags and dates cannot be null");
+        }
+        return collect(partitionsCovering(from, to), partition -> partition.findByTags(tags, matchAll, from, to));
+    }
+
+    @Override
+    public List<Event> findByAttendee(String attendee, Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        return collect(partitionsStarting(start.getEpochSecond() - maxDurationSeconds, end.getEpochSecond()),
+            partition -> partition.findByAttendee(attendee, start, end));
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        lock.readLock().lock();
+        try {
+            YearMonth month = locate(eventId);
+            return month == null ? Optional.empty() : partitions.get(month).findById(eventId);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        lock.writeLock().lock();
+        try {
+            YearMonth month = locate(eventId);
+            if (month == null) {
+                return false;
+            }
+            partitions.get(month).delete(eventId);
+            dropIfEmpty(month);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            List<Event> removed = new ArrayList<>();
+            for (YearMonth month : new ArrayList<>(rangeOf(start.getEpochSecond(), end.getEpochSecond()).keySet())) {
+                removed.addAll(partitions.get(month).deleteWhere(predicate, start, end));
+                dropIfEmpty(month);
+            }
+            return removed;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            partitions.clear();
+            maxDurationSeconds = 0;
+            maxSpanDays = 0;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return partitions.values().stream().mapToInt(InMemoryEventStorage::count).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Months that currently hold events, oldest first
+    public List<YearMonth> getPartitions() {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(partitions.keySet());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Unlink a month's partition and hand it over (e.g. to write it to an archive); empty if none
+    public Optional<EventStorage> detachPartition(YearMonth month) {
+        lock.writeLock().lock();
+        try {
+            InMemoryEventStorage partition = partitions.remove(month);
+            if (partition == null) {
+                return Optional.empty();
+            }
+            return Optional.of(partition);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Drop every partition for months before the given one; returns how many events went with them
+    public int dropPartitionsBefore(YearMonth month) {
+        lock.writeLock().lock();
+        try {
+            Map<YearMonth, InMemoryEventStorage> expired = partitions.headMap(month, false);
+            int dropped = 0;
+            for (InMemoryEventStorage partition : expired.values()) {
+                dropped += partition.count();
+            }
+            expired.clear();
+            return dropped;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Month of the partition holding the ID, or null - caller holds the lock
+    private YearMonth locate(String eventId) {
+        if (eventId == null) {
+            return null;
+        }
+        for (Map.Entry<YearMonth, InMemoryEventStorage> entry : partitions.descendingMap().entrySet()) {
+            if (entry.getValue().findById(eventId).isPresent()) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    private void dropIfEmpty(YearMonth month) {
+        InMemoryEventStorage partition = partitions.get(month);
+        if (partition != null && partition.count() == 0) {
+            partitions.remove(month);
+        }
+    }
+
+    private void widenBounds(Event event) {
+        maxDurationSeconds = Math.max(maxDurationSeconds, event.getEndEpochSecond() - event.getStartEpochSecond());
+        maxSpanDays = Math.max(maxSpanDays, event.getLastDate(zone).toEpochDay() - event.getFirstDate(zone).toEpochDay());
+    }
+
+    // Partitions holding events that start in [fromSecond, toSecond] - caller holds the lock
+    private NavigableMap<YearMonth, InMemoryEventStorage> rangeOf(long fromSecond, long toSecond) {
+        YearMonth first = monthOf(fromSecond);
+        YearMonth last = monthOf(toSecond);
+        return first.isAfter(last) ? new TreeMap<>() : partitions.subMap(first, true, last, true);
+    }
+
+    private List<InMemoryEventStorage> partitionsStarting(long fromSecond, long toSecond) {
+        lock.readLock().lock();
+        try {
+            return new ArrayList<>(rangeOf(fromSecond, toSecond).values());
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Partitions that may hold events covering any day in [from, to]
+    private List<InMemoryEventStorage> partitionsCovering(LocalDate from, LocalDate to) {
+        return partitionsStarting(
+            from.minusDays(maxSpanDays).atStartOfDay(zone).toEpochSecond(),
+            to.plusDays(1).atStartOfDay(zone).toEpochSecond());
+    }
+
+    private static List<Event> collect(List<InMemoryEventStorage> candidates,
+                                       Function<InMemoryEventStorage, List<Event>> query) {
+        List<Event> result = new ArrayList<>();
+        for (InMemoryEventStorage partition : candidates) {
+            result.addAll(query.apply(partition));
+        }
+        return result;
+    }
+
+    // Clamped so unbounded queries (Instant.MIN/MAX minus the lookback) still map to a month
+    private static YearMonth monthOf(long epochSecond) {
+        long clamped = Math.max(MIN_SECOND, Math.min(MAX_SECOND, epochSecond));
+        return YearMonth.from(LocalDateTime.ofEpochSecond(clamped, 0, ZoneOffset.UTC));
+    }
+}
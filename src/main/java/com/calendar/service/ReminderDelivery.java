@@ -0,0 +1,16 @@
+package com.calendar.service;
+
+import com.calendar.model.Reminder;
+
+// Where due reminders go (console, GUI notification, a callback...). Called on the reminder timer
+// thread, so slow deliveries should hand off to their own thread.
+@FunctionalInterface
+public interface ReminderDelivery {
+
+    void deliver(Reminder reminder);
+
+    // Prints reminders to standard output
+    static ReminderDelivery console() {
+        return reminder -> System.out.println("\n[Reminder] " + reminder);
+    }
+}
@@ -0,0 +1,141 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.Reminder;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Schedules reminders for every event at the configured offsets before its start, on a
+// hierarchical timing wheel driven by one timer thread. As a change listener on the service it
+// reschedules on update and cancels on delete - a fixed number of O(1) wheel operations per event.
+public class ReminderScheduler implements EventChangeListener, AutoCloseable {
+
+    private final List<Duration> offsets;
+    private final ReminderDelivery delivery;
+    private final Clock clock;
+    private final HierarchicalTimingWheel wheel;
+
+    // Event ID -> its pending reminders, one slot per offset (null once fired or in the past)
+    private final Map<String, HierarchicalTimingWheel.Timeout[]> pending = new ConcurrentHashMap<>();
+
+    public ReminderScheduler(List<Duration> offsets, ReminderDelivery delivery) {
+        this(offsets, delivery, Clock.systemDefaultZone());
+    }
+
+    public ReminderScheduler(List<Duration> offsets, ReminderDelivery delivery, Clock clock) {
+        if (offsets == null || offsets.isEmpty()) {
+            throw new IllegalArgumentException("At least one reminder offset is required");
+        }
+        if (delivery == null || clock == null) {
+            throw new IllegalArgumentException("Delivery and clock cannot be null");
+        }
+        for (Duration offset : offsets) {
+            if (offset == null || offset.isNegative()) {
+                throw new IllegalArgumentException("Reminder offsets cannot be negative");
+            }
+        }
+        // Largest offset first, i.e. in the order the reminders come due
+        List<Duration> sorted = new ArrayList<>(offsets);
+        sorted.sort(Comparator.reverseOrder());
+        this.offsets = List.copyOf(sorted);
+        this.delivery = delivery;
+        this.clock = clock;
+        this.wheel = new HierarchicalTimingWheel(clock);
+    }
+
+    // Schedule reminders for the service's existing events and follow its changes from now on
+    public void watch(CalendarServiceImpl service) {
+        // Registering and taking the snapshot under the write lock means no change slips in between
+        service.runExclusive(() -> {
+            service.addChangeListener(this);
+            service.getAllEvents().forEach(this::schedule);
+        });
+    }
+
+    // Deliver reminders on a background timer thread
+    public void start() {
+        wheel.start();
+    }
+
+    // Deliver every reminder that is due now on the calling thread; returns how many were due
+    public int deliverDue() {
+        return wheel.advance();
+    }
+
+    // Reminders still waiting to be delivered
+    public int getPendingCount() {
+        return wheel.size();
+    }
+
+    // (Re)schedule the event's reminders; offsets already in the past are skipped
+    public void schedule(Event event) {
+        cancel(event.getId());
+        Instant now = clock.instant();
+        HierarchicalTimingWheel.Timeout[] timeouts = new HierarchicalTimingWheel.Timeout[offsets.size()];
+        boolean any = false;
+        for (int i = 0; i < offsets.size(); i++) {
+            Duration offset = offsets.get(i);
+            Instant dueAt = event.getStartInstant().minus(offset);
+            if (dueAt.isAfter(now)) {
+                int index = i;
+                timeouts[i] = wheel.schedule(() -> fire(event, index, dueAt, timeouts), dueAt.toEpochMilli());
+                any = true;
+            }
+        }
+        if (any) {
+            pending.put(event.getId(), timeouts);
+        }
+    }
+
+    public void cancel(String eventId) {
+        HierarchicalTimingWheel.Timeout[] timeouts = pending.remove(eventId);
+        if (timeouts != null) {
+            for (HierarchicalTimingWheel.Timeout timeout : timeouts) {
+                if (timeout != null) {
+                    timeout.cancel();
+                }
+            }
+        }
+    }
+
+    private void fire(Event event, int index, Instant dueAt, HierarchicalTimingWheel.Timeout[] timeouts) {
+        // The last offset is the last reminder for this event - forget it, unless it was rescheduled since
+        if (index == offsets.size() - 1) {
+            pending.remove(event.getId(), timeouts);
+        }
+        delivery.deliver(new Reminder(event, offsets.get(index), dueAt));
+    }
+
+    @Override
+    public void onEventAdded(Event event) {
+        schedule(event);
+    }
+
+    @Override
+    public void onEventUpdated(Event previous, Event updated) {
+        schedule(updated);
+    }
+
+    @Override
+    public void onEventDeleted(Event event) {
+        cancel(event.getId());
+    }
+
+    @Override
+    public void onAllEventsCleared() {
+        for (String eventId : new ArrayList<>(pending.keySet())) {
+            cancel(eventId);
+        }
+    }
+
+    @Override
+    public void close() {
+        wheel.close();
+    }
+}
@@ -0,0 +1,76 @@
+package com.calendar.service;
+
+import com.calendar.model.RetentionPolicy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Enforces a retention policy by purging expired events on a low-priority daemon thread.
+// The purge itself works in short batches (see CalendarServiceImpl.purgeExpired), so the
+// foreground never waits on it for long.
+public class RetentionScheduler implements AutoCloseable {
+
+    private final CalendarServiceImpl service;
+    private final RetentionPolicy policy;
+    private final ScheduledExecutorService executor;
+    private final AtomicInteger lastPurged = new AtomicInteger();
+    private final AtomicLong failedRuns = new AtomicLong();
+
+    public RetentionScheduler(CalendarServiceImpl service, RetentionPolicy policy) {
+        if (service == null || policy == null) {
+            throw new IllegalArgumentException("Service and policy cannot be null");
+        }
+        this.service = service;
+        this.policy = policy;
+        this.executor = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "retention-purge");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+    }
+
+    // Purge now and then every interval until close()
+    public void start(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        executor.scheduleWithFixedDelay(() -> {
+            try {
+                runOnce();
+            } catch (RuntimeException e) {
+                // Keep the schedule alive; the next run retries
+                failedRuns.incrementAndGet();
+            }
+        }, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Run one purge on the calling thread; returns how many events were removed
+    public int runOnce() {
+        int purged = service.purgeExpired(policy);
+        lastPurged.set(purged);
+        return purged;
+    }
+
+    // Events removed by the most recent run
+    public int getLastPurged() {
+        return lastPurged.get();
+    }
+
+    // Scheduled runs that failed since start()
+    public long getFailedRunCount() {
+        return failedRuns.get();
+    }
+
+    public RetentionPolicy getPolicy() {
+        return policy;
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+}
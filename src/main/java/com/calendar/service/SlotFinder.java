@@ -1,5 +1,6 @@
 package com.calendar.service;
 
+import com.calendar.model.Event;
 import com.calendar.model.TimeSlot;
 import java.time.LocalDate;
 import java.util.List;
@@ -13,4 +14,20 @@ public interface SlotFinder {
 
     // Find all available slots of specified duration for the day
     List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date);
+
+    // Same search using the day's events the caller already loaded (sorted by start), for bulk searches
+    List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents);
+
+    // Number of available slots for the day given its events
+    default int countAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+        return findAllAvailableSlots(durationMinutes, date, dayEvents).size();
+    }
+
+    // Called when events on the given date were added or removed (no-op unless results are cached)
+    default void invalidate(LocalDate date) {
+    }
+
+    // Called when the whole calendar changed, e.g. after clearing all events
+    default void invalidateAll() {
+    }
 }
@@ -0,0 +1,119 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.SlotHold;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.TreeMap;
+
+// Active slot holds, ordered by time for overlap checks. Each hold has a timeout on a hashed
+// timing wheel that drops it when its lease runs out; lookups also skip holds past their expiry,
+// so a late tick never lets an expired hold block anyone. The wheel's thread starts with the first
+// hold and runs until close(); the registry owns the wheel, including one passed in.
+public class SlotHoldRegistry implements AutoCloseable {
+
+    private static final Duration TICK = Duration.ofMillis(100);
+    private static final int WHEEL_SIZE = 512;
+
+    private final NavigableMap<EventKey, SlotHold> holdsByTime = new TreeMap<>();
+    private final Map<String, SlotHold> holdsById = new HashMap<>();
+    private final Map<String, TimingWheel.Timeout> timeouts = new HashMap<>();
+    private final TimingWheel wheel;
+    private final Clock clock;
+
+    // Longest hold ever placed - bounds how far back an overlap lookup has to look
+    private long maxDurationSeconds;
+
+    public SlotHoldRegistry(Clock clock) {
+        this(clock, new TimingWheel(TICK, WHEEL_SIZE, clock));
+    }
+
+    public SlotHoldRegistry(Clock clock, TimingWheel wheel) {
+        if (clock == null || wheel == null) {
+            throw new IllegalArgumentException("Clock and timing wheel cannot be null");
+        }
+        this.clock = clock;
+        this.wheel = wheel;
+    }
+
+    public synchronized void add(SlotHold hold, Duration ttl) {
+        EventKey key = EventKey.of(hold.getStartEpochSecond(), hold.getEndEpochSecond(), hold.getId());
+        holdsByTime.put(key, hold);
+        holdsById.put(hold.getId(), hold);
+        maxDurationSeconds = Math.max(maxDurationSeconds, hold.getEndEpochSecond() - hold.getStartEpochSecond());
+        timeouts.put(hold.getId(), wheel.schedule(() -> remove(hold.getId()), ttl));
+        wheel.start();
+    }
+
+    // Remove a hold (released, confirmed or expired); empty if it was already gone
+    public synchronized Optional<SlotHold> remove(String holdId) {
+        SlotHold hold = holdsById.remove(holdId);
+        if (hold == null) {
+            return Optional.empty();
+        }
+        holdsByTime.remove(EventKey.of(hold.getStartEpochSecond(), hold.getEndEpochSecond(), hold.getId()));
+        TimingWheel.Timeout timeout = timeouts.remove(holdId);
+        if (timeout != null) {
+            timeout.cancel();
+        }
+        return Optional.of(hold);
+    }
+
+    public synchronized Optional<SlotHold> find(String holdId) {
+        SlotHold hold = holdsById.get(holdId);
+        return hold == null || hold.isExpired(clock.instant()) ? Optional.empty() : Optional.of(hold);
+    }
+
+    // Live holds overlapping [startSecond, endSecond), except the one with the given ID (may be null)
+    public synchronized List<SlotHold> findOverlapping(long startSecond, long endSecond, String excludedHoldId) {
+        List<SlotHold> result = new ArrayList<>();
+        if (holdsByTime.isEmpty()) {
+            return result;
+        }
+        Instant now = clock.instant();
+        for (SlotHold hold : holdsByTime.subMap(EventKey.probe(startSecond - maxDurationSeconds), true,
+                EventKey.probe(endSecond), false).values()) {
+            if (hold.getEndEpochSecond() > startSecond && !hold.isExpired(now)
+                    && !hold.getId().equals(excludedHoldId)) {
+                result.add(hold);
+            }
+        }
+        return result;
+    }
+
+    // Live holds on the given day (in the given zone, which the holds were also made in) as
+    // placeholder events, so slot searches treat them as busy time
+    public List<Event> findBusyEvents(LocalDate date, ZoneId zone) {
+        List<Event> busy = new ArrayList<>();
+        for (SlotHold hold : findOverlapping(
+                date.atStartOfDay(zone).toEpochSecond(),
+                date.plusDays(1).atStartOfDay(zone).toEpochSecond(), null)) {
+            busy.add(new Event(hold.getId(), "Held", hold.getStartTime(), hold.getEndTime(), zone));
+        }
+        return busy;
+    }
+
+    public synchronized int size() {
+        return holdsById.size();
+    }
+
+    // Stop the wheel's thread. Holds placed afterwards still stop counting once their lease runs
+    // out (lookups check expiry), they just aren't dropped from memory.
+    @Override
+    public void close() {
+        wheel.close();
+    }
+
+    public Clock getClock() {
+        return clock;
+    }
+}
@@ -2,26 +2,41 @@ package com.calendar.service;
 
 import com.calendar.model.Event;
 import com.calendar.model.TimeSlot;
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
-// Finds available time slots using 9 AM - 6 PM working hours
+// Finds available time slots using 9 AM - 6 PM working hours.
+// Days and working hours are those of the storage's zone; gaps are worked out in epoch seconds, so
+// events booked in other zones block the right time.
 public class StandardSlotFinder implements SlotFinder {
 
     private final EventStorage storage;
+    private final Clock clock;
 
     // Working hours: 9 AM to 6 PM
     private static final int DEFAULT_START_HOUR = 9; // 9 Am
     private static final int DEFAULT_END_HOUR = 18; // 6 Pm
 
     public StandardSlotFinder(EventStorage storage) {
+        this(storage, Clock.systemDefaultZone());
+    }
+
+    // The clock decides "now", so today's search starts no earlier than the current time
+    public StandardSlotFinder(EventStorage storage, Clock clock) {
         if (storage == null) {
             throw new IllegalArgumentException("EventStorage cannot be null");
         }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
         this.storage = storage;
+        this.clock = clock;
     }
 
     @Override
@@ -32,6 +47,14 @@ public class StandardSlotFinder implements SlotFinder {
 
     @Override
     public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        return findAllAvailableSlots(durationMinutes, date, storage.findByDate(date));
+    }
+
+    @Override
+    public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
         if (durationMinutes <= 0) {
             throw new IllegalArgumentException("Duration must be positive");
         }
@@ -39,78 +62,62 @@ public class StandardSlotFinder implements SlotFinder {
             throw new IllegalArgumentException("Date cannot be null");
         }
 
+        ZoneId zone = storage.getZone();
+        long durationSeconds = durationMinutes * 60L;
         List<TimeSlot> availableSlots = new ArrayList<>();
-        LocalDateTime searchStart = calculateSearchStart(date);
-        LocalDateTime dayEnd = date.atTime(DEFAULT_END_HOUR, 0);
-
-        List<Event> dayEvents = storage.findByDate(date);
+        long searchStart = calculateSearchStart(date, zone);
+        long dayEnd = date.atTime(DEFAULT_END_HOUR, 0).atZone(zone).toEpochSecond();
 
         // No events - return all possible slots that fit
         if (dayEvents.isEmpty()) {
-            addSlotsInRange(availableSlots, searchStart, dayEnd, durationMinutes);
+            addSlotsInRange(availableSlots, searchStart, dayEnd, durationSeconds, zone);
             return availableSlots;
         }
 
         // Check gap before first event
         Event firstEvent = dayEvents.get(0);
-        addSlotsInRange(availableSlots, searchStart, firstEvent.getStartTime(), durationMinutes);
+        addSlotsInRange(availableSlots, searchStart, Math.min(firstEvent.getStartEpochSecond(), dayEnd),
+            durationSeconds, zone);
 
-        // Check gaps between consecutive events
+        // Check gaps between consecutive events. The gap starts when everything so far has ended -
+        // an event carried over from an earlier day can end after the next one starts.
+        long busyUntil = firstEvent.getEndEpochSecond();
         for (int i = 0; i < dayEvents.size() - 1; i++) {
-            LocalDateTime gapStart = dayEvents.get(i).getEndTime();
-            LocalDateTime gapEnd = dayEvents.get(i + 1).getStartTime();
+            // Skip the part of the gap that is in the past
+            long gapStart = Math.max(busyUntil, searchStart);
+            long gapEnd = Math.min(dayEvents.get(i + 1).getStartEpochSecond(), dayEnd);
 
-            // Skip if gap is in the past
-            if (gapStart.isBefore(searchStart)) {
-                gapStart = searchStart;
-            }
+            addSlotsInRange(availableSlots, gapStart, gapEnd, durationSeconds, zone);
 
-            addSlotsInRange(availableSlots, gapStart, gapEnd, durationMinutes);
+            busyUntil = Math.max(busyUntil, dayEvents.get(i + 1).getEndEpochSecond());
         }
 
         // Check gap after last event
-        Event lastEvent = dayEvents.get(dayEvents.size() - 1);
-        LocalDateTime lastGapStart = lastEvent.getEndTime();
-        if (lastGapStart.isBefore(searchStart)) {
-            lastGapStart = searchStart;
-        }
-        addSlotsInRange(availableSlots, lastGapStart, dayEnd, durationMinutes);
+        addSlotsInRange(availableSlots, Math.max(busyUntil, searchStart), dayEnd, durationSeconds, zone);
 
         return availableSlots;
     }
 
-    // Add all possible slots that fit in the given time range
-    private void addSlotsInRange(List<TimeSlot> slots, LocalDateTime start, LocalDateTime end, int durationMinutes) {
-        if (start.isAfter(end) || start.isEqual(end)) {
-            return;
-        }
-
-        LocalDateTime slotStart = start;
-        while (canFitSlot(slotStart, end, durationMinutes)) {
-            LocalDateTime slotEnd = slotStart.plusMinutes(durationMinutes);
-            slots.add(new TimeSlot(slotStart, slotEnd));
-            slotStart = slotStart.plusMinutes(30); // Move forward in 30-min increments
+    // Add all possible slots that fit in [start, end), in 30-minute steps
+    private void addSlotsInRange(List<TimeSlot> slots, long start, long end, long durationSeconds, ZoneId zone) {
+        for (long slotStart = start; slotStart + durationSeconds <= end; slotStart += 30 * 60) {
+            slots.add(new TimeSlot(toLocalDateTime(slotStart, zone), toLocalDateTime(slotStart + durationSeconds, zone)));
         }
     }
 
-    // Determine where to start searching
-    private LocalDateTime calculateSearchStart(LocalDate date) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime dayStart = date.atTime(DEFAULT_START_HOUR, 0);
+    // Determine where to start searching: opening time, or now if that is later today
+    private long calculateSearchStart(LocalDate date, ZoneId zone) {
+        Instant now = clock.instant();
+        long dayStart = date.atTime(DEFAULT_START_HOUR, 0).atZone(zone).toEpochSecond();
 
-        if (date.isEqual(now.toLocalDate())) {
-            return now.isAfter(dayStart) ? now : dayStart;
+        if (date.isEqual(LocalDate.ofInstant(now, zone))) {
+            return Math.max(now.getEpochSecond(), dayStart);
         } else {
             return dayStart;
         }
     }
 
-    // Check if a slot can fit in the time window
-    private boolean canFitSlot(LocalDateTime start, LocalDateTime end, int durationMinutes) {
-        if (start.isAfter(end) || start.isEqual(end)) {
-            return false;
-        }
-        long availableMinutes = java.time.Duration.between(start, end).toMinutes();
-        return availableMinutes >= durationMinutes;
+    private static LocalDateTime toLocalDateTime(long epochSecond, ZoneId zone) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(epochSecond), zone);
     }
 }
@@ -0,0 +1,155 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import com.calendar.model.SyncDelta;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+
+// Version index behind delta sync. Every change bumps a counter and stamps the changed event's entry
+// with the new version; entries are also ordered by version, so "what changed after version v" is a
+// tail view of that order - proportional to the number of changes, not the calendar size. Deletes
+// leave a tombstone entry so clients learn about them too.
+//
+// Tokens are "<log id>:<version>". The log lives in memory, so a token from another run (different
+// log id), from before a clear, or older than the oldest tombstone dropped to stay within the limit
+// can't be answered with a delta and gets a full resync instead.
+public class SyncLog implements EventChangeListener {
+
+    private final String logId = EventId.next().toString();
+    private final int maxTombstones;
+
+    private final Map<EventId, Long> versionById = new HashMap<>();
+    private final TreeMap<Long, Entry> byVersion = new TreeMap<>();
+    private final ArrayDeque<Long> tombstones = new ArrayDeque<>();
+    private long version;
+
+    // Tokens below this version can no longer be served a delta
+    private long horizon;
+
+    public SyncLog(int maxTombstones) {
+        if (maxTombstones <= 0) {
+            throw new IllegalArgumentException("Tombstone limit must be positive");
+        }
+        this.maxTombstones = maxTombstones;
+    }
+
+    // Changes after the token's version, or - for a null, foreign or expired token - a full resync
+    // built from the snapshot. Needs no lock against writers: the resync token is taken before the
+    // snapshot, and every change is in storage before it is stamped here, so a write racing the
+    // snapshot can only show up twice (in the snapshot and again in the next delta), never be missed.
+    public SyncDelta changesSince(String syncToken, Supplier<List<Event>> snapshot) {
+        String token;
+        synchronized (this) {
+            long since = parse(syncToken);
+            if (since >= horizon) {
+                List<Event> changed = new ArrayList<>();
+                List<String> deleted = new ArrayList<>();
+                for (Entry entry : byVersion.tailMap(since, false).values()) {
+                    if (entry.event != null) {
+                        changed.add(entry.event);
+                    } else {
+                        deleted.add(entry.eventId.toString());
+                    }
+                }
+                return new SyncDelta(currentToken(), changed, deleted, false);
+            }
+            token = currentToken();
+        }
+        // Outside the monitor, so writers aren't held up by a full scan of storage
+        return new SyncDelta(token, snapshot.get(), List.of(), true);
+    }
+
+    public synchronized String currentToken() {
+        return logId + ":" + version;
+    }
+
+    public synchronized long getVersion() {
+        return version;
+    }
+
+    // Version of the event's latest change; 0 if it has not changed since the log started
+    public synchronized long getVersion(String eventId) {
+        return versionById.getOrDefault(EventId.of(eventId), 0L);
+    }
+
+    @Override
+    public synchronized void onEventAdded(Event event) {
+        stamp(event.getEventId(), event);
+    }
+
+    @Override
+    public synchronized void onEventUpdated(Event previous, Event updated) {
+        stamp(updated.getEventId(), updated);
+    }
+
+    @Override
+    public synchronized void onEventDeleted(Event event) {
+        stamp(event.getEventId(), null);
+        tombstones.addLast(version);
+        while (tombstones.size() > maxTombstones) {
+            dropTombstone(tombstones.removeFirst());
+        }
+    }
+
+    // A clear would need a tombstone per event; older tokens just resync instead
+    @Override
+    public synchronized void onAllEventsCleared() {
+        version++;
+        versionById.clear();
+        byVersion.clear();
+        tombstones.clear();
+        horizon = version;
+    }
+
+    private void stamp(EventId eventId, Event event) {
+        version++;
+        Long previous = versionById.put(eventId, version);
+        if (previous != null) {
+            byVersion.remove(previous);
+        }
+        byVersion.put(version, new Entry(eventId, event));
+    }
+
+    private void dropTombstone(long tombstoneVersion) {
+        Entry entry = byVersion.get(tombstoneVersion);
+        // Skip tombstones superseded by a later re-add
+        if (entry != null && entry.event == null) {
+            byVersion.remove(tombstoneVersion);
+            versionById.remove(entry.eventId);
+        }
+        horizon = Math.max(horizon, tombstoneVersion);
+    }
+
+    // Version the token was issued at; -1 (always behind the horizon) if it can't be used
+    private long parse(String syncToken) {
+        if (syncToken == null) {
+            return -1;
+        }
+        int separator = syncToken.lastIndexOf(':');
+        if (separator < 0 || !syncToken.substring(0, separator).equals(logId)) {
+            return -1;
+        }
+        try {
+            long since = Long.parseLong(syncToken.substring(separator + 1));
+            return since <= version ? since : -1;
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Entry {
+        final EventId eventId;
+        final Event event;
+
+        Entry(EventId eventId, Event event) {
+            this.eventId = eventId;
+            this.event = event;
+        }
+    }
+}
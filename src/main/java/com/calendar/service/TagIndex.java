@@ -0,0 +1,148 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+
+// Bitmap index for tag + date filters. Every stored event gets a small int ordinal; each tag and
+// each epoch day keeps a compressed bitmap of ordinals, so "interviews next quarter" is an OR over
+// the tag bitmaps (or AND for match-all), narrowed to the date range - no event scan.
+// Days are those of the owning storage's zone. Not thread-safe - the owning storage locks.
+public class TagIndex {
+
+    private final Map<EventId, Integer> ordinalsById = new HashMap<>();
+    private final List<Event> eventsByOrdinal = new ArrayList<>();
+    private final Deque<Integer> freeOrdinals = new ArrayDeque<>();
+
+    private final Map<String, CompressedBitmap> byTag = new HashMap<>();
+    private final NavigableMap<Long, CompressedBitmap> byDay = new TreeMap<>();
+    private final ZoneId zone;
+
+    public TagIndex(ZoneId zone) {
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.zone = zone;
+    }
+
+    public void add(Event event) {
+        Integer ordinal = freeOrdinals.poll();
+        if (ordinal == null) {
+            ordinal = eventsByOrdinal.size();
+            eventsByOrdinal.add(event);
+        } else {
+            eventsByOrdinal.set(ordinal, event);
+        }
+        ordinalsById.put(event.getEventId(), ordinal);
+
+        for (String tag : event.getTags()) {
+            byTag.computeIfAbsent(tag, t -> new CompressedBitmap()).add(ordinal);
+        }
+        for (long day = firstDay(event); day <= lastDay(event); day++) {
+            byDay.computeIfAbsent(day, d -> new CompressedBitmap()).add(ordinal);
+        }
+    }
+
+    public void remove(Event event) {
+        Integer ordinal = ordinalsById.remove(event.getEventId());
+        if (ordinal == null) {
+            return;
+        }
+        for (String tag : event.getTags()) {
+            removeFrom(byTag, tag, ordinal);
+        }
+        for (long day = firstDay(event); day <= lastDay(event); day++) {
+            removeFrom(byDay, day, ordinal);
+        }
+        eventsByOrdinal.set(ordinal, null);
+        freeOrdinals.push(ordinal);
+    }
+
+    public void clear() {
+        ordinalsById.clear();
+        eventsByOrdinal.clear();
+        freeOrdinals.clear();
+        byTag.clear();
+        byDay.clear();
+    }
+
+    // Events covering any day in [fromEpochDay, toEpochDay] that carry all (or any) of the tags, sorted
+    public List<Event> find(Collection<String> tags, boolean matchAll, long fromEpochDay, long toEpochDay) {
+        List<Event> result = new ArrayList<>();
+        if (tags.isEmpty()) {
+            return result;
+        }
+
+        CompressedBitmap tagMatches = null;
+        for (String tag : tags) {
+            CompressedBitmap bitmap = byTag.getOrDefault(tag.trim().toLowerCase(Locale.ROOT), new CompressedBitmap());
+            if (tagMatches == null) {
+                tagMatches = bitmap;
+            } else {
+                tagMatches = matchAll ? CompressedBitmap.and(tagMatches, bitmap) : CompressedBitmap.or(tagMatches, bitmap);
+            }
+        }
+        if (tagMatches.isEmpty()) {
+            return result;
+        }
+
+        // Narrow by date from whichever side is smaller: walk the tag matches checking their dates, or
+        // walk the postings of the days that actually have events checking them against the tags
+        Collection<CompressedBitmap> days = byDay.subMap(fromEpochDay, true, toEpochDay, true).values();
+        long dayPostings = 0;
+        for (CompressedBitmap bitmap : days) {
+            dayPostings += bitmap.cardinality();
+        }
+        CompressedBitmap matches = new CompressedBitmap();
+        if (tagMatches.cardinality() <= dayPostings) {
+            tagMatches.forEach(ordinal -> {
+                Event event = eventsByOrdinal.get(ordinal);
+                if (firstDay(event) <= toEpochDay && lastDay(event) >= fromEpochDay) {
+                    matches.add(ordinal);
+                }
+            });
+        } else {
+            // A multi-day event is in several day bitmaps; collecting into a bitmap drops the repeats
+            CompressedBitmap tagged = tagMatches;
+            for (CompressedBitmap bitmap : days) {
+                bitmap.forEach(ordinal -> {
+                    if (tagged.contains(ordinal)) {
+                        matches.add(ordinal);
+                    }
+                });
+            }
+        }
+
+        matches.forEach(ordinal -> result.add(eventsByOrdinal.get(ordinal)));
+        result.sort(null);
+        return result;
+    }
+
+    private static <K> void removeFrom(Map<K, CompressedBitmap> index, K key, int ordinal) {
+        CompressedBitmap bitmap = index.get(key);
+        if (bitmap != null) {
+            bitmap.remove(ordinal);
+            if (bitmap.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    private long firstDay(Event event) {
+        return event.getFirstDate(zone).toEpochDay();
+    }
+
+    private long lastDay(Event event) {
+        return event.getLastDate(zone).toEpochDay();
+    }
+}
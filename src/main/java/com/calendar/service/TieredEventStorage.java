@@ -0,0 +1,450 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.Event;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+// Two-tier event storage: a hot in-memory tier for recent and upcoming events, and cold compressed
+// segment files on disk for events that ended more than the horizon ago. archive() (run by a
+// background thread once start() is called) moves expired events from the hot tier into a new
+// segment. Every query consults both tiers; cold segments are only read when their time bounds
+// match, so the usual "this week" queries never touch the disk.
+public class TieredEventStorage implements EventStorage, AutoCloseable {
+
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".cold";
+    private static final Comparator<Event> ORDER = Comparator.<Event>naturalOrder().thenComparing(Event::getEventId);
+
+    private final InMemoryEventStorage hot;
+    private final List<ColdSegment> segments = new CopyOnWriteArrayList<>();
+    private final Path directory;
+    private final Duration horizon;
+    private final Clock clock;
+
+    // Tier membership changes take the write lock; segment files are written outside it
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Object archiveLock = new Object();
+    private int nextSegmentNumber;
+    private ScheduledExecutorService archiver;
+    private final AtomicLong failedArchiveRuns = new AtomicLong();
+
+    public TieredEventStorage(Path directory, Duration horizon) {
+        this(directory, horizon, Clock.systemDefaultZone());
+    }
+
+    public TieredEventStorage(Path directory, Duration horizon, Clock clock) {
+        this(directory, horizon, clock, ZoneId.systemDefault());
+    }
+
+    // Days (findByDate, findByTags) are those of the given zone, in both tiers
+    public TieredEventStorage(Path directory, Duration horizon, Clock clock, ZoneId zone) {
+        if (directory == null || horizon == null || clock == null || zone == null) {
+            throw new IllegalArgumentException("Directory, horizon, clock and zone cannot be null");
+        }
+        if (horizon.isNegative()) {
+            throw new IllegalArgumentException("Horizon cannot be negative");
+        }
+        this.directory = directory;
+        this.horizon = horizon;
+        this.clock = clock;
+        this.hot = new InMemoryEventStorage(zone);
+        openSegments();
+    }
+
+    // Pick up segments archived by an earlier run
+    private void openSegments() {
+        try {
+            Files.createDirectories(directory);
+            List<Path> files;
+            try (Stream<Path> listing = Files.list(directory)) {
+                files = listing.filter(TieredEventStorage::isSegmentFile).sorted().collect(Collectors.toList());
+            }
+            for (Path file : files) {
+                segments.add(ColdSegment.open(file));
+                nextSegmentNumber = Math.max(nextSegmentNumber, segmentNumber(file) + 1);
+            }
+        } catch (IOException e) {
+            throw new StorageException("Cannot open cold segments in " + directory, e);
+        }
+    }
+
+    // Archive on a background thread every interval until close()
+    public void start(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        synchronized (archiveLock) {
+            if (archiver != null) {
+                throw new IllegalStateException("Archiver already started");
+            }
+            archiver = Executors.newSingleThreadScheduledExecutor(task -> {
+                Thread thread = new Thread(task, "event-archiver");
+                thread.setDaemon(true);
+                return thread;
+            });
+            archiver.scheduleWithFixedDelay(() -> {
+                try {
+                    archive();
+                } catch (StorageException e) {
+                    // Events stay in the hot tier; the next run tries again
+                    failedArchiveRuns.incrementAndGet();
+                }
+            }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    // Move events that ended before now minus the horizon into a new cold segment; returns how many moved
+    public int archive() {
+        synchronized (archiveLock) {
+            Instant cutoff = clock.instant().minus(horizon);
+            List<Event> expired = hot.findBetween(Instant.MIN, cutoff).stream()
+                .filter(event -> !event.getEndInstant().isAfter(cutoff))
+                .collect(Collectors.toList());
+            if (expired.isEmpty()) {
+                return 0;
+            }
+
+            ColdSegment segment;
+            try {
+                segment = ColdSegment.write(
+                    directory.resolve(String.format("%s%08d%s", SEGMENT_PREFIX, nextSegmentNumber++, SEGMENT_SUFFIX)),
+                    expired);
+            } catch (IOException e) {
+                throw new StorageException("Failed to write cold segment", e);
+            }
+
+            // Events changed or deleted while the segment was written stay as they are in the hot tier
+            int moved = 0;
+            lock.writeLock().lock();
+            try {
+                for (Event event : expired) {
+                    Optional<Event> current = hot.findById(event.getId());
+                    if (current.isPresent() && current.get() == event) {
+                        hot.delete(event.getId());
+                        moved++;
+                    } else {
+                        segment.markRemoved(event.getId());
+                    }
+                }
+                if (segment.liveCount() > 0) {
+                    segments.add(segment);
+                } else {
+                    segment.delete();
+                }
+            } catch (IOException e) {
+                throw new StorageException("Failed to finish cold segment " + segment.getFile(), e);
+            } finally {
+                lock.writeLock().unlock();
+            }
+            return moved;
+        }
+    }
+
+    @Override
+    public void save(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            removeFromCold(event.getId());
+            hot.save(event);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Updating an archived event brings it back to the hot tier; the next archive run moves it again if needed
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        lock.writeLock().lock();
+        try {
+            if (hot.update(event)) {
+                return true;
+            }
+            if (removeFromCold(event.getId())) {
+                hot.save(event);
+                return true;
+            }
+            return false;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findAll() {
+        lock.readLock().lock();
+        try {
+            return merge(hot.findAll(), segment -> true, event -> true);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        if (date == null) {
+            throw new IllegalArgumentException("Date cannot be null");
+        }
+        ZoneId zone = hot.getZone();
+        long dayStart = date.atStartOfDay(zone).toEpochSecond();
+        long dayEnd = date.plusDays(1).atStartOfDay(zone).toEpochSecond();
+        lock.readLock().lock();
+        try {
+            return merge(hot.findByDate(date), segment -> segment.overlaps(dayStart, dayEnd), event -> event.coversDate(date, zone));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        long startSecond = start.getEpochSecond();
+        long endSecond = end.getEpochSecond();
+        lock.readLock().lock();
+        try {
+            return merge(hot.findBetween(start, end), segment -> segment.overlaps(startSecond, endSecond),
+                event -> event.getStartEpochSecond() < endSecond && event.getEndEpochSecond() > startSecond);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        if (tags == null || from == null || to == null) {
+            throw new IllegalArgumentException("Tags and dates cannot be null");
+        }
+        ZoneId zone = hot.getZone();
+        long rangeStart = from.atStartOfDay(zone).toEpochSecond();
+        long rangeEnd = to.plusDays(1).atStartOfDay(zone).toEpochSecond();
+        lock.readLock().lock();
+        try {
+            return merge(hot.findByTags(tags, matchAll, from, to), segment -> segment.overlaps(rangeStart, rangeEnd),
+                event -> !event.getFirstDate(zone).isAfter(to) && !event.getLastDate(zone).isBefore(from)
+                    && (matchAll ? tags.stream().allMatch(event::hasTag) : tags.stream().anyMatch(event::hasTag)));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return hot.getZone();
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        lock.readLock().lock();
+        try {
+            Optional<Event> event = hot.findById(eventId);
+            if (event.isPresent() || eventId == null) {
+                return event;
+            }
+            for (ColdSegment segment : segments) {
+                if (segment.mightContain(eventId)) {
+                    Optional<Event> archived = read(segment).stream()
+                        .filter(candidate -> candidate.getId().equals(eventId))
+                        .findFirst();
+                    if (archived.isPresent()) {
+                        return archived;
+                    }
+                }
+            }
+            return Optional.empty();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        lock.writeLock().lock();
+        try {
+            return hot.delete(eventId) || (eventId != null && removeFromCold(eventId));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        if (predicate == null) {
+            throw new IllegalArgumentException("Predicate cannot be null");
+        }
+        if (start == null || end == null) {
+            throw new IllegalArgumentException("Start and end cannot be null");
+        }
+        long startSecond = start.getEpochSecond();
+        long endSecond = end.getEpochSecond();
+        lock.writeLock().lock();
+        try {
+            List<Event> removed = new ArrayList<>(hot.deleteWhere(predicate, start, end));
+            for (ColdSegment segment : segments) {
+                if (!segment.overlaps(startSecond, endSecond)) {
+                    continue;
+                }
+                for (Event event : read(segment)) {
+                    if (event.getStartEpochSecond() >= startSecond && event.getStartEpochSecond() < endSecond
+                            && predicate.test(event)) {
+                        tombstone(segment, event.getId());
+                        removed.add(event);
+                    }
+                }
+            }
+            removed.sort(ORDER);
+            return removed;
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete archived events", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            hot.clear();
+            for (ColdSegment segment : segments) {
+                segment.delete();
+            }
+            segments.clear();
+        } catch (IOException e) {
+            throw new StorageException("Failed to delete cold segments", e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public int count() {
+        lock.readLock().lock();
+        try {
+            return hot.count() + segments.stream().mapToInt(ColdSegment::liveCount).sum();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Number of events currently held on the heap
+    public int getHotCount() {
+        return hot.count();
+    }
+
+    public int getSegmentCount() {
+        return segments.size();
+    }
+
+    // Background archive runs that failed since start()
+    public long getFailedArchiveCount() {
+        return failedArchiveRuns.get();
+    }
+
+    @Override
+    public void close() {
+        synchronized (archiveLock) {
+            if (archiver != null) {
+                archiver.shutdownNow();
+                archiver = null;
+            }
+        }
+    }
+
+    // Tombstone the archived copy of the event, if any - caller holds the write lock
+    private boolean removeFromCold(String eventId) {
+        for (ColdSegment segment : segments) {
+            if (segment.mightContain(eventId)
+                    && read(segment).stream().anyMatch(event -> event.getId().equals(eventId))) {
+                try {
+                    tombstone(segment, eventId);
+                } catch (IOException e) {
+                    throw new StorageException("Failed to remove archived event " + eventId, e);
+                }
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Segments whose events have all been removed are deleted from disk - caller holds the write lock
+    private void tombstone(ColdSegment segment, String eventId) throws IOException {
+        segment.markRemoved(eventId);
+        if (segment.liveCount() == 0) {
+            segments.remove(segment);
+            segment.delete();
+        }
+    }
+
+    // Hot results plus matching events from every segment the bounds check lets through, sorted
+    private List<Event> merge(List<Event> hotEvents, Predicate<ColdSegment> segmentFilter, Predicate<Event> eventFilter) {
+        List<Event> result = new ArrayList<>(hotEvents);
+        boolean fromCold = false;
+        for (ColdSegment segment : segments) {
+            if (segmentFilter.test(segment)) {
+                for (Event event : read(segment)) {
+                    if (eventFilter.test(event)) {
+                        result.add(event);
+                        fromCold = true;
+                    }
+                }
+            }
+        }
+        if (fromCold) {
+            result.sort(ORDER);
+        }
+        return result;
+    }
+
+    private static List<Event> read(ColdSegment segment) {
+        try {
+            return segment.read();
+        } catch (IOException e) {
+            throw new StorageException("Failed to read cold segment " + segment.getFile(), e);
+        }
+    }
+
+    private static boolean isSegmentFile(Path file) {
+        String name = file.getFileName().toString();
+        return name.startsWith(SEGMENT_PREFIX) && name.endsWith(SEGMENT_SUFFIX);
+    }
+
+    private static int segmentNumber(Path file) {
+        String name = file.getFileName().toString();
+        return Integer.parseInt(name.substring(SEGMENT_PREFIX.length(), name.length() - SEGMENT_SUFFIX.length()));
+    }
+}
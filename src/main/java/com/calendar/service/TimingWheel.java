@@ -0,0 +1,202 @@
+package com.calendar.service;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Hashed timing wheel for many short-lived timeouts (slot holds, dedup entries, ...).
+// Time is cut into ticks; a timeout goes into bucket (deadline tick mod wheel size), so scheduling
+// and cancelling are O(1) list operations, and each tick only looks at one bucket. Timeouts more
+// than one rotation away simply stay in their bucket until their deadline tick comes round.
+// advance() fires everything that is due; start() runs it on a daemon thread every tick.
+public class TimingWheel implements AutoCloseable {
+
+    private final long tickMillis;
+    private final Timeout[] buckets;
+    private final int mask;
+    private final Clock clock;
+    private final long startMillis;
+
+    // Last tick whose bucket has been processed
+    private long currentTick;
+    private Thread worker;
+    private volatile boolean closed;
+
+    // Tasks that threw; the wheel keeps going
+    private final AtomicLong failedTasks = new AtomicLong();
+
+    public TimingWheel(Duration tick, int wheelSize) {
+        this(tick, wheelSize, Clock.systemUTC());
+    }
+
+    public TimingWheel(Duration tick, int wheelSize, Clock clock) {
+        if (tick == null || tick.toMillis() <= 0) {
+            throw new IllegalArgumentException("Tick must be at least one millisecond");
+        }
+        if (wheelSize <= 0 || Integer.bitCount(wheelSize) != 1) {
+            throw new IllegalArgumentException("Wheel size must be a positive power of two");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        this.tickMillis = tick.toMillis();
+        this.buckets = new Timeout[wheelSize];
+        this.mask = wheelSize - 1;
+        this.clock = clock;
+        this.startMillis = clock.millis();
+    }
+
+    // Run the task once the delay has passed (at the first tick at or after the deadline)
+    public synchronized Timeout schedule(Runnable task, Duration delay) {
+        if (task == null || delay == null) {
+            throw new IllegalArgumentException("Task and delay cannot be null");
+        }
+        long deadlineMillis = clock.millis() - startMillis + Math.max(0, delay.toMillis());
+        long deadlineTick = Math.max(currentTick + 1, (deadlineMillis + tickMillis - 1) / tickMillis);
+        Timeout timeout = new Timeout(this, task, deadlineTick);
+        link(timeout);
+        return timeout;
+    }
+
+    // Fire every timeout whose deadline has passed; returns how many fired.
+    // Tasks run on the calling thread after the wheel's lock is released.
+    public int advance() {
+        List<Timeout> due = new ArrayList<>();
+        synchronized (this) {
+            long nowTick = (clock.millis() - startMillis) / tickMillis;
+            if (nowTick - currentTick >= buckets.length) {
+                // Fell a whole rotation behind (e.g. the thread was paused): sweep each bucket once
+                for (int i = 0; i < buckets.length; i++) {
+                    collectDue(i, nowTick, due);
+                }
+                currentTick = nowTick;
+            }
+            while (currentTick < nowTick) {
+                currentTick++;
+                collectDue((int) (currentTick & mask), currentTick, due);
+            }
+        }
+        for (Timeout timeout : due) {
+            try {
+                timeout.task.run();
+            } catch (RuntimeException e) {
+                failedTasks.incrementAndGet();
+            }
+        }
+        return due.size();
+    }
+
+    // Advance on a daemon thread once per tick until close()
+    public synchronized void start() {
+        if (worker != null || closed) {
+            return;
+        }
+        worker = new Thread(() -> {
+            while (!closed) {
+                try {
+                    Thread.sleep(tickMillis);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                advance();
+            }
+        }, "timing-wheel");
+        worker.setDaemon(true);
+        worker.start();
+    }
+
+    // Number of tasks that threw when they fired
+    public long getFailedTaskCount() {
+        return failedTasks.get();
+    }
+
+    // Number of timeouts waiting to fire
+    public synchronized int size() {
+        int size = 0;
+        for (Timeout head : buckets) {
+            for (Timeout timeout = head; timeout != null; timeout = timeout.next) {
+                size++;
+            }
+        }
+        return size;
+    }
+
+    @Override
+    public synchronized void close() {
+        closed = true;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void collectDue(int bucket, long tick, List<Timeout> due) {
+        Timeout timeout = buckets[bucket];
+        while (timeout != null) {
+            Timeout next = timeout.next;
+            if (timeout.deadlineTick <= tick) {
+                unlink(timeout);
+                due.add(timeout);
+            }
+            timeout = next;
+        }
+    }
+
+    private void link(Timeout timeout) {
+        int bucket = (int) (timeout.deadlineTick & mask);
+        timeout.next = buckets[bucket];
+        if (timeout.next != null) {
+            timeout.next.prev = timeout;
+        }
+        buckets[bucket] = timeout;
+        timeout.linked = true;
+    }
+
+    private void unlink(Timeout timeout) {
+        if (timeout.prev != null) {
+            timeout.prev.next = timeout.next;
+        } else {
+            buckets[(int) (timeout.deadlineTick & mask)] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.prev = timeout.prev;
+        }
+        timeout.prev = null;
+        timeout.next = null;
+        timeout.linked = false;
+    }
+
+    // Handle for a scheduled task - a node in its bucket's doubly linked list
+    public static final class Timeout {
+        private final TimingWheel wheel;
+        private final Runnable task;
+        private final long deadlineTick;
+        private Timeout prev;
+        private Timeout next;
+        private boolean linked;
+
+        private Timeout(TimingWheel wheel, Runnable task, long deadlineTick) {
+            this.wheel = wheel;
+            this.task = task;
+            this.deadlineTick = deadlineTick;
+        }
+
+        // True if the task had not fired or been cancelled yet
+        public boolean cancel() {
+            synchronized (wheel) {
+                if (!linked) {
+                    return false;
+                }
+                wheel.unlink(this);
+                return true;
+            }
+        }
+
+        public boolean isPending() {
+            synchronized (wheel) {
+                return linked;
+            }
+        }
+    }
+}
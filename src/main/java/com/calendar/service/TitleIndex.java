@@ -0,0 +1,229 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+
+// Inverted index over event titles, kept up to date on every add/remove.
+// Words map to events for exact and prefix lookups; trigrams of each word answer substring queries
+// ("sync" finds "Standup/Sync") without scanning titles. Not thread-safe - the owning storage locks.
+//
+// The matching and ranking rules here are the searchByTitle contract for every storage: a query word
+// of three or more characters matches a title word containing it, a shorter one a title word starting
+// with it; results rank by how many query words appear as whole title words, then by start time.
+// Storages without an index apply the same rules by scanning (see scan).
+public class TitleIndex {
+
+    private final NavigableMap<String, Set<Event>> words = new TreeMap<>();
+    private final Map<String, Set<Event>> trigrams = new HashMap<>();
+
+    public void add(Event event) {
+        for (String word : tokenize(event.getTitle())) {
+            words.computeIfAbsent(word, w -> new HashSet<>()).add(event);
+            for (String trigram : trigramsOf(word)) {
+                trigrams.computeIfAbsent(trigram, t -> new HashSet<>()).add(event);
+            }
+        }
+    }
+
+    public void remove(Event event) {
+        for (String word : tokenize(event.getTitle())) {
+            removePosting(words, word, event);
+            for (String trigram : trigramsOf(word)) {
+                removePosting(trigrams, trigram, event);
+            }
+        }
+    }
+
+    public void clear() {
+        words.clear();
+        trigrams.clear();
+    }
+
+    // Events whose title contains every query word and that start in [startSecond, endSecond).
+    // Titles with more exact word matches rank first, then earlier events.
+    public List<Event> search(String query, long startSecond, long endSecond, int limit) {
+        Set<String> queryWords = tokenize(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+
+        // Resolve the rarest word first so the intersection stays small
+        List<Set<Event>> matches = new ArrayList<>();
+        for (String word : queryWords) {
+            Set<Event> wordMatches = lookup(word);
+            if (wordMatches.isEmpty()) {
+                return new ArrayList<>();
+            }
+            matches.add(wordMatches);
+        }
+        matches.sort(Comparator.comparingInt(Set::size));
+
+        TopMatches top = new TopMatches(limit);
+        for (Event event : matches.get(0)) {
+            if (event.getStartEpochSecond() < startSecond || event.getStartEpochSecond() >= endSecond) {
+                continue;
+            }
+            boolean inAll = true;
+            for (int i = 1; i < matches.size() && inAll; i++) {
+                inAll = matches.get(i).contains(event);
+            }
+            if (inAll) {
+                top.add(event, exactMatches(tokenize(event.getTitle()), queryWords));
+            }
+        }
+        return top.toList();
+    }
+
+    // The same search over events given directly instead of through an index - for storages that
+    // don't keep one. Checks every title, so cost grows with the number of events passed in.
+    static List<Event> scan(Iterable<Event> events, String query, long startSecond, long endSecond, int limit) {
+        Set<String> queryWords = tokenize(query);
+        if (queryWords.isEmpty() || limit <= 0) {
+            return new ArrayList<>();
+        }
+        TopMatches top = new TopMatches(limit);
+        for (Event event : events) {
+            if (event.getStartEpochSecond() < startSecond || event.getStartEpochSecond() >= endSecond) {
+                continue;
+            }
+            Set<String> titleWords = tokenize(event.getTitle());
+            if (queryWords.stream().allMatch(word -> matchesAny(titleWords, word))) {
+                top.add(event, exactMatches(titleWords, queryWords));
+            }
+        }
+        return top.toList();
+    }
+
+    private static boolean matchesAny(Set<String> titleWords, String queryWord) {
+        for (String titleWord : titleWords) {
+            if (queryWord.length() < 3 ? titleWord.startsWith(queryWord) : titleWord.contains(queryWord)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Events with a title word containing the query word
+    private Set<Event> lookup(String queryWord) {
+        if (queryWord.length() < 3) {
+            // Too short for trigrams - match as a word prefix using the sorted word dictionary
+            Set<Event> result = new HashSet<>();
+            for (Set<Event> events : words.subMap(queryWord, true, queryWord + Character.MAX_VALUE, false).values()) {
+                result.addAll(events);
+            }
+            return result;
+        }
+
+        Set<Event> candidates = null;
+        for (String trigram : trigramsOf(queryWord)) {
+            Set<Event> postings = trigrams.getOrDefault(trigram, Collections.emptySet());
+            if (candidates == null) {
+                candidates = new HashSet<>(postings);
+            } else {
+                candidates.retainAll(postings);
+            }
+            if (candidates.isEmpty()) {
+                return candidates;
+            }
+        }
+
+        // Trigrams can match out of order, so confirm the substring
+        candidates.removeIf(event -> !event.getTitle().toLowerCase(Locale.ROOT).contains(queryWord));
+        return candidates;
+    }
+
+    private static int exactMatches(Set<String> titleWords, Set<String> queryWords) {
+        int count = 0;
+        for (String word : queryWords) {
+            if (titleWords.contains(word)) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void removePosting(Map<String, Set<Event>> index, String key, Event event) {
+        Set<Event> postings = index.get(key);
+        if (postings != null) {
+            postings.remove(event);
+            if (postings.isEmpty()) {
+                index.remove(key);
+            }
+        }
+    }
+
+    // Lower-cased words split on anything that isn't a letter or digit
+    static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null) {
+            return tokens;
+        }
+        for (String token : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (!token.isEmpty()) {
+                tokens.add(token);
+            }
+        }
+        return tokens;
+    }
+
+    // Best `limit` matches seen so far; each event is scored once, when it is added
+    private static final class TopMatches {
+        private static final Comparator<Match> RANKING = Comparator
+            .comparingInt((Match match) -> match.exactWords).reversed()
+            .thenComparing(match -> match.event);
+
+        private final int limit;
+        private final PriorityQueue<Match> worstFirst = new PriorityQueue<>(RANKING.reversed());
+
+        TopMatches(int limit) {
+            this.limit = limit;
+        }
+
+        void add(Event event, int exactWords) {
+            worstFirst.add(new Match(event, exactWords));
+            if (worstFirst.size() > limit) {
+                worstFirst.poll();
+            }
+        }
+
+        List<Event> toList() {
+            List<Match> ranked = new ArrayList<>(worstFirst);
+            ranked.sort(RANKING);
+            List<Event> result = new ArrayList<>(ranked.size());
+            for (Match match : ranked) {
+                result.add(match.event);
+            }
+            return result;
+        }
+    }
+
+    private static final class Match {
+        final Event event;
+        final int exactWords;
+
+        Match(Event event, int exactWords) {
+            this.event = event;
+            this.exactWords = exactWords;
+        }
+    }
+
+    private static List<String> trigramsOf(String word) {
+        List<String> result = new ArrayList<>();
+        for (int i = 0; i + 3 <= word.length(); i++) {
+            result.add(word.substring(i, i + 3));
+        }
+        return result;
+    }
+}
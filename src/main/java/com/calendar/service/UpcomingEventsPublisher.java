@@ -0,0 +1,360 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Standing query for the rest of today's events (what listRemainingEventsForToday returns), kept
+// up to date incrementally instead of re-queried: adds, updates and deletes arrive as change
+// notifications, finished events drop out as the clock advances, and the day's events are loaded
+// once at midnight. Every change publishes a new window to all subscribers through Flow.
+//
+// Back-pressure: a subscriber only receives a window when it has outstanding demand, and it always
+// gets the latest one - windows published while it was busy are conflated rather than queued, so a
+// slow subscriber costs one flag, not a growing buffer.
+public class UpcomingEventsPublisher implements Flow.Publisher<List<Event>>, EventChangeListener, AutoCloseable {
+
+    private static final Comparator<Event> BY_END =
+        Comparator.comparingLong(Event::getEndEpochSecond).thenComparing(Event::getEventId);
+
+    private final Clock clock;
+    private final Executor executor;
+    private final ScheduledExecutorService ticker;
+    private final List<UpcomingSubscription> subscriptions = new CopyOnWriteArrayList<>();
+
+    // The window, guarded by this publisher's monitor: sorted for publishing, by end for expiry
+    private final TreeMap<EventKey, Event> byStart = new TreeMap<>();
+    private final TreeSet<Event> byEnd = new TreeSet<>(BY_END);
+    private final Map<EventId, Event> byId = new HashMap<>();
+    private LocalDate day;
+
+    private volatile CalendarServiceImpl service;
+    private volatile Window window = new Window(0, List.of());
+    private volatile boolean closed;
+
+    // Background refreshes that threw, and subscribers dropped for throwing
+    private final AtomicLong failedRefreshes = new AtomicLong();
+    private final AtomicLong failedSubscribers = new AtomicLong();
+
+    public UpcomingEventsPublisher() {
+        this(Clock.systemDefaultZone(), ForkJoinPool.commonPool());
+    }
+
+    // Subscribers are signalled on the executor, one task at a time per subscriber
+    public UpcomingEventsPublisher(Clock clock, Executor executor) {
+        if (clock == null || executor == null) {
+            throw new IllegalArgumentException("Clock and executor cannot be null");
+        }
+        this.clock = clock;
+        this.executor = executor;
+        this.ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "upcoming-events");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    // Load today's remaining events from the service and follow its changes from now on
+    public void watch(CalendarServiceImpl service) {
+        if (service == null) {
+            throw new IllegalArgumentException("Service cannot be null");
+        }
+        this.service = service;
+        // Registering and loading under the write lock means no change slips in between
+        service.runExclusive(() -> {
+            service.addChangeListener(this);
+            synchronized (this) {
+                reload(today(service));
+                expire();
+                publish();
+            }
+        });
+    }
+
+    // Advance the window with the clock every interval until close()
+    public void start(Duration interval) {
+        if (interval == null || interval.isZero() || interval.isNegative()) {
+            throw new IllegalArgumentException("Interval must be positive");
+        }
+        ticker.scheduleWithFixedDelay(() -> {
+            try {
+                advance();
+            } catch (RuntimeException e) {
+                // The next tick tries again
+                failedRefreshes.incrementAndGet();
+            }
+        }, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    // Drop events that have ended and roll over to the next day; publishes only if something changed
+    public void advance() {
+        CalendarServiceImpl watched = service;
+        if (watched == null) {
+            return;
+        }
+        LocalDate today = today(watched);
+        boolean rollover;
+        synchronized (this) {
+            rollover = !today.equals(day);
+            if (!rollover) {
+                if (expire()) {
+                    publish();
+                }
+                return;
+            }
+        }
+        // Same lock order as change notifications: service write lock, then this publisher
+        watched.runExclusive(() -> {
+            synchronized (this) {
+                reload(today);
+                expire();
+                publish();
+            }
+        });
+    }
+
+    // The current window, as the subscribers see it
+    public List<Event> getUpcomingEvents() {
+        return window.events;
+    }
+
+    public int getSubscriberCount() {
+        return subscriptions.size();
+    }
+
+    public long getFailedRefreshCount() {
+        return failedRefreshes.get();
+    }
+
+    public long getFailedSubscriberCount() {
+        return failedSubscribers.get();
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super List<Event>> subscriber) {
+        if (subscriber == null) {
+            throw new NullPointerException("Subscriber cannot be null");
+        }
+        UpcomingSubscription subscription = new UpcomingSubscription(subscriber);
+        subscriptions.add(subscription);
+        subscription.signal();
+    }
+
+    @Override
+    public void onEventAdded(Event event) {
+        synchronized (this) {
+            if (insert(event)) {
+                publish();
+            }
+        }
+    }
+
+    @Override
+    public void onEventUpdated(Event previous, Event updated) {
+        synchronized (this) {
+            boolean removed = remove(previous.getEventId());
+            if (insert(updated) || removed) {
+                publish();
+            }
+        }
+    }
+
+    @Override
+    public void onEventDeleted(Event event) {
+        synchronized (this) {
+            if (remove(event.getEventId())) {
+                publish();
+            }
+        }
+    }
+
+    @Override
+    public void onAllEventsCleared() {
+        synchronized (this) {
+            byStart.clear();
+            byEnd.clear();
+            byId.clear();
+            publish();
+        }
+    }
+
+    // Stop following the service and complete every subscriber
+    @Override
+    public void close() {
+        closed = true;
+        ticker.shutdownNow();
+        CalendarServiceImpl watched = service;
+        if (watched != null) {
+            watched.removeChangeListener(this);
+        }
+        for (UpcomingSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    // Today on the calendar's days, so the window matches what the service lists for the date
+    private LocalDate today(CalendarServiceImpl watched) {
+        return LocalDate.ofInstant(clock.instant(), watched.getZone());
+    }
+
+    private void reload(LocalDate today) {
+        day = today;
+        byStart.clear();
+        byEnd.clear();
+        byId.clear();
+        for (Event event : service.listEventsForDate(today.atStartOfDay())) {
+            insert(event);
+        }
+    }
+
+    private boolean expire() {
+        long now = clock.instant().getEpochSecond();
+        boolean changed = false;
+        while (!byEnd.isEmpty() && byEnd.first().getEndEpochSecond() <= now) {
+            remove(byEnd.first().getEventId());
+            changed = true;
+        }
+        return changed;
+    }
+
+    private boolean insert(Event event) {
+        if (day == null || !event.coversDate(day, service.getZone()) || event.getEndEpochSecond() <= clock.instant().getEpochSecond()) {
+            return false;
+        }
+        remove(event.getEventId());
+        byStart.put(EventKey.of(event), event);
+        byEnd.add(event);
+        byId.put(event.getEventId(), event);
+        return true;
+    }
+
+    private boolean remove(EventId eventId) {
+        Event event = byId.remove(eventId);
+        if (event == null) {
+            return false;
+        }
+        byStart.remove(EventKey.of(event));
+        byEnd.remove(event);
+        return true;
+    }
+
+    private void publish() {
+        window = new Window(window.version + 1, List.copyOf(byStart.values()));
+        for (UpcomingSubscription subscription : subscriptions) {
+            subscription.signal();
+        }
+    }
+
+    // One published state of the window; the version tells a subscriber whether it has seen it
+    private static final class Window {
+        final long version;
+        final List<Event> events;
+
+        Window(long version, List<Event> events) {
+            this.version = version;
+            this.events = events;
+        }
+    }
+
+    // Signals to one subscriber are serialised by a work-in-progress counter: whoever bumps it from
+    // zero schedules a drain on the executor, and the drain loops until no signal was missed
+    private final class UpcomingSubscription implements Flow.Subscription, Runnable {
+        private final Flow.Subscriber<? super List<Event>> subscriber;
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger wip = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        // Only touched by the draining task
+        private boolean subscribed;
+        private long sentVersion = -1;
+
+        UpcomingSubscription(Flow.Subscriber<? super List<Event>> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested count must be positive: " + n);
+            } else {
+                demand.getAndAccumulate(n, (current, added) -> {
+                    long sum = current + added;
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+            signal();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            subscriptions.remove(this);
+        }
+
+        void signal() {
+            if (wip.getAndIncrement() == 0) {
+                executor.execute(this);
+            }
+        }
+
+        @Override
+        public void run() {
+            int missed = 1;
+            do {
+                try {
+                    drain();
+                } catch (RuntimeException e) {
+                    // A throwing subscriber is dropped rather than taking the publisher down
+                    cancel();
+                    failedSubscribers.incrementAndGet();
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void drain() {
+            if (cancelled) {
+                return;
+            }
+            if (!subscribed) {
+                subscribed = true;
+                subscriber.onSubscribe(this);
+            }
+            if (error != null) {
+                cancel();
+                subscriber.onError(error);
+                return;
+            }
+            Window current = window;
+            if (current.version != sentVersion && demand.get() > 0) {
+                sentVersion = current.version;
+                if (demand.get() != Long.MAX_VALUE) {
+                    demand.decrementAndGet();
+                }
+                subscriber.onNext(current.events);
+            }
+            if (closed && !cancelled) {
+                cancel();
+                subscriber.onComplete();
+            }
+        }
+    }
+}
@@ -0,0 +1,418 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+// Multi-versioned storage for point-in-time queries ("what did the schedule look like yesterday at
+// 10:00"). Every mutation commits a new version number; each event keeps a newest-first chain of
+// its versions (a deleted event ends in a tombstone), and a timeline maps commit times to versions.
+//
+// Current reads go to a plain InMemoryEventStorage kept up to date by the writes, so they cost what
+// they always did. Historical reads (the asOf overloads) walk the version chains without any lock:
+// chains only ever gain new heads, and a version becomes visible only once its whole mutation is
+// applied. collectGarbage() drops versions that fell out of the retention window, keeping the one
+// visible at the horizon, so reads within the window still see every event. It raises the oldest
+// queryable version before cutting any chain, and a read re-checks that floor after its walk: a
+// read that raced with a cut below its version fails like any read of a collected version, rather
+// than returning a partial result.
+public class VersionedEventStorage implements EventStorage {
+
+    private final InMemoryEventStorage current;
+    private final Duration retention;
+    private final Clock clock;
+
+    // Event ID -> newest version of it
+    private final Map<EventId, Version> chains = new ConcurrentHashMap<>();
+
+    // Epoch day -> IDs with a retained version covering that day
+    private final Map<Long, Set<EventId>> idsByDay = new ConcurrentHashMap<>();
+
+    // Commit time (epoch millis) -> last version committed at that time
+    private final ConcurrentSkipListMap<Long, Long> timeline = new ConcurrentSkipListMap<>();
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private volatile long currentVersion;
+    private volatile long oldestVersion;
+
+    public VersionedEventStorage() {
+        this(Duration.ofDays(7), Clock.systemDefaultZone());
+    }
+
+    public VersionedEventStorage(Duration retention, Clock clock) {
+        this(retention, clock, ZoneId.systemDefault());
+    }
+
+    // Days (findByDate, current and as-of) are those of the given zone
+    public VersionedEventStorage(Duration retention, Clock clock, ZoneId zone) {
+        if (retention == null || retention.isNegative()) {
+            throw new IllegalArgumentException("Retention cannot be negative");
+        }
+        if (clock == null) {
+            throw new IllegalArgumentException("Clock cannot be null");
+        }
+        if (zone == null) {
+            throw new IllegalArgumentException("Zone cannot be null");
+        }
+        this.retention = retention;
+        this.clock = clock;
+        this.current = new InMemoryEventStorage(zone);
+    }
+
+    @Override
+    public void save(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        commit(version -> {
+            current.save(event);
+            record(event.getEventId(), event, version);
+        });
+    }
+
+    // The whole batch becomes one version
+    @Override
+    public void saveAll(Collection<Event> events) {
+        commit(version -> {
+            current.saveAll(events);
+            events.forEach(event -> record(event.getEventId(), event, version));
+        });
+    }
+
+    @Override
+    public boolean update(Event event) {
+        if (event == null) {
+            throw new IllegalArgumentException("Event cannot be null");
+        }
+        boolean[] updated = new boolean[1];
+        commit(version -> {
+            updated[0] = current.update(event);
+            if (updated[0]) {
+                record(event.getEventId(), event, version);
+            }
+        });
+        return updated[0];
+    }
+
+    @Override
+    public boolean delete(String eventId) {
+        boolean[] deleted = new boolean[1];
+        commit(version -> {
+            deleted[0] = current.delete(eventId);
+            if (deleted[0]) {
+                record(EventId.of(eventId), null, version);
+            }
+        });
+        return deleted[0];
+    }
+
+    @Override
+    public List<Event> deleteBetween(Instant start, Instant end) {
+        return deleteWhere(event -> true, start, end);
+    }
+
+    @Override
+    public List<Event> deleteWhere(Predicate<Event> predicate, Instant start, Instant end) {
+        List<Event> removed = new ArrayList<>();
+        commit(version -> {
+            removed.addAll(current.deleteWhere(predicate, start, end));
+            removed.forEach(event -> record(event.getEventId(), null, version));
+        });
+        return removed;
+    }
+
+    @Override
+    public void clear() {
+        commit(version -> {
+            List<Event> all = current.findAll();
+            current.clear();
+            all.forEach(event -> record(event.getEventId(), null, version));
+        });
+    }
+
+    @Override
+    public List<Event> findAll() {
+        return current.findAll();
+    }
+
+    @Override
+    public List<Event> findByDate(LocalDate date) {
+        return current.findByDate(date);
+    }
+
+    @Override
+    public Optional<Event> findById(String eventId) {
+        return current.findById(eventId);
+    }
+
+    @Override
+    public List<Event> findBetween(Instant start, Instant end) {
+        return current.findBetween(start, end);
+    }
+
+    @Override
+    public List<Event> findOverlapping(Event event) {
+        return current.findOverlapping(event);
+    }
+
+    @Override
+    public List<Event> searchByTitle(String query, Instant start, Instant end, int limit) {
+        return current.searchByTitle(query, start, end, limit);
+    }
+
+    @Override
+    public List<Event> findByTags(Collection<String> tags, boolean matchAll, LocalDate from, LocalDate to) {
+        return current.findByTags(tags, matchAll, from, to);
+    }
+
+    @Override
+    public List<Event> findByAttendee(String attendee, Instant start, Instant end) {
+        return current.findByAttendee(attendee, start, end);
+    }
+
+    @Override
+    public int count() {
+        return current.count();
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return current.getZone();
+    }
+
+    // Latest committed version; 0 before the first write
+    public long getCurrentVersion() {
+        return currentVersion;
+    }
+
+    // Oldest version that can still be queried
+    public long getOldestVersion() {
+        return oldestVersion;
+    }
+
+    // Version that was current at the given time
+    public long versionAt(Instant asOf) {
+        if (asOf == null) {
+            throw new IllegalArgumentException("Time cannot be null");
+        }
+        Map.Entry<Long, Long> entry = timeline.floorEntry(asOf.toEpochMilli());
+        long version = entry == null ? 0 : entry.getValue();
+        return Math.min(version, currentVersion);
+    }
+
+    public List<Event> findAll(long asOfVersion) {
+        checkQueryable(asOfVersion);
+        List<Event> events = new ArrayList<>();
+        for (Version head : chains.values()) {
+            Event event = visibleAt(head, asOfVersion);
+            if (event != null) {
+                events.add(event);
+            }
+        }
+        checkQueryable(asOfVersion);
+        events.sort(null);
+        return events;
+    }
+
+    public List<Event> findAll(Instant asOf) {
+        return findAll(versionAt(asOf));
+    }
+
+    public List<Event> findByDate(LocalDate date, long asOfVersion) {
+        checkQueryable(asOfVersion);
+        List<Event> events = new ArrayList<>();
+        for (EventId eventId : idsByDay.getOrDefault(date.toEpochDay(), Set.of())) {
+            Version head = chains.get(eventId);
+            Event event = head == null ? null : visibleAt(head, asOfVersion);
+            if (event != null && event.coversDate(date, current.getZone())) {
+                events.add(event);
+            }
+        }
+        checkQueryable(asOfVersion);
+        events.sort(null);
+        return events;
+    }
+
+    public List<Event> findByDate(LocalDate date, Instant asOf) {
+        return findByDate(date, versionAt(asOf));
+    }
+
+    public Optional<Event> findById(String eventId, long asOfVersion) {
+        checkQueryable(asOfVersion);
+        Version head = chains.get(EventId.of(eventId));
+        Event event = head == null ? null : visibleAt(head, asOfVersion);
+        checkQueryable(asOfVersion);
+        return Optional.ofNullable(event);
+    }
+
+    // Drop versions committed before the retention window, except the one each event had at the
+    // horizon. Takes the write lock one event at a time, so writers only ever wait for a single
+    // chain. Returns how many versions were removed.
+    public int collectGarbage() {
+        long horizonVersion = versionAt(clock.instant().minus(retention));
+        if (horizonVersion <= oldestVersion) {
+            return 0;
+        }
+        // Raise the floor first, so no new query starts below the horizon while chains are cut
+        oldestVersion = horizonVersion;
+        int removed = 0;
+        for (EventId eventId : new ArrayList<>(chains.keySet())) {
+            writeLock.lock();
+            try {
+                removed += prune(eventId, horizonVersion);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+        // Keep the timeline entry for the horizon itself; earlier times are no longer queryable
+        Long horizonKey = timeline.floorKey(clock.instant().minus(retention).toEpochMilli());
+        if (horizonKey != null) {
+            timeline.headMap(horizonKey).clear();
+        }
+        return removed;
+    }
+
+    // Number of versions held, current ones included
+    public int getVersionCount() {
+        int count = 0;
+        for (Version head : chains.values()) {
+            for (Version version = head; version != null; version = version.previous) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // Days the as-of day index still has entries for
+    public int getIndexedDayCount() {
+        return idsByDay.size();
+    }
+
+    private interface Mutation {
+        void apply(long version);
+    }
+
+    // Apply a mutation as the next version; the version is published only after it is fully applied
+    private void commit(Mutation mutation) {
+        writeLock.lock();
+        try {
+            long version = currentVersion + 1;
+            mutation.apply(version);
+            timeline.put(clock.millis(), version);
+            currentVersion = version;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void record(EventId eventId, Event event, long version) {
+        Version head = chains.get(eventId);
+        if (head != null && head.version == version) {
+            // Same ID twice in one batch - the later write wins
+            head = head.previous;
+        }
+        chains.put(eventId, new Version(version, event, head));
+        if (event != null) {
+            ZoneId zone = current.getZone();
+            for (LocalDate date = event.getFirstDate(zone); !date.isAfter(event.getLastDate(zone)); date = date.plusDays(1)) {
+                idsByDay.computeIfAbsent(date.toEpochDay(), day -> ConcurrentHashMap.newKeySet()).add(eventId);
+            }
+        }
+    }
+
+    private int prune(EventId eventId, long horizonVersion) {
+        Version head = chains.get(eventId);
+        Version kept = head;
+        while (kept != null && kept.version > horizonVersion) {
+            kept = kept.previous;
+        }
+        if (kept == null) {
+            return 0;
+        }
+        int removed = 0;
+        Set<Long> droppedDays = new HashSet<>();
+        for (Version version = kept.previous; version != null; version = version.previous) {
+            droppedDays.addAll(days(version.event));
+            removed++;
+        }
+        kept.previous = null;
+        if (kept == head && kept.event == null) {
+            // Deleted before the horizon: nothing left to see at any queryable version
+            chains.remove(eventId);
+            removed++;
+        } else {
+            for (Version version = head; version != null; version = version.previous) {
+                droppedDays.removeAll(days(version.event));
+            }
+        }
+        for (Long day : droppedDays) {
+            Set<EventId> ids = idsByDay.get(day);
+            if (ids != null) {
+                ids.remove(eventId);
+                // Writers hold the write lock here, so nothing is added to the set meanwhile
+                if (ids.isEmpty()) {
+                    idsByDay.remove(day);
+                }
+            }
+        }
+        return removed;
+    }
+
+    // Called before a historical read, and again after it in case collectGarbage() raised the floor
+    // past the version and cut chains while the read was walking them
+    private void checkQueryable(long version) {
+        if (version < oldestVersion) {
+            throw new IllegalArgumentException("Version " + version + " is older than the retention window");
+        }
+        if (version > currentVersion) {
+            throw new IllegalArgumentException("Version " + version + " has not been committed yet");
+        }
+    }
+
+    private static Event visibleAt(Version head, long version) {
+        Version candidate = head;
+        while (candidate != null && candidate.version > version) {
+            candidate = candidate.previous;
+        }
+        return candidate == null ? null : candidate.event;
+    }
+
+    private Set<Long> days(Event event) {
+        Set<Long> days = new HashSet<>();
+        if (event != null) {
+            ZoneId zone = current.getZone();
+            for (LocalDate date = event.getFirstDate(zone); !date.isAfter(event.getLastDate(zone)); date = date.plusDays(1)) {
+                days.add(date.toEpochDay());
+            }
+        }
+        return days;
+    }
+
+    // One version of an event; a null event is a tombstone
+    private static final class Version {
+        final long version;
+        final Event event;
+        volatile Version previous;
+
+        Version(long version, Event event, Version previous) {
+            this.version = version;
+            this.event = event;
+            this.previous = previous;
+        }
+    }
+}
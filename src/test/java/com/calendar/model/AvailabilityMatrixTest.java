@@ -0,0 +1,34 @@
+package com.calendar.model;
+
+import org.junit.jupiter.api.Test;
+import java.time.LocalDate;
+import static org.junit.jupiter.api.Assertions.*;
+
+class AvailabilityMatrixTest {
+
+    private final AvailabilityMatrix matrix = new AvailabilityMatrix(
+        LocalDate.of(2025, 12, 15), 2, new int[] {30, 60}, new int[] {4, 2, 6, 3});
+
+    @Test
+    void testGetCount_ByDateAndDuration() {
+        assertEquals(2, matrix.getCount(LocalDate.of(2025, 12, 15), 60));
+        assertEquals(6, matrix.getCount(LocalDate.of(2025, 12, 16), 30));
+        assertEquals(LocalDate.of(2025, 12, 16), matrix.getEndDate());
+    }
+
+    @Test
+    void testGetTotal() {
+        assertEquals(10, matrix.getTotal(30));
+        assertEquals(5, matrix.getTotal(60));
+    }
+
+    @Test
+    void testGetCount_OutsideRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            matrix.getCount(LocalDate.of(2025, 12, 17), 30)
+        );
+        assertThrows(IllegalArgumentException.class, () ->
+            matrix.getCount(LocalDate.of(2025, 12, 15), 45)
+        );
+    }
+}
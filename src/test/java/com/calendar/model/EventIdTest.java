@@ -0,0 +1,113 @@
+package com.calendar.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventIdTest {
+
+    @Test
+    void testNext_StrictlyIncreasingWithinThread() {
+        List<EventId> ids = new ArrayList<>();
+        // Start from this thread's current clock state so earlier IDs don't interfere
+        long millis = EventId.next().getTimestamp() + 1;
+        // Same millisecond, then a clock step back - order must still hold
+        for (int i = 0; i < 1000; i++) {
+            ids.add(EventId.next(millis));
+        }
+        ids.add(EventId.next(millis - 5));
+        ids.add(EventId.next(millis + 10));
+
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1).compareTo(ids.get(i)) < 0);
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+        assertEquals(millis + 10, ids.get(ids.size() - 1).getTimestamp());
+    }
+
+    @Test
+    void testSequenceOverflow_BorrowsNextMillisecond() {
+        long millis = EventId.next().getTimestamp() + 1;
+        EventId last = null;
+        for (int i = 0; i <= 0x10000; i++) {
+            last = EventId.next(millis);
+        }
+        assertEquals(millis + 1, last.getTimestamp());
+    }
+
+    @Test
+    void testToStringParse_RoundTrip() {
+        EventId id = EventId.next();
+        String text = id.toString();
+
+        assertEquals(26, text.length());
+        assertSame(text, id.toString());
+        assertEquals(id, EventId.parse(text));
+        assertEquals(id, EventId.parse(text.toLowerCase()));
+        assertThrows(IllegalArgumentException.class, () -> EventId.parse("not-an-id"));
+        assertThrows(IllegalArgumentException.class, () -> EventId.parse("8" + text.substring(1)));
+    }
+
+    @Test
+    void testOf_CanonicalTextIsBinary() {
+        EventId id = EventId.next();
+        String text = new String(id.toString().toCharArray());
+        EventId supplied = EventId.of(text);
+
+        assertTrue(supplied.isBinary());
+        assertEquals(id, supplied);
+        assertEquals(id.hashCode(), supplied.hashCode());
+        assertEquals(0, id.compareTo(supplied));
+        assertSame(text, supplied.toString());
+        assertEquals(id.getTimestamp(), supplied.getTimestamp());
+    }
+
+    @Test
+    void testOf_OtherTextIsOpaque() {
+        EventId id = EventId.next();
+        EventId lowerCase = EventId.of(id.toString().toLowerCase());
+        EventId named = EventId.of("standup-42");
+
+        assertFalse(lowerCase.isBinary());
+        assertNotEquals(id, lowerCase);
+        assertEquals(named, EventId.of("standup-42"));
+        assertEquals("standup-42".hashCode(), named.hashCode());
+        assertEquals("standup-42", named.toString());
+        assertFalse(EventId.of("8" + id.toString().substring(1)).isBinary());
+        assertThrows(IllegalStateException.class, named::getTimestamp);
+        assertThrows(IllegalArgumentException.class, () -> EventId.of(null));
+    }
+
+    @Test
+    void testCompareTo_MatchesTextOrder() {
+        List<EventId> ids = new ArrayList<>();
+        ids.add(EventId.next());
+        ids.add(EventId.of("standup-42"));
+        ids.add(EventId.of("0"));
+        ids.add(EventId.next());
+        ids.add(EventId.of(ids.get(0).toString().toLowerCase()));
+        for (EventId a : ids) {
+            for (EventId b : ids) {
+                assertEquals(Integer.signum(a.toString().compareTo(b.toString())), Integer.signum(a.compareTo(b)));
+            }
+        }
+    }
+
+    @Test
+    void testNext_UniqueAcrossThreads() {
+        Set<EventId> ids = ConcurrentHashMap.newKeySet();
+        IntStream.range(0, 50_000).parallel().forEach(i -> ids.add(EventId.next()));
+        assertEquals(50_000, ids.size());
+
+        Set<String> texts = new HashSet<>();
+        ids.forEach(id -> texts.add(id.toString()));
+        assertEquals(50_000, texts.size());
+    }
+}
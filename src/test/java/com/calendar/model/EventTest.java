@@ -2,7 +2,12 @@ package com.calendar.model;
 
 import com.calendar.exception.InvalidEventException;
 import org.junit.jupiter.api.Test;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
 import static org.junit.jupiter.api.Assertions.*;
 
 class EventTest {
@@ -137,6 +142,39 @@ class EventTest {
         assertEquals(event1, event2);
     }
 
+    @Test
+    void testEquals_GeneratedIdMatchesSameIdAsText() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 15, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 12, 15, 11, 0);
+        Event generated = new Event("Meeting", start, end);
+        Event moved = generated.withTimes(start.plusHours(2), end.plusHours(2));
+        Event reloaded = new Event(generated.getId(), "Meeting", start, end);
+
+        assertEquals(generated, moved);
+        assertEquals(generated.getId(), moved.getId());
+        assertEquals(generated, reloaded);
+        assertEquals(reloaded, generated);
+        assertEquals(generated.hashCode(), reloaded.hashCode());
+        assertEquals(generated.getEventId(), reloaded.getEventId());
+        assertTrue(reloaded.getEventId().isBinary());
+        assertEquals(26, generated.getId().length());
+    }
+
+    @Test
+    void testEquals_SuppliedIdKeptAsGiven() {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 15, 10, 0);
+        LocalDateTime end = LocalDateTime.of(2025, 12, 15, 11, 0);
+        Event generated = new Event("Meeting", start, end);
+        String lowerCase = generated.getId().toLowerCase();
+        Event supplied = new Event(lowerCase, "Meeting", start, end);
+
+        assertEquals(lowerCase, supplied.getId());
+        assertFalse(supplied.getEventId().isBinary());
+        assertNotEquals(generated, supplied);
+        assertEquals(supplied, new Event(lowerCase, "Other", start, end));
+        assertThrows(InvalidEventException.class, () -> new Event(" ", "Meeting", start, end));
+    }
+
     @Test
     void testToString_ContainsTitleAndTime() {
         Event event = Event.create("Team Meeting",
@@ -161,4 +199,104 @@ class EventTest {
 
         assertNotEquals(event1, event2);
     }
+
+    @Test
+    void testOverlapsWith_AcrossZones() {
+        Event newYork = Event.create("New York",
+            LocalDateTime.of(2025, 12, 15, 10, 0).atZone(ZoneId.of("America/New_York")),
+            LocalDateTime.of(2025, 12, 15, 11, 0).atZone(ZoneId.of("America/New_York")));
+
+        // 15:30 London is 10:30 New York
+        Event london = Event.create("London",
+            LocalDateTime.of(2025, 12, 15, 15, 30).atZone(ZoneId.of("Europe/London")),
+            LocalDateTime.of(2025, 12, 15, 16, 30).atZone(ZoneId.of("Europe/London")));
+
+        assertTrue(newYork.overlapsWith(london));
+        assertTrue(newYork.compareTo(london) < 0);
+    }
+
+    @Test
+    void testDuration_AcrossDstChange() {
+        // Clocks go back an hour at 02:00 on 11-02-2025 in New York
+        Event overnight = new Event("id1", "Overnight",
+            LocalDateTime.of(2025, 11, 2, 0, 0),
+            LocalDateTime.of(2025, 11, 2, 4, 0),
+            ZoneId.of("America/New_York"));
+
+        assertEquals(300, overnight.getDurationInMinutes());
+    }
+
+    @Test
+    void testCreate_InsideDstOverlapKeepsInstants() {
+        // 01:00-02:00 happens twice in New York on 11-03-2024: 05:00-06:00Z, then 06:00-07:00Z
+        ZoneId newYork = ZoneId.of("America/New_York");
+        Instant secondPass = Instant.parse("2024-11-03T06:30:00Z");
+        Event late = Event.create("Late", secondPass, Instant.parse("2024-11-03T07:30:00Z"), newYork);
+        Event early = Event.create("Early", Instant.parse("2024-11-03T05:30:00Z"), secondPass, newYork);
+
+        assertEquals(secondPass, late.getStartInstant());
+        assertEquals(60, late.getDurationInMinutes());
+        // Same wall-clock start and end, yet a valid hour-long event
+        assertEquals(early.getStartTime(), early.getEndTime());
+        assertEquals(60, early.getDurationInMinutes());
+        assertEquals(secondPass, early.withTags(Set.of("x")).getEndInstant());
+    }
+
+    @Test
+    void testEventCreation_NullZone() {
+        assertThrows(InvalidEventException.class, () ->
+            new Event("id1", "Meeting",
+                LocalDateTime.of(2025, 12, 15, 10, 0),
+                LocalDateTime.of(2025, 12, 15, 11, 0),
+                null)
+        );
+    }
+
+    @Test
+    void testIsOnDate_MultiDayEvent() {
+        Event offsite = Event.create("Offsite",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 17, 17, 0));
+
+        assertTrue(offsite.isOnDate(LocalDateTime.of(2025, 12, 16, 0, 0)));
+        assertTrue(offsite.coversDate(LocalDate.of(2025, 12, 17)));
+        assertFalse(offsite.coversDate(LocalDate.of(2025, 12, 18)));
+    }
+
+    @Test
+    void testGetLastDate_EndingAtMidnight() {
+        Event evening = Event.create("Evening",
+            LocalDateTime.of(2025, 12, 15, 22, 0),
+            LocalDateTime.of(2025, 12, 16, 0, 0));
+
+        assertEquals(LocalDate.of(2025, 12, 15), evening.getLastDate());
+        assertFalse(evening.coversDate(LocalDate.of(2025, 12, 16)));
+    }
+
+    @Test
+    void testTags_NormalizedAndKeptWhenMoved() {
+        Event event = Event.create("Interview",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)).withTags(Set.of(" Interview", "On-Call"));
+
+        Event moved = event.withTimes(
+            LocalDateTime.of(2025, 12, 16, 10, 0),
+            LocalDateTime.of(2025, 12, 16, 11, 0));
+
+        assertEquals(Set.of("interview", "on-call"), moved.getTags());
+        assertTrue(moved.hasTag("INTERVIEW"));
+        assertFalse(moved.hasTag("1:1"));
+    }
+
+    @Test
+    void testAttendees_NormalizedDedupedAndOrdered() {
+        Event event = Event.create("Planning",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)).withAttendees(List.of("Bob", "alice ", "bob"));
+
+        assertEquals(List.of("bob", "alice"), event.getAttendees());
+        assertTrue(event.hasAttendee("ALICE"));
+        assertEquals(event.getAttendees(), event.withTags(Set.of("x")).getAttendees());
+        assertThrows(InvalidEventException.class, () -> event.withAttendees(List.of(" ")));
+    }
 }
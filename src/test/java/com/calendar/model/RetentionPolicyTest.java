@@ -0,0 +1,37 @@
+package com.calendar.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.Period;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetentionPolicyTest {
+
+    @Test
+    void testCutoff_UsesCalendarMonths() {
+        RetentionPolicy policy = RetentionPolicy.keepMonths(3);
+
+        assertEquals(Instant.parse("2025-03-30T12:00:00Z"),
+            policy.cutoff(Instant.parse("2025-06-30T12:00:00Z"), ZoneOffset.UTC));
+        assertEquals(Period.ofMonths(3), policy.getKeepFor());
+    }
+
+    @Test
+    void testWithBatchSize_ReturnsCopy() {
+        RetentionPolicy policy = RetentionPolicy.keepFor(Period.ofDays(30));
+        RetentionPolicy batched = policy.withBatchSize(50);
+
+        assertEquals(50, batched.getBatchSize());
+        assertNotEquals(50, policy.getBatchSize());
+    }
+
+    @Test
+    void testInvalidValues() {
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.keepFor(Period.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.keepMonths(-1));
+        assertThrows(IllegalArgumentException.class, () -> RetentionPolicy.keepMonths(1).withBatchSize(0));
+    }
+}
@@ -0,0 +1,48 @@
+package com.calendar.model;
+
+import org.junit.jupiter.api.Test;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import static org.junit.jupiter.api.Assertions.*;
+
+class WorkingHoursPolicyTest {
+
+    @Test
+    void testStandard_EveryDayNineToSix() {
+        WorkingHoursPolicy policy = WorkingHoursPolicy.standard();
+
+        assertTrue(policy.isWorkingDay(LocalDate.of(2025, 12, 14)));
+        assertEquals(LocalTime.of(9, 0), policy.getStart(DayOfWeek.SUNDAY));
+        assertEquals(LocalTime.of(18, 0), policy.getEnd(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    void testWeekdays_WeekendOff() {
+        WorkingHoursPolicy policy = WorkingHoursPolicy.weekdays(LocalTime.of(8, 0), LocalTime.of(16, 0));
+
+        assertFalse(policy.isWorkingDay(LocalDate.of(2025, 12, 13)));
+        assertTrue(policy.isWorkingDay(LocalDate.of(2025, 12, 15)));
+        assertNull(policy.getStart(DayOfWeek.SATURDAY));
+    }
+
+    @Test
+    void testWithMethods_ReturnCopies() {
+        WorkingHoursPolicy base = WorkingHoursPolicy.standard();
+        WorkingHoursPolicy changed = base
+            .withHoliday(LocalDate.of(2025, 12, 25))
+            .withBreak(LocalTime.of(12, 0), LocalTime.of(13, 0));
+
+        assertTrue(base.isWorkingDay(LocalDate.of(2025, 12, 25)));
+        assertFalse(changed.isWorkingDay(LocalDate.of(2025, 12, 25)));
+        assertTrue(base.getBreaks().isEmpty());
+        assertEquals(1, changed.getBreaks().size());
+    }
+
+    @Test
+    void testInvalidRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            WorkingHoursPolicy.of(LocalTime.of(18, 0), LocalTime.of(9, 0))
+        );
+    }
+}
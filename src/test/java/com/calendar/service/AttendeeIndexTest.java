@@ -0,0 +1,67 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AttendeeIndexTest {
+
+    private AttendeeIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new AttendeeIndex();
+    }
+
+    private static Event event(String title, int day, int startHour, int endHour, String... attendees) {
+        return new Event(title + "-id", title,
+            LocalDateTime.of(2025, 12, day, startHour, 0),
+            LocalDateTime.of(2025, 12, day, endHour, 0), ZoneOffset.UTC).withAttendees(List.of(attendees));
+    }
+
+    private static long epoch(int day, int hour) {
+        return LocalDateTime.of(2025, 12, day, hour, 0).toEpochSecond(ZoneOffset.UTC);
+    }
+
+    @Test
+    void testFind_OnlyThatAttendeesEventsInRange() {
+        Event standup = event("Standup", 15, 9, 10, "alice", "bob");
+        Event review = event("Review", 15, 14, 15, "alice");
+        Event lunch = event("Lunch", 15, 12, 13, "bob");
+        Event nextWeek = event("Planning", 22, 9, 10, "alice");
+        index.add(standup);
+        index.add(review);
+        index.add(lunch);
+        index.add(nextWeek);
+
+        assertEquals(List.of(standup, review), index.find("Alice", epoch(15, 0), epoch(16, 0)));
+        assertEquals(List.of(standup, lunch), index.find("bob", epoch(15, 0), epoch(16, 0)));
+        assertTrue(index.find("carol", epoch(15, 0), epoch(16, 0)).isEmpty());
+    }
+
+    @Test
+    void testFind_LongEventReachingIntoRange() {
+        Event offsite = new Event("offsite", "Offsite",
+            LocalDateTime.of(2025, 12, 14, 9, 0),
+            LocalDateTime.of(2025, 12, 16, 17, 0), ZoneOffset.UTC).withAttendees(List.of("alice"));
+        index.add(offsite);
+
+        assertEquals(List.of(offsite), index.find("alice", epoch(15, 10), epoch(15, 11)));
+    }
+
+    @Test
+    void testRemove_DropsEventFromEveryAttendee() {
+        Event standup = event("Standup", 15, 9, 10, "alice", "bob");
+        index.add(standup);
+        index.remove(standup);
+
+        assertTrue(index.find("alice", epoch(15, 0), epoch(16, 0)).isEmpty());
+        assertTrue(index.find("bob", epoch(15, 0), epoch(16, 0)).isEmpty());
+    }
+}
@@ -0,0 +1,148 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.TimeSlot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CachingSlotFinderTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 15);
+
+    private EventStorage storage;
+    private CountingSlotFinder delegate;
+    private CachingSlotFinder slotFinder;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryEventStorage();
+        delegate = new CountingSlotFinder(new StandardSlotFinder(storage));
+        slotFinder = new CachingSlotFinder(delegate, 2);
+    }
+
+    @Test
+    void testRepeatQuery_ServedFromCache() {
+        List<TimeSlot> first = slotFinder.findAllAvailableSlots(60, DAY);
+        List<TimeSlot> second = slotFinder.findAllAvailableSlots(60, DAY);
+
+        assertSame(first, second);
+        assertEquals(1, delegate.calls);
+    }
+
+    @Test
+    void testDifferentDuration_NotShared() {
+        slotFinder.findAllAvailableSlots(60, DAY);
+        slotFinder.findAllAvailableSlots(30, DAY);
+
+        assertEquals(2, delegate.calls);
+    }
+
+    @Test
+    void testInvalidate_OnlyDropsThatDay() {
+        LocalDate otherDay = DAY.plusDays(1);
+        slotFinder.findAllAvailableSlots(60, DAY);
+        slotFinder.findAllAvailableSlots(60, otherDay);
+
+        storage.save(Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 10, 0)));
+        slotFinder.invalidate(DAY);
+
+        Optional<TimeSlot> next = slotFinder.findNextAvailableSlot(60, DAY);
+        slotFinder.findAllAvailableSlots(60, otherDay);
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 0), next.get().getStartTime());
+        assertEquals(3, delegate.calls);
+    }
+
+    @Test
+    void testEviction_BoundedByDays() {
+        slotFinder.findAllAvailableSlots(60, DAY);
+        slotFinder.findAllAvailableSlots(60, DAY.plusDays(1));
+        slotFinder.findAllAvailableSlots(60, DAY.plusDays(2));
+
+        assertEquals(2, slotFinder.size());
+
+        // Oldest day was evicted and has to be recomputed
+        slotFinder.findAllAvailableSlots(60, DAY);
+        assertEquals(4, delegate.calls);
+    }
+
+    @Test
+    void testToday_NotCached() {
+        slotFinder.findAllAvailableSlots(30, LocalDate.now());
+        slotFinder.findAllAvailableSlots(30, LocalDate.now());
+
+        assertEquals(2, delegate.calls);
+        assertEquals(0, slotFinder.size());
+    }
+
+    @Test
+    void testToday_FollowsInjectedClock() {
+        // Already the 16th in Tokyo while it is still the 15th in UTC
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-15T20:00:00Z"), ZoneId.of("Asia/Tokyo"));
+        CachingSlotFinder tokyo = new CachingSlotFinder(delegate, 2, clock);
+
+        tokyo.findAllAvailableSlots(30, DAY.plusDays(1));
+        tokyo.findAllAvailableSlots(30, DAY.plusDays(1));
+        assertEquals(0, tokyo.size());
+
+        tokyo.findAllAvailableSlots(30, DAY);
+        assertEquals(1, tokyo.size());
+    }
+
+    @Test
+    void testServiceWrites_InvalidateCache() {
+        CalendarServiceImpl service = new CalendarServiceImpl(storage, slotFinder);
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 10, 0));
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 0),
+            slotFinder.findNextAvailableSlot(60, DAY).get().getStartTime());
+
+        service.addEvent(event);
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 0),
+            slotFinder.findNextAvailableSlot(60, DAY).get().getStartTime());
+
+        service.deleteEvent(event.getId());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 0),
+            slotFinder.findNextAvailableSlot(60, DAY).get().getStartTime());
+    }
+
+    // Counts how often the wrapped finder is actually asked
+    private static class CountingSlotFinder implements SlotFinder {
+        private final SlotFinder delegate;
+        private int calls;
+
+        CountingSlotFinder(SlotFinder delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Optional<TimeSlot> findNextAvailableSlot(int durationMinutes, LocalDate date) {
+            return delegate.findNextAvailableSlot(durationMinutes, date);
+        }
+
+        @Override
+        public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date) {
+            calls++;
+            return delegate.findAllAvailableSlots(durationMinutes, date);
+        }
+
+        @Override
+        public List<TimeSlot> findAllAvailableSlots(int durationMinutes, LocalDate date, List<Event> dayEvents) {
+            calls++;
+            return delegate.findAllAvailableSlots(durationMinutes, date, dayEvents);
+        }
+    }
+}
@@ -1,14 +1,29 @@
 package com.calendar.service;
 
 import com.calendar.exception.EventOverlapException;
+import com.calendar.model.AvailabilityMatrix;
 import com.calendar.model.Event;
+import com.calendar.model.RetentionPolicy;
+import com.calendar.model.SlotHold;
+import com.calendar.model.SyncDelta;
 import com.calendar.model.TimeSlot;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,6 +38,17 @@ class CalendarServiceImplTest {
         service = new CalendarServiceImpl(storage, slotFinder);
     }
 
+    @AfterEach
+    void tearDown() {
+        service.close();
+    }
+
+    private static long timingWheelThreads() {
+        return Thread.getAllStackTraces().keySet().stream()
+            .filter(thread -> thread.getName().equals("timing-wheel") && thread.isAlive())
+            .count();
+    }
+
     @Test
     void testAddEvent_Success() {
         Event event = Event.create("Meeting",
@@ -135,4 +161,401 @@ class CalendarServiceImplTest {
         assertEquals(0, service.getEventCount());
         assertTrue(service.getAllEvents().isEmpty());
     }
+
+    @Test
+    void testFindAvailability_CountsPerDayAndDuration() {
+        service.addEvent(Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 17, 0)));
+
+        AvailabilityMatrix matrix = service.findAvailability(
+            LocalDate.of(2025, 12, 15), LocalDate.of(2025, 12, 16), 60, 120);
+
+        assertEquals(2, matrix.getDayCount());
+        // Only 17:00-18:00 is left on the 15th
+        assertEquals(1, matrix.getCount(LocalDate.of(2025, 12, 15), 60));
+        assertEquals(0, matrix.getCount(LocalDate.of(2025, 12, 15), 120));
+        assertEquals(service.findAllAvailableSlots(60, LocalDateTime.of(2025, 12, 16, 0, 0)).size(),
+            matrix.getCount(LocalDate.of(2025, 12, 16), 60));
+    }
+
+    @Test
+    void testFindAvailability_InvalidRange() {
+        assertThrows(IllegalArgumentException.class, () ->
+            service.findAvailability(LocalDate.of(2025, 12, 16), LocalDate.of(2025, 12, 15), 60)
+        );
+    }
+
+    @Test
+    void testMoveEvent_IgnoresItself() {
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.addEvent(event);
+
+        // New time overlaps the event's old time, which must not count as a conflict
+        Optional<Event> moved = service.moveEvent(event.getId(),
+            LocalDateTime.of(2025, 12, 15, 10, 30),
+            LocalDateTime.of(2025, 12, 15, 11, 30));
+
+        assertTrue(moved.isPresent());
+        assertEquals(1, service.getEventCount());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 30),
+            service.getAllEvents().get(0).getStartTime());
+        assertEquals("Meeting", service.getAllEvents().get(0).getTitle());
+    }
+
+    @Test
+    void testMoveEvent_OverlapWithOther() {
+        Event first = Event.create("First",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        Event second = Event.create("Second",
+            LocalDateTime.of(2025, 12, 15, 12, 0),
+            LocalDateTime.of(2025, 12, 15, 13, 0));
+        service.addEvent(first);
+        service.addEvent(second);
+
+        assertThrows(EventOverlapException.class, () -> service.moveEvent(second.getId(),
+            LocalDateTime.of(2025, 12, 15, 10, 30),
+            LocalDateTime.of(2025, 12, 15, 11, 30)));
+        assertEquals(LocalDateTime.of(2025, 12, 15, 12, 0),
+            service.listEventsForDate(LocalDateTime.of(2025, 12, 15, 0, 0)).get(1).getStartTime());
+    }
+
+    @Test
+    void testMoveEvent_ToAnotherDay() {
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.addEvent(event);
+
+        service.moveEvent(event.getId(),
+            LocalDateTime.of(2025, 12, 16, 10, 0),
+            LocalDateTime.of(2025, 12, 16, 11, 0));
+
+        assertTrue(service.listEventsForDate(LocalDateTime.of(2025, 12, 15, 0, 0)).isEmpty());
+        assertEquals(1, service.listEventsForDate(LocalDateTime.of(2025, 12, 16, 0, 0)).size());
+    }
+
+    @Test
+    void testUpdateEvent_Unknown() {
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        assertFalse(service.updateEvent(event));
+        assertFalse(service.moveEvent("missing", LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)).isPresent());
+    }
+
+    @Test
+    void testAddEvent_ConcurrentBookingsOfSameSlot() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        AtomicInteger booked = new AtomicInteger();
+        for (int i = 0; i < 50; i++) {
+            executor.submit(() -> {
+                try {
+                    service.addEvent(Event.create("Race",
+                        LocalDateTime.of(2025, 12, 15, 10, 0),
+                        LocalDateTime.of(2025, 12, 15, 11, 0)));
+                    booked.incrementAndGet();
+                } catch (EventOverlapException e) {
+                    // Expected for all but one thread
+                }
+            });
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(1, booked.get());
+        assertEquals(1, service.getEventCount());
+    }
+
+    @Test
+    void testDeleteBetween_PurgesRange() {
+        for (int day = 14; day <= 17; day++) {
+            service.addEvent(Event.create("Day " + day,
+                LocalDateTime.of(2025, 12, day, 10, 0),
+                LocalDateTime.of(2025, 12, day, 11, 0)));
+        }
+
+        int removed = service.deleteBetween(
+            LocalDateTime.of(2025, 12, 15, 0, 0),
+            LocalDateTime.of(2025, 12, 17, 0, 0));
+
+        assertEquals(2, removed);
+        assertEquals(2, service.getEventCount());
+        assertTrue(service.listEventsForDate(LocalDateTime.of(2025, 12, 16, 0, 0)).isEmpty());
+    }
+
+    @Test
+    void testDeleteWhere_ByTitle() {
+        service.addEvent(Event.create("Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 9, 15)));
+        service.addEvent(Event.create("Lunch",
+            LocalDateTime.of(2025, 12, 15, 12, 0),
+            LocalDateTime.of(2025, 12, 15, 13, 0)));
+
+        int removed = service.deleteWhere(event -> event.getTitle().contains("Stand"),
+            LocalDateTime.of(2025, 12, 1, 0, 0),
+            LocalDateTime.of(2026, 1, 1, 0, 0));
+
+        assertEquals(1, removed);
+        assertEquals("Lunch", service.getAllEvents().get(0).getTitle());
+    }
+
+    @Test
+    void testSearchEvents_FollowsUpdates() {
+        Event event = Event.create("Quarterly planning",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.addEvent(event);
+
+        assertEquals(List.of(event), service.searchEvents("plan", 10));
+        assertTrue(service.searchEvents("plan",
+            LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 2, 1, 0, 0), 10).isEmpty());
+
+        service.deleteEvent(event.getId());
+        assertTrue(service.searchEvents("plan", 10).isEmpty());
+    }
+
+    @Test
+    void testFindEventsByTags() {
+        Event oneOnOne = Event.create("Alice / Bob",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 10, 30)).withTags(Set.of("1:1"));
+        Event onCall = Event.create("On-call handover",
+            LocalDateTime.of(2025, 12, 15, 11, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 30)).withTags(Set.of("on-call"));
+        service.addEvent(oneOnOne);
+        service.addEvent(onCall);
+
+        LocalDate day = LocalDate.of(2025, 12, 15);
+        assertEquals(List.of(oneOnOne), service.findEventsWithAllTags(Set.of("1:1"), day, day));
+        assertEquals(List.of(oneOnOne, onCall), service.findEventsWithAnyTag(Set.of("1:1", "on-call"), day, day));
+        assertTrue(service.findEventsWithAllTags(Set.of("1:1", "on-call"), day, day).isEmpty());
+    }
+
+    @Test
+    void testGetAgenda_PerAttendee() {
+        Event standup = Event.create("Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 9, 30)).withAttendees(List.of("alice", "bob"));
+        Event review = Event.create("Review",
+            LocalDateTime.of(2025, 12, 17, 14, 0),
+            LocalDateTime.of(2025, 12, 17, 15, 0)).withAttendees(List.of("alice"));
+        service.addEvent(standup);
+        service.addEvent(review);
+
+        assertEquals(List.of(standup, review),
+            service.getAgenda("alice", LocalDate.of(2025, 12, 15), LocalDate.of(2025, 12, 19)));
+        assertEquals(List.of(standup),
+            service.getAgenda("bob", LocalDate.of(2025, 12, 15), LocalDate.of(2025, 12, 19)));
+        assertTrue(service.getAgenda("alice", LocalDate.of(2025, 12, 16), LocalDate.of(2025, 12, 16)).isEmpty());
+    }
+
+    @Test
+    void testPurgeExpired_RemovesEndedEventsInBatches() {
+        for (int day = 1; day <= 7; day++) {
+            service.addEvent(Event.create("Old " + day,
+                LocalDateTime.of(2025, 1, day, 10, 0),
+                LocalDateTime.of(2025, 1, day, 11, 0)));
+        }
+        Event recent = Event.create("Recent",
+            LocalDateTime.of(2025, 5, 20, 10, 0),
+            LocalDateTime.of(2025, 5, 20, 11, 0));
+        service.addEvent(recent);
+
+        Instant now = LocalDateTime.of(2025, 6, 1, 0, 0).atZone(ZoneId.systemDefault()).toInstant();
+        int purged = service.purgeExpired(RetentionPolicy.keepMonths(3).withBatchSize(3), now);
+
+        assertEquals(7, purged);
+        assertEquals(List.of(recent), service.getAllEvents());
+        assertEquals(7, service.getPurgedEventCount());
+        assertEquals(0, service.purgeExpired(RetentionPolicy.keepMonths(3), now));
+    }
+
+    @Test
+    void testPurgeExpired_UsesServiceClock() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-03-01T00:00:00Z"), ZoneId.systemDefault());
+        EventStorage storage = new InMemoryEventStorage();
+        CalendarServiceImpl clockedService = new CalendarServiceImpl(storage, new StandardSlotFinder(storage), clock);
+        clockedService.addEvent(Event.create("Old",
+            LocalDateTime.of(2025, 1, 10, 10, 0),
+            LocalDateTime.of(2025, 1, 10, 11, 0)));
+
+        assertEquals(0, clockedService.purgeExpired(RetentionPolicy.keepMonths(3)));
+
+        clock.advance(Duration.ofDays(92));
+        assertEquals(1, clockedService.purgeExpired(RetentionPolicy.keepMonths(3)));
+        assertEquals(0, clockedService.getEventCount());
+        clockedService.close();
+    }
+
+    @Test
+    void testHoldSlot_BlocksOthersUntilExpiry() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-01T08:00:00Z"), ZoneId.systemDefault());
+        EventStorage storage = new InMemoryEventStorage();
+        CalendarServiceImpl heldService = new CalendarServiceImpl(storage, new StandardSlotFinder(storage), clock);
+        TimeSlot slot = new TimeSlot(LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        SlotHold hold = heldService.holdSlot(slot, "alice", Duration.ofMinutes(5)).orElseThrow();
+        assertEquals("alice", hold.getHolder());
+
+        assertTrue(heldService.holdSlot(slot, "bob", Duration.ofMinutes(5)).isEmpty());
+        assertThrows(EventOverlapException.class, () -> heldService.addEvent(Event.create("Bob's meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 30), LocalDateTime.of(2025, 12, 15, 11, 30))));
+        assertTrue(heldService.findAllAvailableSlots(60, LocalDateTime.of(2025, 12, 15, 0, 0)).stream()
+            .noneMatch(s -> s.getStartTime().equals(slot.getStartTime())));
+
+        // Once the lease runs out the slot is free again, even before the wheel ticks
+        clock.advance(Duration.ofMinutes(5));
+        assertTrue(heldService.holdSlot(slot, "bob", Duration.ofMinutes(5)).isPresent());
+    }
+
+    @Test
+    void testClose_StopsHoldTimerThread() throws InterruptedException {
+        long before = timingWheelThreads();
+        TimeSlot slot = new TimeSlot(LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.holdSlot(slot, "alice", Duration.ofMinutes(5)).orElseThrow();
+        assertEquals(before + 1, timingWheelThreads());
+
+        service.close();
+
+        for (int i = 0; i < 100 && timingWheelThreads() > before; i++) {
+            Thread.sleep(10);
+        }
+        assertEquals(before, timingWheelThreads());
+    }
+
+    @Test
+    void testAddEvent_WithOwnHoldConsumesIt() {
+        TimeSlot slot = new TimeSlot(LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        SlotHold hold = service.holdSlot(slot, "alice", Duration.ofMinutes(5)).orElseThrow();
+        Event event = Event.create("Alice's meeting", slot.getStartTime(), slot.getEndTime());
+
+        service.addEvent(event, hold.getId());
+
+        assertEquals(1, service.getEventCount());
+        assertEquals(0, service.getActiveHoldCount());
+        assertFalse(service.releaseHold(hold.getId()));
+    }
+
+    @Test
+    void testAddEventIdempotent_RetryReturnsOriginal() {
+        Event first = Event.create("Booking",
+            LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        // A client retry builds the same request again, with a new generated ID
+        Event retry = Event.create("Booking",
+            LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        assertEquals(first, service.addEventIdempotent("req-42", first));
+        assertEquals(first, service.addEventIdempotent("req-42", retry));
+        assertEquals(1, service.getEventCount());
+
+        Event different = Event.create("Other",
+            LocalDateTime.of(2025, 12, 16, 10, 0), LocalDateTime.of(2025, 12, 16, 11, 0));
+        assertThrows(IllegalArgumentException.class, () -> service.addEventIdempotent("req-42", different));
+    }
+
+    @Test
+    void testAddEventIdempotent_KeyExpires() {
+        MutableClock clock = new MutableClock(Instant.parse("2025-12-01T08:00:00Z"), ZoneId.systemDefault());
+        EventStorage storage = new InMemoryEventStorage();
+        CalendarServiceImpl clockedService = new CalendarServiceImpl(storage, new StandardSlotFinder(storage), clock);
+        Event first = Event.create("Booking",
+            LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        clockedService.addEventIdempotent("req-1", first);
+
+        clock.advance(Duration.ofHours(25));
+        Event lateRetry = Event.create("Booking",
+            LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        assertThrows(EventOverlapException.class, () -> clockedService.addEventIdempotent("req-1", lateRetry));
+    }
+
+    @Test
+    void testChangeListener_SeesAddUpdateAndDelete() {
+        List<String> changes = new ArrayList<>();
+        service.addChangeListener(new EventChangeListener() {
+            @Override
+            public void onEventAdded(Event event) {
+                changes.add("added " + event.getTitle());
+            }
+
+            @Override
+            public void onEventUpdated(Event previous, Event updated) {
+                changes.add("moved " + previous.getStartTime().getHour() + "->" + updated.getStartTime().getHour());
+            }
+
+            @Override
+            public void onEventDeleted(Event event) {
+                changes.add("deleted " + event.getTitle());
+            }
+        });
+        Event event = Event.create("Sync",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        service.addEvent(event);
+        service.moveEvent(event.getId(), LocalDateTime.of(2025, 12, 15, 13, 0), LocalDateTime.of(2025, 12, 15, 14, 0));
+        service.deleteEvent(event.getId());
+
+        assertEquals(List.of("added Sync", "moved 10->13", "deleted Sync"), changes);
+    }
+
+    @Test
+    void testFailingListener_DoesNotFailWriteOrStarveLaterListeners() {
+        List<String> heard = new ArrayList<>();
+        service.addChangeListener(new EventChangeListener() {
+            @Override
+            public void onEventAdded(Event event) {
+                throw new IllegalStateException("listener bug");
+            }
+        });
+        service.addChangeListener(new EventChangeListener() {
+            @Override
+            public void onEventAdded(Event event) {
+                heard.add(event.getTitle());
+            }
+        });
+
+        service.addEvent(Event.create("Sync",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)));
+
+        assertEquals(1, service.getEventCount());
+        assertEquals(List.of("Sync"), heard);
+        assertEquals(1, service.getListenerFailureCount());
+    }
+
+    @Test
+    void testChangesSince_ReturnsOnlyChangesAfterToken() {
+        Event kept = Event.create("Kept",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 10, 0));
+        Event removed = Event.create("Removed",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.addEvent(kept);
+        service.addEvent(removed);
+
+        SyncDelta initial = service.changesSince(null);
+        assertTrue(initial.isFullResync());
+        assertEquals(2, initial.getChangedEvents().size());
+
+        Event added = Event.create("Added",
+            LocalDateTime.of(2025, 12, 15, 14, 0),
+            LocalDateTime.of(2025, 12, 15, 15, 0));
+        service.addEvent(added);
+        service.deleteEvent(removed.getId());
+
+        SyncDelta delta = service.changesSince(initial.getSyncToken());
+        assertFalse(delta.isFullResync());
+        assertEquals(List.of(added), delta.getChangedEvents());
+        assertEquals(List.of(removed.getId()), delta.getDeletedEventIds());
+        assertTrue(service.changesSince(delta.getSyncToken()).isEmpty());
+    }
 }
@@ -0,0 +1,198 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.ChangeRecord;
+import com.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ChangeFeedTest {
+
+    @TempDir
+    Path dir;
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-12-15T12:00:00Z"), ZoneOffset.UTC);
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    private static Event event(int n) {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 15, 9, 0).plusHours(n);
+        return new Event("event-" + n, "Event " + n, start, start.plusHours(1), BERLIN,
+            Set.of("team"), List.of("alice@example.com"));
+    }
+
+    private static List<Long> sequences(List<ChangeRecord> records) {
+        return records.stream().map(ChangeRecord::getSequence).collect(Collectors.toList());
+    }
+
+    @Test
+    void testWatch_RecordsServiceChangesInOrder() {
+        EventStorage storage = new InMemoryEventStorage();
+        CalendarServiceImpl service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage));
+        try (ChangeFeed feed = new ChangeFeed(dir)) {
+            feed.watch(service);
+            Event event = event(1);
+            service.addEvent(event);
+            service.moveEvent(event.getId(), LocalDateTime.of(2025, 12, 16, 9, 0), LocalDateTime.of(2025, 12, 16, 10, 0));
+            service.deleteEvent(event.getId());
+            service.clearAllEvents();
+
+            List<ChangeRecord> records = feed.read(1, 100);
+            assertEquals(List.of(1L, 2L, 3L, 4L), sequences(records));
+            assertEquals(List.of(ChangeRecord.Type.ADDED, ChangeRecord.Type.UPDATED, ChangeRecord.Type.DELETED,
+                ChangeRecord.Type.CLEARED), records.stream().map(ChangeRecord::getType).collect(Collectors.toList()));
+            Event moved = records.get(1).getEvent();
+            assertEquals(LocalDateTime.of(2025, 12, 16, 9, 0), moved.getStartTime());
+            assertEquals(BERLIN, moved.getZone());
+            assertEquals(Set.of("team"), moved.getTags());
+            assertEquals(List.of("alice@example.com"), moved.getAttendees());
+            assertNull(records.get(3).getEvent());
+        }
+    }
+
+    @Test
+    void testRead_FromAnyOffsetAcrossSegments() {
+        try (ChangeFeed feed = new ChangeFeed(dir, 512, NOW)) {
+            for (int i = 1; i <= 20; i++) {
+                feed.append(ChangeRecord.Type.ADDED, event(i));
+            }
+            assertTrue(feed.getSegmentCount() > 1);
+
+            assertEquals(List.of(7L, 8L, 9L), sequences(feed.read(7, 3)));
+            assertEquals(14, feed.read(7, 100).size());
+            assertTrue(feed.read(21, 10).isEmpty());
+            assertEquals("event-20", feed.read(20, 1).get(0).getEvent().getId());
+            assertThrows(IllegalArgumentException.class, () -> feed.read(22, 1));
+        }
+    }
+
+    @Test
+    void testTransferTo_CopiesWholeRecordsToChannel() throws IOException {
+        Path mirror = dir.resolve("mirror.bin");
+        try (ChangeFeed feed = new ChangeFeed(dir.resolve("feed"), 1 << 20, NOW);
+             FileChannel target = FileChannel.open(mirror, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            for (int i = 1; i <= 10; i++) {
+                feed.append(ChangeRecord.Type.ADDED, event(i));
+            }
+
+            // A tiny byte budget still moves one whole record per call
+            long next = feed.transferTo(1, 1, target);
+            assertEquals(2, next);
+            while (next < feed.getNextSequence()) {
+                next = feed.transferTo(next, 300, target);
+            }
+            assertEquals(next, feed.transferTo(next, 300, target));
+        }
+
+        List<ChangeRecord> mirrored = ChangeFeed.decode(ByteBuffer.wrap(Files.readAllBytes(mirror)));
+        assertEquals(10, mirrored.size());
+        assertEquals("Event 10", mirrored.get(9).getEvent().getTitle());
+    }
+
+    @Test
+    void testReopen_ContinuesSequenceAndDropsTornTail() throws IOException {
+        try (ChangeFeed feed = new ChangeFeed(dir, 512, NOW)) {
+            for (int i = 1; i <= 8; i++) {
+                feed.append(ChangeRecord.Type.ADDED, event(i));
+            }
+        }
+        // Simulate a crash halfway through writing a record
+        Path last;
+        try (Stream<Path> files = Files.list(dir)) {
+            last = files.sorted().reduce((first, second) -> second).orElseThrow();
+        }
+        Files.write(last, new byte[] {0, 0, 0, 40, 1, 2, 3}, StandardOpenOption.APPEND);
+
+        try (ChangeFeed feed = new ChangeFeed(dir, 512, NOW)) {
+            assertEquals(9, feed.getNextSequence());
+            assertEquals(9, feed.append(ChangeRecord.Type.DELETED, event(1)));
+            assertEquals(List.of(8L, 9L), sequences(feed.read(8, 10)));
+        }
+    }
+
+    @Test
+    void testDeleteSegmentsBefore_KeepsSegmentsStillNeeded() {
+        try (ChangeFeed feed = new ChangeFeed(dir, 512, NOW)) {
+            for (int i = 1; i <= 20; i++) {
+                feed.append(ChangeRecord.Type.ADDED, event(i));
+            }
+            int segments = feed.getSegmentCount();
+
+            int deleted = feed.deleteSegmentsBefore(10);
+            assertTrue(deleted > 0);
+            assertEquals(segments - deleted, feed.getSegmentCount());
+            assertTrue(feed.getFirstSequence() <= 10);
+            assertEquals(10, feed.read(10, 1).get(0).getSequence());
+            assertThrows(IllegalArgumentException.class, () -> feed.read(1, 1));
+        }
+    }
+
+    @Test
+    void testDeleteSegmentsBefore_WaitsForTransferInProgress() throws IOException {
+        try (ChangeFeed feed = new ChangeFeed(dir, 512, NOW)) {
+            for (int i = 1; i <= 20; i++) {
+                feed.append(ChangeRecord.Type.ADDED, event(i));
+            }
+            Path oldest = dir.resolve(String.format("changes-%020d.log", 1));
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            // Drops the segment being read from in the middle of the transfer
+            WritableByteChannel target = new WritableByteChannel() {
+                private final WritableByteChannel sink = Channels.newChannel(bytes);
+
+                @Override
+                public int write(ByteBuffer src) throws IOException {
+                    feed.deleteSegmentsBefore(10);
+                    assertTrue(Files.exists(oldest));
+                    return sink.write(src);
+                }
+
+                @Override
+                public boolean isOpen() {
+                    return true;
+                }
+
+                @Override
+                public void close() {
+                }
+            };
+
+            long next = feed.transferTo(1, 1024, target);
+
+            assertEquals(1L, sequences(ChangeFeed.decode(ByteBuffer.wrap(bytes.toByteArray()))).get(0));
+            assertTrue(next > 1);
+            assertFalse(Files.exists(oldest));
+        }
+    }
+
+    @Test
+    void testFailedAppend_StopsTheFeed() {
+        ChangeFeed feed = new ChangeFeed(dir, 512, NOW);
+        feed.append(ChangeRecord.Type.ADDED, event(1));
+        feed.close();
+
+        assertThrows(StorageException.class, () -> feed.append(ChangeRecord.Type.ADDED, event(2)));
+        assertTrue(feed.isFailed());
+        assertThrows(StorageException.class, () -> feed.append(ChangeRecord.Type.ADDED, event(3)));
+        assertEquals(2, feed.getNextSequence());
+    }
+}
@@ -0,0 +1,79 @@
+package com.calendar.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.BitSet;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompressedBitmapTest {
+
+    @Test
+    void testAddRemoveContains() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        bitmap.add(3);
+        bitmap.add(70_000);
+        bitmap.add(3);
+
+        assertTrue(bitmap.contains(3));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(4));
+        assertEquals(2, bitmap.cardinality());
+
+        bitmap.remove(70_000);
+        assertArrayEquals(new int[] {3}, bitmap.toArray());
+    }
+
+    @Test
+    void testDenseChunk_SwitchesToBitsetAndBack() {
+        CompressedBitmap bitmap = new CompressedBitmap();
+        for (int i = 0; i < 10_000; i++) {
+            bitmap.add(i * 2);
+        }
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998));
+        assertFalse(bitmap.contains(19_999));
+
+        for (int i = 0; i < 9_000; i++) {
+            bitmap.remove(i * 2);
+        }
+        assertEquals(1_000, bitmap.cardinality());
+        assertEquals(18_000, bitmap.toArray()[0]);
+    }
+
+    @Test
+    void testAndOr_MatchBitSet() {
+        Random random = new Random(42);
+        CompressedBitmap a = new CompressedBitmap();
+        CompressedBitmap b = new CompressedBitmap();
+        BitSet expectedA = new BitSet();
+        BitSet expectedB = new BitSet();
+        // Mix of sparse and dense chunks on both sides
+        for (int i = 0; i < 20_000; i++) {
+            int sparse = random.nextInt(1 << 20);
+            int dense = random.nextInt(8_000);
+            a.add(sparse);
+            expectedA.set(sparse);
+            b.add(dense);
+            expectedB.set(dense);
+            if (i % 3 == 0) {
+                a.add(dense);
+                expectedA.set(dense);
+            }
+        }
+
+        BitSet expectedAnd = (BitSet) expectedA.clone();
+        expectedAnd.and(expectedB);
+        BitSet expectedOr = (BitSet) expectedA.clone();
+        expectedOr.or(expectedB);
+
+        assertArrayEquals(expectedAnd.stream().toArray(), CompressedBitmap.and(a, b).toArray());
+        assertArrayEquals(expectedOr.stream().toArray(), CompressedBitmap.or(a, b).toArray());
+    }
+
+    @Test
+    void testNegativeValue() {
+        assertThrows(IllegalArgumentException.class, () -> new CompressedBitmap().add(-1));
+    }
+}
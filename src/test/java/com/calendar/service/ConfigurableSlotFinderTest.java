@@ -0,0 +1,148 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.TimeSlot;
+import com.calendar.model.WorkingHoursPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConfigurableSlotFinderTest {
+
+    private static final ZoneId ZONE = ZoneId.of("America/New_York");
+    private static final LocalDate MONDAY = LocalDate.of(2025, 12, 15);
+
+    private EventStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new InMemoryEventStorage();
+    }
+
+    private ConfigurableSlotFinder finder(WorkingHoursPolicy policy, int granularity) {
+        // Fixed clock well before the test dates so "now" never trims the search
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 1, 1, 0, 0).atZone(ZONE).toInstant(), ZONE);
+        return new ConfigurableSlotFinder(storage, policy, granularity, clock);
+    }
+
+    @Test
+    void testFifteenMinuteGranularity() {
+        ConfigurableSlotFinder slotFinder = finder(
+            WorkingHoursPolicy.of(LocalTime.of(9, 0), LocalTime.of(10, 0)), 15);
+
+        List<TimeSlot> slots = slotFinder.findAllAvailableSlots(30, MONDAY);
+
+        assertEquals(3, slots.size());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 15), slots.get(1).getStartTime());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 0), slots.get(2).getEndTime());
+    }
+
+    @Test
+    void testDayFollowsFinderZoneNotStorageZone() {
+        // 11:00 in New York is already Tuesday in Tokyo, where the storage keeps its days
+        storage = new InMemoryEventStorage(ZoneId.of("Asia/Tokyo"));
+        storage.save(Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 11, 0).atZone(ZONE),
+            LocalDateTime.of(2025, 12, 15, 12, 0).atZone(ZONE)));
+        ConfigurableSlotFinder slotFinder = finder(
+            WorkingHoursPolicy.of(LocalTime.of(9, 0), LocalTime.of(13, 0)), 60);
+
+        List<TimeSlot> slots = slotFinder.findAllAvailableSlots(60, MONDAY);
+
+        assertEquals(3, slots.size());
+        assertTrue(slots.stream().noneMatch(slot -> slot.getStartTime().getHour() == 11));
+    }
+
+    @Test
+    void testSlotsAlignAfterEvent() {
+        storage.save(Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 9, 0).atZone(ZONE),
+            LocalDateTime.of(2025, 12, 15, 9, 7).atZone(ZONE)));
+        ConfigurableSlotFinder slotFinder = finder(
+            WorkingHoursPolicy.of(LocalTime.of(9, 0), LocalTime.of(10, 0)), 5);
+
+        TimeSlot first = slotFinder.findNextAvailableSlot(20, MONDAY).get();
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 10), first.getStartTime());
+    }
+
+    @Test
+    void testBreaksAreSkipped() {
+        ConfigurableSlotFinder slotFinder = finder(WorkingHoursPolicy.standard()
+            .withBreak(LocalTime.of(12, 0), LocalTime.of(13, 0)), 60);
+
+        List<TimeSlot> slots = slotFinder.findAllAvailableSlots(60, MONDAY);
+
+        assertEquals(8, slots.size());
+        assertTrue(slots.stream().noneMatch(slot -> slot.getStartTime().getHour() == 12));
+    }
+
+    @Test
+    void testDaysOffAndHolidays() {
+        WorkingHoursPolicy policy = WorkingHoursPolicy.weekdays(LocalTime.of(9, 0), LocalTime.of(17, 0))
+            .withHoliday(MONDAY)
+            .withHours(DayOfWeek.TUESDAY, LocalTime.of(10, 0), LocalTime.of(12, 0));
+        ConfigurableSlotFinder slotFinder = finder(policy, 30);
+
+        assertTrue(slotFinder.findAllAvailableSlots(30, MONDAY).isEmpty());
+        assertTrue(slotFinder.findAllAvailableSlots(30, LocalDate.of(2025, 12, 13)).isEmpty());
+        assertEquals(LocalDateTime.of(2025, 12, 16, 10, 0),
+            slotFinder.findNextAvailableSlot(30, MONDAY.plusDays(1)).get().getStartTime());
+    }
+
+    @Test
+    void testTodayStartsFromClockInCalendarZone() {
+        Clock clock = Clock.fixed(LocalDateTime.of(2025, 12, 15, 13, 20).atZone(ZONE).toInstant(), ZONE);
+        ConfigurableSlotFinder slotFinder = new ConfigurableSlotFinder(
+            storage, WorkingHoursPolicy.standard(), 15, clock);
+
+        TimeSlot first = slotFinder.findNextAvailableSlot(60, MONDAY).get();
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 13, 30), first.getStartTime());
+    }
+
+    @Test
+    void testEventFromOtherZone_BlocksMatchingLocalTime() {
+        // 15:00 in London is 10:00 in New York
+        ZoneId london = ZoneId.of("Europe/London");
+        storage.save(Event.create("London sync",
+            LocalDateTime.of(2025, 12, 15, 15, 0).atZone(london),
+            LocalDateTime.of(2025, 12, 15, 16, 0).atZone(london)));
+        ConfigurableSlotFinder slotFinder = finder(
+            WorkingHoursPolicy.of(LocalTime.of(10, 0), LocalTime.of(12, 0)), 30);
+
+        TimeSlot first = slotFinder.findNextAvailableSlot(60, MONDAY).get();
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 11, 0), first.getStartTime());
+    }
+
+    @Test
+    void testInvalidGranularity() {
+        assertThrows(IllegalArgumentException.class, () ->
+            new ConfigurableSlotFinder(storage, WorkingHoursPolicy.standard(), 0, ZONE)
+        );
+    }
+
+    @Test
+    void testCountMatchesSlotList() {
+        storage.save(Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 10, 10).atZone(ZONE),
+            LocalDateTime.of(2025, 12, 15, 11, 0).atZone(ZONE)));
+        ConfigurableSlotFinder slotFinder = finder(WorkingHoursPolicy.standard()
+            .withBreak(LocalTime.of(12, 0), LocalTime.of(12, 45)), 5);
+
+        for (int duration : new int[] {5, 15, 45, 60, 240}) {
+            assertEquals(slotFinder.findAllAvailableSlots(duration, MONDAY).size(),
+                slotFinder.countAvailableSlots(duration, MONDAY, storage.findByDate(MONDAY)));
+        }
+    }
+}
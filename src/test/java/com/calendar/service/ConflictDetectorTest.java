@@ -0,0 +1,94 @@
+package com.calendar.service;
+
+import com.calendar.model.ConflictReport;
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConflictDetectorTest {
+
+    private EventStorage storage;
+    private ConflictDetector detector;
+
+    @BeforeEach
+    void setUp() {
+        // Saving straight to storage skips the overlap check, like an import would
+        storage = new InMemoryEventStorage();
+        detector = new ConflictDetector(storage);
+    }
+
+    private Event save(String title, LocalDateTime start, LocalDateTime end) {
+        Event event = Event.create(title, start, end);
+        storage.save(event);
+        return event;
+    }
+
+    @Test
+    void testNoConflicts() {
+        save("First", LocalDateTime.of(2025, 12, 15, 9, 0), LocalDateTime.of(2025, 12, 15, 10, 0));
+        save("Second", LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+
+        ConflictReport report = detector.detect();
+
+        assertFalse(report.hasConflicts());
+        assertTrue(report.getClusters().isEmpty());
+    }
+
+    @Test
+    void testChainedOverlaps_OneCluster() {
+        Event a = save("A", LocalDateTime.of(2025, 12, 15, 9, 0), LocalDateTime.of(2025, 12, 15, 10, 30));
+        Event b = save("B", LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 30));
+        Event c = save("C", LocalDateTime.of(2025, 12, 15, 11, 0), LocalDateTime.of(2025, 12, 15, 12, 0));
+        save("D", LocalDateTime.of(2025, 12, 15, 14, 0), LocalDateTime.of(2025, 12, 15, 15, 0));
+
+        ConflictReport report = detector.detect();
+
+        // A-B and B-C overlap, A-C don't
+        assertEquals(2, report.getConflicts().size());
+        assertEquals(1, report.getClusters().size());
+        assertEquals(List.of(a, b, c), report.getClusters().get(0));
+    }
+
+    @Test
+    void testNestedEvents_AllPairsReported() {
+        save("All day", LocalDateTime.of(2025, 12, 15, 9, 0), LocalDateTime.of(2025, 12, 15, 17, 0));
+        save("Morning", LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        save("Afternoon", LocalDateTime.of(2025, 12, 15, 14, 0), LocalDateTime.of(2025, 12, 15, 15, 0));
+
+        ConflictReport report = detector.detect();
+
+        assertEquals(2, report.getConflicts().size());
+        assertEquals(1, report.getClusters().size());
+        assertEquals(3, report.getClusters().get(0).size());
+    }
+
+    @Test
+    void testOvernightEvent_ConflictsWithNextDay() {
+        save("Night shift", LocalDateTime.of(2025, 12, 15, 22, 0), LocalDateTime.of(2025, 12, 16, 6, 0));
+        save("Early call", LocalDateTime.of(2025, 12, 16, 5, 0), LocalDateTime.of(2025, 12, 16, 5, 30));
+        save("Later", LocalDateTime.of(2025, 12, 17, 5, 0), LocalDateTime.of(2025, 12, 17, 5, 30));
+
+        ConflictReport report = detector.detect();
+
+        assertEquals(1, report.getConflicts().size());
+        assertEquals("Night shift", report.getConflicts().get(0).getFirst().getTitle());
+    }
+
+    @Test
+    void testManyDays_ConflictsFromEachDay() {
+        for (int day = 1; day <= 28; day++) {
+            save("A" + day, LocalDateTime.of(2025, 2, day, 9, 0), LocalDateTime.of(2025, 2, day, 10, 0));
+            save("B" + day, LocalDateTime.of(2025, 2, day, 9, 30), LocalDateTime.of(2025, 2, day, 10, 30));
+        }
+
+        ConflictReport report = detector.detect();
+
+        assertEquals(28, report.getConflicts().size());
+        assertEquals(28, report.getClusters().size());
+    }
+}
@@ -0,0 +1,164 @@
+package com.calendar.service;
+
+import com.calendar.exception.StorageException;
+import com.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventSourcedStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 15);
+
+    private static Event event(String id, int hour) {
+        return new Event(id, "Event " + id, DAY.atTime(hour, 0), DAY.atTime(hour + 1, 0), BERLIN,
+            Set.of("team"), List.of("alice@example.com"));
+    }
+
+    @Test
+    void testReopen_RebuildsStateFromLog() {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 4, 1_000)) {
+            storage.save(event("a", 9));
+            storage.save(event("b", 10));
+            storage.save(event("c", 11));
+            storage.update(event("a", 9).withTimes(DAY.atTime(14, 0), DAY.atTime(15, 0)));
+            storage.update(event("b", 10).withTags(Set.of("moved")));
+            storage.delete("c");
+        }
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 4, 1_000)) {
+            assertEquals(6, reopened.getReplayedEntryCount());
+            assertEquals(2, reopened.count());
+            Event a = reopened.findById("a").orElseThrow();
+            assertEquals(DAY.atTime(14, 0), a.getStartTime());
+            assertEquals(BERLIN, a.getZone());
+            assertEquals(List.of("alice@example.com"), a.getAttendees());
+            assertEquals(Set.of("moved"), reopened.findById("b").orElseThrow().getTags());
+            assertEquals(Optional.empty(), reopened.findById("c"));
+            assertEquals(2, reopened.findByDate(DAY).size());
+        }
+    }
+
+    @Test
+    void testReopen_ReplaysMoveIntoDstOverlapToSameInstants() {
+        // 02:30 Berlin time happens twice on 10-27-2024; move into the second pass
+        Instant start = Instant.parse("2024-10-27T01:30:00Z");
+        Instant end = Instant.parse("2024-10-27T02:30:00Z");
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 4, 1_000)) {
+            storage.save(event("a", 9));
+            storage.update(event("a", 9).withTimes(start, end));
+        }
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 4, 1_000)) {
+            Event a = reopened.findById("a").orElseThrow();
+            assertEquals(start, a.getStartInstant());
+            assertEquals(end, a.getEndInstant());
+        }
+    }
+
+    @Test
+    void testSnapshot_BoundsReplayToLogTail() {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 4, 1_000)) {
+            for (int i = 0; i < 20; i++) {
+                storage.save(new Event("e" + i, "Event " + i, DAY.plusDays(i).atTime(9, 0), DAY.plusDays(i).atTime(10, 0)));
+            }
+            storage.snapshot();
+            storage.delete("e0");
+            storage.save(event("late", 18));
+        }
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 4, 1_000)) {
+            assertEquals(2, reopened.getReplayedEntryCount());
+            assertEquals(20, reopened.count());
+            assertTrue(reopened.findById("e0").isEmpty());
+            assertTrue(reopened.findById("late").isPresent());
+        }
+    }
+
+    @Test
+    void testAutomaticSnapshot_AfterInterval() {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 2, 5)) {
+            for (int i = 0; i < 5; i++) {
+                storage.save(event("e" + i, 8 + i));
+            }
+        }
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 2, 5)) {
+            assertEquals(0, reopened.getReplayedEntryCount());
+            assertEquals(5, reopened.count());
+        }
+    }
+
+    @Test
+    void testDeleteWhere_LogsCancellations() {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 4, 1_000)) {
+            storage.save(event("keep", 9));
+            storage.save(event("drop", 11));
+            List<Event> removed = storage.deleteWhere(event -> event.getId().equals("drop"),
+                DAY.atStartOfDay(BERLIN).toInstant(), DAY.plusDays(1).atStartOfDay(BERLIN).toInstant());
+            assertEquals(1, removed.size());
+        }
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 4, 1_000)) {
+            assertEquals(List.of("keep"), reopened.findAll().stream().map(Event::getId).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void testTornTail_IsCutOffOnReplay() throws IOException {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 1, 1_000)) {
+            storage.save(event("a", 9));
+        }
+        Files.write(dir.resolve("partition-00.log"), new byte[] {0, 0, 0, 99, 1, 2}, StandardOpenOption.APPEND);
+
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 1, 1_000)) {
+            assertEquals(1, reopened.count());
+            assertEquals(6, reopened.getTruncatedByteCount());
+            reopened.save(event("b", 11));
+        }
+        try (EventSourcedStorage reopened = new EventSourcedStorage(dir, 1, 1_000)) {
+            assertEquals(2, reopened.count());
+        }
+    }
+
+    @Test
+    void testCorruptEntryBeforeTail_FailsInsteadOfTruncating() throws IOException {
+        try (EventSourcedStorage storage = new EventSourcedStorage(dir, 1, 1_000)) {
+            storage.save(event("a", 9));
+            storage.save(event("b", 11));
+        }
+        Path log = dir.resolve("partition-00.log");
+        byte[] bytes = Files.readAllBytes(log);
+        // Flip a bit in the first entry's payload
+        bytes[12] ^= 1;
+        Files.write(log, bytes);
+
+        assertThrows(StorageException.class, () -> new EventSourcedStorage(dir, 1, 1_000));
+        assertEquals(bytes.length, Files.size(log));
+    }
+
+    @Test
+    void testPartitionCountMismatch_IsRejected() {
+        new EventSourcedStorage(dir, 4, 1_000).close();
+
+        assertThrows(StorageException.class, () -> new EventSourcedStorage(dir, 2, 1_000));
+    }
+}
@@ -0,0 +1,98 @@
+package com.calendar.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HierarchicalTimingWheelTest {
+
+    private MutableClock clock;
+    private HierarchicalTimingWheel wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-15T10:00:00Z"), ZoneOffset.UTC);
+        // 100ms ticks, 4 levels of 8 buckets: 800ms, 6.4s, 51.2s, 409.6s per level
+        wheel = new HierarchicalTimingWheel(Duration.ofMillis(100), 8, 4, clock);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void testTimeoutsOnEveryLevel_FireAtTheirDeadline() {
+        List<Duration> delays = List.of(Duration.ofMillis(300), Duration.ofSeconds(5),
+            Duration.ofSeconds(40), Duration.ofSeconds(300));
+        for (Duration delay : delays) {
+            wheel.schedule(() -> fired.add(delay.toString()), delay);
+        }
+
+        for (Duration delay : delays) {
+            Instant deadline = Instant.parse("2025-12-15T10:00:00Z").plus(delay);
+            while (clock.instant().plusMillis(100).isBefore(deadline)) {
+                clock.advance(Duration.ofMillis(100));
+                wheel.advance();
+            }
+            assertFalse(fired.contains(delay.toString()), "fired early: " + delay);
+            clock.advance(Duration.ofMillis(100));
+            wheel.advance();
+            assertEquals(delay.toString(), fired.get(fired.size() - 1));
+        }
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    void testDeadlineBeyondTopLevel_CascadesUntilDue() {
+        wheel.schedule(() -> fired.add("far"), Duration.ofMinutes(30));
+
+        clock.advance(Duration.ofMinutes(30).minusMillis(100));
+        assertEquals(0, wheel.advance());
+        clock.advance(Duration.ofMillis(100));
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("far"), fired);
+    }
+
+    @Test
+    void testCancel_RemovesTimeoutFromHigherLevel() {
+        HierarchicalTimingWheel.Timeout timeout = wheel.schedule(() -> fired.add("x"), Duration.ofSeconds(100));
+        assertEquals(1, wheel.size());
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        assertEquals(0, wheel.size());
+        clock.advance(Duration.ofSeconds(200));
+        assertEquals(0, wheel.advance());
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void testPastDeadline_FiresOnNextTick() {
+        wheel.schedule(() -> fired.add("late"), clock.millis() - 5_000);
+
+        clock.advance(Duration.ofMillis(100));
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testManyTimeouts_FireInDeadlineOrderAcrossSweeps() {
+        for (int i = 1; i <= 1000; i++) {
+            int index = i;
+            wheel.schedule(() -> fired.add(Integer.toString(index)), Duration.ofMillis(i * 100L));
+        }
+        assertEquals(1000, wheel.size());
+
+        clock.advance(Duration.ofSeconds(50));
+        assertEquals(500, wheel.advance());
+        clock.advance(Duration.ofSeconds(50));
+        assertEquals(500, wheel.advance());
+        assertEquals("1", fired.get(0));
+        assertEquals("1000", fired.get(999));
+    }
+}
@@ -0,0 +1,61 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class IdempotencyTableTest {
+
+    private MutableClock clock;
+    private IdempotencyTable table;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-15T10:00:00Z"), ZoneOffset.UTC);
+        table = new IdempotencyTable(3, Duration.ofMinutes(10), clock);
+    }
+
+    private static Event event(String title) {
+        return Event.create(title, LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+    }
+
+    @Test
+    void testFind_ReturnsRecordedEventUntilExpiry() {
+        Event event = event("Meeting");
+        table.record("key-1", event);
+
+        clock.advance(Duration.ofMinutes(9));
+        assertEquals(event, table.find("key-1").orElseThrow());
+
+        clock.advance(Duration.ofMinutes(1));
+        assertTrue(table.find("key-1").isEmpty());
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    void testRecord_EvictsOldestBeyondLimit() {
+        for (int i = 1; i <= 4; i++) {
+            table.record("key-" + i, event("Meeting " + i));
+        }
+
+        assertEquals(3, table.size());
+        assertTrue(table.find("key-1").isEmpty());
+        assertTrue(table.find("key-4").isPresent());
+    }
+
+    @Test
+    void testRecord_DropsExpiredEntriesFromHead() {
+        table.record("old", event("Old"));
+        clock.advance(Duration.ofMinutes(11));
+        table.record("new", event("New"));
+
+        assertEquals(1, table.size());
+    }
+}
@@ -4,9 +4,13 @@ import com.calendar.model.Event;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.List;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -103,4 +107,214 @@ class InMemoryEventStorageTest {
         assertFalse(storage.findAll().contains(event1));
         assertTrue(storage.findAll().contains(event2));
     }
+
+    @Test
+    void testFindBetween_IncludesEventsReachingIntoRange() {
+        Event longEvent = new Event("long", "Offsite",
+            LocalDateTime.of(2025, 12, 10, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 12, 0), ZoneOffset.UTC);
+        Event inside = new Event("inside", "Lunch",
+            LocalDateTime.of(2025, 12, 15, 12, 0),
+            LocalDateTime.of(2025, 12, 15, 13, 0), ZoneOffset.UTC);
+        Event after = new Event("after", "Review",
+            LocalDateTime.of(2025, 12, 16, 10, 0),
+            LocalDateTime.of(2025, 12, 16, 11, 0), ZoneOffset.UTC);
+        storage.save(after);
+        storage.save(inside);
+        storage.save(longEvent);
+
+        List<Event> found = storage.findBetween(
+            Instant.parse("2025-12-15T00:00:00Z"), Instant.parse("2025-12-16T00:00:00Z"));
+
+        assertEquals(List.of(longEvent, inside), found);
+    }
+
+    @Test
+    void testFindByDate_MultiDayEventOnEveryDay() {
+        Event offsite = Event.create("Offsite",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 17, 12, 0));
+        Event standup = Event.create("Standup",
+            LocalDateTime.of(2025, 12, 16, 8, 0),
+            LocalDateTime.of(2025, 12, 16, 8, 15));
+        storage.save(standup);
+        storage.save(offsite);
+
+        assertEquals(List.of(offsite, standup), storage.findByDate(LocalDate.of(2025, 12, 16)));
+        assertEquals(List.of(offsite), storage.findByDate(LocalDate.of(2025, 12, 17)));
+        assertTrue(storage.findByDate(LocalDate.of(2025, 12, 18)).isEmpty());
+
+        storage.delete(offsite.getId());
+        assertTrue(storage.findByDate(LocalDate.of(2025, 12, 17)).isEmpty());
+        assertEquals(List.of(standup), storage.findByDate(LocalDate.of(2025, 12, 16)));
+    }
+
+    @Test
+    void testUpdate_RepositionsEvent() {
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        Event other = Event.create("Lunch",
+            LocalDateTime.of(2025, 12, 15, 12, 0),
+            LocalDateTime.of(2025, 12, 15, 13, 0));
+        storage.save(event);
+        storage.save(other);
+
+        Event moved = event.withTimes(
+            LocalDateTime.of(2025, 12, 16, 14, 0),
+            LocalDateTime.of(2025, 12, 16, 15, 0));
+
+        assertTrue(storage.update(moved));
+        assertEquals(2, storage.count());
+        assertEquals(List.of(other, moved), storage.findAll());
+        assertEquals(List.of(other), storage.findByDate(LocalDate.of(2025, 12, 15)));
+        assertEquals(moved.getStartTime(), storage.findById(event.getId()).get().getStartTime());
+    }
+
+    @Test
+    void testFindOverlapping_ExcludesItself() {
+        Event event = Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0));
+        Event neighbour = Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 10, 45),
+            LocalDateTime.of(2025, 12, 15, 11, 15));
+        storage.save(event);
+        storage.save(neighbour);
+
+        assertEquals(List.of(neighbour), storage.findOverlapping(event));
+    }
+
+    @Test
+    void testDeleteBetween_RemovesRunAndIndexes() {
+        Event before = new Event("before", "Before",
+            LocalDateTime.of(2025, 11, 30, 10, 0), LocalDateTime.of(2025, 11, 30, 11, 0), ZoneOffset.UTC);
+        Event first = new Event("first", "First",
+            LocalDateTime.of(2025, 12, 1, 10, 0), LocalDateTime.of(2025, 12, 1, 11, 0), ZoneOffset.UTC);
+        Event last = new Event("last", "Last",
+            LocalDateTime.of(2025, 12, 31, 10, 0), LocalDateTime.of(2025, 12, 31, 11, 0), ZoneOffset.UTC);
+        Event after = new Event("after", "After",
+            LocalDateTime.of(2026, 1, 1, 0, 0), LocalDateTime.of(2026, 1, 1, 1, 0), ZoneOffset.UTC);
+        storage.save(before);
+        storage.save(first);
+        storage.save(last);
+        storage.save(after);
+
+        List<Event> removed = storage.deleteBetween(
+            Instant.parse("2025-12-01T00:00:00Z"), Instant.parse("2026-01-01T00:00:00Z"));
+
+        assertEquals(List.of(first, last), removed);
+        assertEquals(List.of(before, after), storage.findAll());
+        assertTrue(storage.findById("first").isEmpty());
+        assertTrue(storage.findByDate(LocalDate.of(2025, 12, 31)).isEmpty());
+    }
+
+    @Test
+    void testDeleteWhere_OnlyMatchingEvents() {
+        Event standup = new Event("standup", "Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0), LocalDateTime.of(2025, 12, 15, 9, 15), ZoneOffset.UTC);
+        Event lunch = new Event("lunch", "Lunch",
+            LocalDateTime.of(2025, 12, 15, 12, 0), LocalDateTime.of(2025, 12, 15, 13, 0), ZoneOffset.UTC);
+        storage.save(standup);
+        storage.save(lunch);
+
+        List<Event> removed = storage.deleteWhere(event -> event.getTitle().equals("Standup"),
+            Instant.parse("2025-12-01T00:00:00Z"), Instant.parse("2026-01-01T00:00:00Z"));
+
+        assertEquals(List.of(standup), removed);
+        assertEquals(List.of(lunch), storage.findAll());
+    }
+
+    @Test
+    void testFindByDate_UsesStorageZone() {
+        // 23:00-01:00 in Tokyo is 09:00-11:00 the previous morning in New York
+        InMemoryEventStorage newYork = new InMemoryEventStorage(ZoneId.of("America/New_York"));
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        Event call = Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 23, 0).atZone(tokyo),
+            LocalDateTime.of(2025, 12, 16, 1, 0).atZone(tokyo)).withTags(Set.of("sync"));
+
+        newYork.save(call);
+
+        LocalDate monday = LocalDate.of(2025, 12, 15);
+        LocalDate tuesday = LocalDate.of(2025, 12, 16);
+        assertEquals(List.of(call), newYork.findByDate(monday));
+        assertTrue(newYork.findByDate(tuesday).isEmpty());
+        assertEquals(List.of(call), newYork.findByTags(Set.of("sync"), false, monday, monday));
+        assertTrue(newYork.findByTags(Set.of("sync"), false, tuesday, tuesday).isEmpty());
+    }
+
+    @Test
+    void testFindByTags_CombinesTagsAndDays() {
+        Event interview = Event.create("Interview",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)).withTags(Set.of("interview", "hiring"));
+        Event debrief = Event.create("Debrief",
+            LocalDateTime.of(2025, 12, 16, 10, 0),
+            LocalDateTime.of(2025, 12, 16, 11, 0)).withTags(Set.of("hiring"));
+        Event later = Event.create("Interview 2",
+            LocalDateTime.of(2026, 1, 15, 10, 0),
+            LocalDateTime.of(2026, 1, 15, 11, 0)).withTags(Set.of("interview"));
+        storage.save(interview);
+        storage.save(debrief);
+        storage.save(later);
+
+        LocalDate from = LocalDate.of(2025, 12, 1);
+        LocalDate to = LocalDate.of(2025, 12, 31);
+        assertEquals(List.of(interview), storage.findByTags(Set.of("interview"), false, from, to));
+        assertEquals(List.of(interview, debrief),
+            storage.findByTags(Set.of("interview", "hiring"), false, from, to));
+        assertEquals(List.of(interview),
+            storage.findByTags(Set.of("Interview", "hiring"), true, from, to));
+
+        // Retagging moves the event between tag bitmaps
+        storage.update(debrief.withTags(Set.of("interview")));
+        assertEquals(List.of(interview, debrief), storage.findByTags(Set.of("interview"), false, from, to));
+
+        storage.delete(interview.getId());
+        assertEquals(List.of(debrief), storage.findByTags(Set.of("interview"), false, from, to));
+    }
+
+    @Test
+    void testFindByTags_SameResultWhicheverSideIsSmaller() {
+        // A tagged three-day offsite, among a year of daily tagged reviews
+        Event offsite = Event.create("Offsite",
+            LocalDateTime.of(2025, 6, 9, 9, 0),
+            LocalDateTime.of(2025, 6, 11, 17, 0)).withTags(Set.of("offsite", "team"));
+        storage.save(offsite);
+        for (int day = 0; day < 365; day++) {
+            LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0).plusDays(day);
+            storage.save(Event.create("Review " + day, start, start.plusMinutes(30)).withTags(Set.of("team")));
+        }
+
+        // Rare tag over a wide range: tag matches are checked by date
+        assertEquals(List.of(offsite),
+            storage.findByTags(Set.of("offsite"), false, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31)));
+        // Common tag over a short range: the days are walked, and the offsite is listed once
+        List<Event> midJune = storage.findByTags(Set.of("team"), false, LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 11));
+        assertEquals(3, midJune.size());
+        assertEquals(offsite, midJune.get(0));
+        assertTrue(storage.findByTags(Set.of("team"), false, LocalDate.of(2026, 1, 1), LocalDate.of(2026, 12, 31)).isEmpty());
+    }
+
+    @Test
+    void testFindAttendeeConflicts_OnlySharedAttendees() {
+        Event standup = Event.create("Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 10, 0)).withAttendees(List.of("alice", "bob"));
+        Event interview = Event.create("Interview",
+            LocalDateTime.of(2025, 12, 15, 9, 30),
+            LocalDateTime.of(2025, 12, 15, 10, 30)).withAttendees(List.of("carol"));
+        storage.save(standup);
+        storage.save(interview);
+
+        Event proposed = Event.create("1:1",
+            LocalDateTime.of(2025, 12, 15, 9, 45),
+            LocalDateTime.of(2025, 12, 15, 10, 15)).withAttendees(List.of("bob", "dave"));
+        assertEquals(List.of(standup), storage.findAttendeeConflicts(proposed));
+
+        // Removing bob from the standup frees him
+        storage.update(standup.withAttendees(List.of("alice")));
+        assertTrue(storage.findAttendeeConflicts(proposed).isEmpty());
+    }
 }
@@ -0,0 +1,181 @@
+package com.calendar.service;
+
+import com.calendar.exception.EventOverlapException;
+import com.calendar.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class JdbcEventStorageTest {
+
+    private JdbcEventStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new JdbcEventStorage("jdbc:h2:mem:" + UUID.randomUUID());
+    }
+
+    @AfterEach
+    void tearDown() {
+        storage.close();
+    }
+
+    private static Event event(String title, LocalDateTime start, LocalDateTime end) {
+        return new Event(title + "-id", title, start, end, ZoneOffset.UTC);
+    }
+
+    private static Instant at(int day, int hour) {
+        return LocalDateTime.of(2025, 12, day, hour, 0).toInstant(ZoneOffset.UTC);
+    }
+
+    @Test
+    void testFindById_KeepsInstantsInsideDstOverlap() {
+        // 01:30 New York time happens twice on 11-03-2024; this is the second one
+        Event late = Event.create("Late", Instant.parse("2024-11-03T06:30:00Z"),
+            Instant.parse("2024-11-03T07:30:00Z"), ZoneId.of("America/New_York"));
+
+        storage.save(late);
+
+        Event found = storage.findById(late.getId()).orElseThrow();
+        assertEquals(late.getStartInstant(), found.getStartInstant());
+        assertEquals(late.getEndInstant(), found.getEndInstant());
+    }
+
+    @Test
+    void testSaveFindUpdateDelete_RoundTripsAllFields() {
+        Event event = event("Planning",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0))
+            .withTags(Set.of("team", "q1"))
+            .withAttendees(List.of("bob", "alice"));
+        storage.save(event);
+
+        Event loaded = storage.findById(event.getId()).orElseThrow();
+        assertEquals(event.getStartTime(), loaded.getStartTime());
+        assertEquals(event.getZone(), loaded.getZone());
+        assertEquals(Set.of("team", "q1"), loaded.getTags());
+        assertEquals(List.of("bob", "alice"), loaded.getAttendees());
+
+        assertTrue(storage.update(event.withTimes(
+            LocalDateTime.of(2025, 12, 16, 10, 0), LocalDateTime.of(2025, 12, 16, 11, 0))));
+        assertTrue(storage.findByDate(LocalDate.of(2025, 12, 15)).isEmpty());
+        assertEquals(1, storage.findByDate(LocalDate.of(2025, 12, 16)).size());
+
+        assertTrue(storage.delete(event.getId()));
+        assertFalse(storage.update(event));
+        assertEquals(0, storage.count());
+    }
+
+    @Test
+    void testRangeQueries_SeeLongEvents() {
+        Event conference = event("Conference",
+            LocalDateTime.of(2025, 12, 14, 9, 0),
+            LocalDateTime.of(2025, 12, 17, 17, 0));
+        Event meeting = event("Meeting",
+            LocalDateTime.of(2025, 12, 16, 10, 0),
+            LocalDateTime.of(2025, 12, 16, 11, 0));
+        storage.save(conference);
+        storage.save(meeting);
+
+        assertEquals(List.of(conference, meeting), storage.findByDate(LocalDate.of(2025, 12, 16)));
+        assertEquals(List.of(conference), storage.findBetween(at(15, 0), at(15, 23)));
+        assertEquals(List.of(conference), storage.findOverlapping(meeting));
+    }
+
+    @Test
+    void testSaveAll_BatchReplacesExisting() {
+        Event original = event("Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 9, 15));
+        storage.save(original);
+
+        List<Event> batch = new ArrayList<>();
+        batch.add(original.withTimes(LocalDateTime.of(2025, 12, 15, 9, 30), LocalDateTime.of(2025, 12, 15, 9, 45)));
+        for (int i = 1; i <= 100; i++) {
+            batch.add(event("Event " + i,
+                LocalDateTime.of(2025, 12, 16, 0, 0).plusMinutes(i * 10L),
+                LocalDateTime.of(2025, 12, 16, 0, 5).plusMinutes(i * 10L)));
+        }
+        storage.saveAll(batch);
+
+        assertEquals(101, storage.count());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 30), storage.findById(original.getId()).orElseThrow().getStartTime());
+    }
+
+    @Test
+    void testDeleteWhere_RemovesMatchesInRange() {
+        Event standup = event("Standup",
+            LocalDateTime.of(2025, 12, 15, 9, 0),
+            LocalDateTime.of(2025, 12, 15, 9, 15));
+        Event review = event("Review",
+            LocalDateTime.of(2025, 12, 15, 14, 0),
+            LocalDateTime.of(2025, 12, 15, 15, 0));
+        storage.save(standup);
+        storage.save(review);
+
+        List<Event> removed = storage.deleteWhere(e -> e.getTitle().equals("Review"), at(15, 0), at(16, 0));
+
+        assertEquals(List.of(review), removed);
+        assertEquals(List.of(standup), storage.findAll());
+    }
+
+    @Test
+    void testReopen_KeepsEventsAndRangeBounds(@TempDir Path dir) {
+        String url = "jdbc:h2:" + dir.resolve("calendar").toAbsolutePath();
+        Event trip = event("Trip",
+            LocalDateTime.of(2025, 12, 10, 8, 0),
+            LocalDateTime.of(2025, 12, 20, 18, 0));
+        try (JdbcEventStorage first = new JdbcEventStorage(url)) {
+            first.save(trip);
+        }
+
+        try (JdbcEventStorage reopened = new JdbcEventStorage(url)) {
+            assertEquals(List.of(trip), reopened.findByDate(LocalDate.of(2025, 12, 19)));
+            assertEquals(List.of(trip), reopened.findBetween(at(18, 0), at(18, 1)));
+        }
+    }
+
+    @Test
+    void testReopen_InAnotherZoneRecomputesDays(@TempDir Path dir) {
+        // 20:00 on the 15th in New York is 10:00 on the 16th in Tokyo
+        String url = "jdbc:h2:" + dir.resolve("calendar").toAbsolutePath();
+        Event call = Event.create("Call",
+            LocalDateTime.of(2025, 12, 15, 20, 0).atZone(ZoneId.of("America/New_York")),
+            LocalDateTime.of(2025, 12, 15, 21, 0).atZone(ZoneId.of("America/New_York")));
+        try (JdbcEventStorage newYork = new JdbcEventStorage(url, ZoneId.of("America/New_York"))) {
+            newYork.save(call);
+            assertEquals(List.of(call), newYork.findByDate(LocalDate.of(2025, 12, 15)));
+        }
+
+        try (JdbcEventStorage tokyo = new JdbcEventStorage(url, ZoneId.of("Asia/Tokyo"))) {
+            assertTrue(tokyo.findByDate(LocalDate.of(2025, 12, 15)).isEmpty());
+            assertEquals(List.of(call), tokyo.findByDate(LocalDate.of(2025, 12, 16)));
+        }
+    }
+
+    @Test
+    void testServiceOverlapCheck_UsesDatabase() {
+        CalendarServiceImpl service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage));
+        service.addEvent(Event.create("Meeting",
+            LocalDateTime.of(2025, 12, 15, 10, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)));
+
+        assertThrows(EventOverlapException.class, () -> service.addEvent(Event.create("Clash",
+            LocalDateTime.of(2025, 12, 15, 10, 30),
+            LocalDateTime.of(2025, 12, 15, 11, 30))));
+    }
+}
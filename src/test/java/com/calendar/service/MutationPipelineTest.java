@@ -0,0 +1,164 @@
+package com.calendar.service;
+
+import com.calendar.exception.EventOverlapException;
+import com.calendar.model.Event;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MutationPipelineTest {
+
+    private CalendarServiceImpl service;
+    private MutationPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        EventStorage storage = new InMemoryEventStorage();
+        service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage));
+        pipeline = new MutationPipeline(service, 16, 8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pipeline.close();
+    }
+
+    private static Event meeting(String title, int hour) {
+        return Event.create(title,
+            LocalDateTime.of(2025, 12, 15, hour, 0),
+            LocalDateTime.of(2025, 12, 15, hour + 1, 0));
+    }
+
+    @Test
+    void testCommands_AppliedInOrder() {
+        Event event = meeting("Review", 10);
+
+        CompletableFuture<Event> added = pipeline.addEvent(event);
+        CompletableFuture<Optional<Event>> moved = pipeline.moveEvent(event.getId(),
+            LocalDateTime.of(2025, 12, 15, 14, 0), LocalDateTime.of(2025, 12, 15, 15, 0));
+        CompletableFuture<Boolean> deleted = pipeline.deleteEvent("missing");
+
+        assertEquals(event, added.join());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 14, 0), moved.join().orElseThrow().getStartTime());
+        assertFalse(deleted.join());
+        assertEquals(1, service.getEventCount());
+    }
+
+    @Test
+    void testOverlap_CompletesExceptionally() {
+        pipeline.addEvent(meeting("First", 10)).join();
+
+        CompletionException failure = assertThrows(CompletionException.class,
+            () -> pipeline.addEvent(meeting("Second", 10)).join());
+        assertTrue(failure.getCause() instanceof EventOverlapException);
+    }
+
+    @Test
+    void testConcurrentBookings_ExactlyOneWinsPerSlot() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<CompletableFuture<Event>>> submissions = new ArrayList<>();
+        // 8 clients race for each of 8 hourly slots
+        for (int client = 0; client < 8; client++) {
+            for (int hour = 9; hour < 17; hour++) {
+                Event event = meeting("Client " + client, hour);
+                submissions.add(CompletableFuture.supplyAsync(() -> pipeline.addEvent(event), clients));
+            }
+        }
+
+        int succeeded = 0;
+        int rejected = 0;
+        for (CompletableFuture<CompletableFuture<Event>> submission : submissions) {
+            try {
+                submission.join().join();
+                succeeded++;
+            } catch (CompletionException e) {
+                assertTrue(e.getCause() instanceof EventOverlapException);
+                rejected++;
+            }
+        }
+        clients.shutdown();
+        assertTrue(clients.awaitTermination(5, TimeUnit.SECONDS));
+
+        assertEquals(8, succeeded);
+        assertEquals(56, rejected);
+        assertEquals(8, service.getEventCount());
+    }
+
+    @Test
+    void testClose_AppliesQueuedCommandsThenRejects() {
+        CompletableFuture<Event> queued = pipeline.addEvent(meeting("Queued", 9));
+        pipeline.close();
+
+        assertTrue(queued.isDone());
+        assertEquals(1, service.getEventCount());
+        CompletionException failure = assertThrows(CompletionException.class,
+            () -> pipeline.addEvent(meeting("Late", 12)).join());
+        assertTrue(failure.getCause() instanceof IllegalStateException);
+    }
+
+    @Test
+    void testErrorInCommand_FailsOnlyThatCommand() {
+        EventStorage storage = new InMemoryEventStorage() {
+            @Override
+            public void save(Event event) {
+                if (event.getTitle().equals("Broken")) {
+                    throw new AssertionError("storage bug");
+                }
+                super.save(event);
+            }
+        };
+        CalendarServiceImpl failing = new CalendarServiceImpl(storage, new StandardSlotFinder(storage));
+        try (MutationPipeline errors = new MutationPipeline(failing, 16, 8)) {
+            CompletableFuture<Event> broken = errors.addEvent(meeting("Broken", 9));
+            CompletableFuture<Event> fine = errors.addEvent(meeting("Fine", 11));
+
+            CompletionException failure = assertThrows(CompletionException.class, broken::join);
+            assertTrue(failure.getCause() instanceof AssertionError);
+            assertNotNull(fine.join());
+            assertEquals(1, failing.getEventCount());
+        }
+    }
+
+    @Test
+    void testSubmitsRacingClose_AllComplete() throws Exception {
+        ExecutorService clients = Executors.newFixedThreadPool(8);
+        List<CompletableFuture<CompletableFuture<Event>>> submissions = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            Event event = Event.create("Event " + i,
+                LocalDateTime.of(2025, 12, 1, 0, 0).plusHours(i),
+                LocalDateTime.of(2025, 12, 1, 0, 30).plusHours(i));
+            submissions.add(CompletableFuture.supplyAsync(() -> pipeline.addEvent(event), clients));
+        }
+        pipeline.close();
+
+        // Every future settles - applied or rejected, never left hanging
+        int applied = 0;
+        int rejected = 0;
+        for (CompletableFuture<CompletableFuture<Event>> submission : submissions) {
+            CompletableFuture<Event> result = submission.get(5, TimeUnit.SECONDS);
+            try {
+                result.get(5, TimeUnit.SECONDS);
+                applied++;
+            } catch (ExecutionException e) {
+                assertTrue(e.getCause() instanceof IllegalStateException);
+                rejected++;
+            }
+        }
+        assertEquals(400, applied + rejected);
+        assertEquals(applied, service.getEventCount());
+        clients.shutdown();
+    }
+}
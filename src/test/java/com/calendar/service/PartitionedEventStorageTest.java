@@ -0,0 +1,114 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PartitionedEventStorageTest {
+
+    private PartitionedEventStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        storage = new PartitionedEventStorage();
+    }
+
+    private static Event event(String title, LocalDateTime start, LocalDateTime end) {
+        return new Event(title + "-id", title, start, end, ZoneOffset.UTC);
+    }
+
+    private static Instant utc(LocalDateTime time) {
+        return time.toInstant(ZoneOffset.UTC);
+    }
+
+    @Test
+    void testSave_OnePartitionPerMonth() {
+        Event october = event("Oct", LocalDateTime.of(2025, 10, 5, 9, 0), LocalDateTime.of(2025, 10, 5, 10, 0));
+        Event december = event("Dec", LocalDateTime.of(2025, 12, 5, 9, 0), LocalDateTime.of(2025, 12, 5, 10, 0));
+        storage.save(december);
+        storage.save(october);
+
+        assertEquals(List.of(YearMonth.of(2025, 10), YearMonth.of(2025, 12)), storage.getPartitions());
+        assertEquals(List.of(october, december), storage.findAll());
+        assertEquals(2, storage.count());
+    }
+
+    @Test
+    void testQueries_SeeEventsCrossingMonthBoundary() {
+        Event newYear = event("New Year trip",
+            LocalDateTime.of(2025, 12, 30, 9, 0), LocalDateTime.of(2026, 1, 2, 18, 0));
+        Event january = event("Kickoff",
+            LocalDateTime.of(2026, 1, 2, 9, 0), LocalDateTime.of(2026, 1, 2, 10, 0));
+        storage.save(newYear);
+        storage.save(january);
+
+        assertEquals(List.of(newYear, january), storage.findByDate(LocalDate.of(2026, 1, 2)));
+        assertEquals(List.of(newYear),
+            storage.findBetween(utc(LocalDateTime.of(2026, 1, 1, 0, 0)), utc(LocalDateTime.of(2026, 1, 1, 12, 0))));
+        assertEquals(List.of(newYear), storage.findOverlapping(january));
+    }
+
+    @Test
+    void testUpdate_MovesEventBetweenPartitions() {
+        Event event = event("Review", LocalDateTime.of(2025, 11, 20, 9, 0), LocalDateTime.of(2025, 11, 20, 10, 0));
+        storage.save(event);
+
+        assertTrue(storage.update(event.withTimes(
+            LocalDateTime.of(2025, 12, 3, 9, 0), LocalDateTime.of(2025, 12, 3, 10, 0))));
+
+        assertEquals(List.of(YearMonth.of(2025, 12)), storage.getPartitions());
+        assertEquals(LocalDateTime.of(2025, 12, 3, 9, 0), storage.findById(event.getId()).orElseThrow().getStartTime());
+        assertFalse(storage.update(event("Missing", LocalDateTime.of(2025, 12, 4, 9, 0), LocalDateTime.of(2025, 12, 4, 10, 0))));
+    }
+
+    @Test
+    void testDropAndDetachPartitions() {
+        for (int month = 1; month <= 6; month++) {
+            storage.save(event("Event " + month,
+                LocalDateTime.of(2025, month, 10, 9, 0), LocalDateTime.of(2025, month, 10, 10, 0)));
+        }
+
+        assertEquals(3, storage.dropPartitionsBefore(YearMonth.of(2025, 4)));
+        EventStorage april = storage.detachPartition(YearMonth.of(2025, 4)).orElseThrow();
+
+        assertEquals(1, april.count());
+        assertEquals(List.of(YearMonth.of(2025, 5), YearMonth.of(2025, 6)), storage.getPartitions());
+        assertTrue(storage.findById("Event 1-id").isEmpty());
+        assertTrue(storage.findById("Event 4-id").isEmpty());
+        assertFalse(storage.delete("Event 4-id"));
+        assertFalse(storage.update(april.findById("Event 4-id").orElseThrow()));
+        assertTrue(storage.detachPartition(YearMonth.of(2025, 1)).isEmpty());
+
+        // An ID from a dropped month can be booked again without leftovers from the old one
+        storage.save(april.findById("Event 4-id").orElseThrow());
+        assertEquals(List.of(YearMonth.of(2025, 4), YearMonth.of(2025, 5), YearMonth.of(2025, 6)), storage.getPartitions());
+        assertTrue(storage.findById("Event 4-id").isPresent());
+    }
+
+    @Test
+    void testDeleteWhere_OnlyTouchesRangeAndDropsEmptyPartitions() {
+        Event march = event("Standup", LocalDateTime.of(2025, 3, 10, 9, 0), LocalDateTime.of(2025, 3, 10, 9, 15));
+        Event april = event("Standup 2", LocalDateTime.of(2025, 4, 10, 9, 0), LocalDateTime.of(2025, 4, 10, 9, 15));
+        storage.save(march);
+        storage.save(april);
+
+        List<Event> removed = storage.deleteBetween(
+            utc(LocalDateTime.of(2025, 3, 1, 0, 0)), utc(LocalDateTime.of(2025, 4, 1, 0, 0)));
+
+        assertEquals(List.of(march), removed);
+        assertEquals(List.of(YearMonth.of(2025, 4)), storage.getPartitions());
+        assertEquals(List.of(april), storage.findBetween(Instant.MIN, Instant.MAX));
+        assertFalse(storage.delete(march.getId()));
+        assertTrue(storage.delete(april.getId()));
+        assertEquals(0, storage.count());
+    }
+}
@@ -0,0 +1,113 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import com.calendar.model.Reminder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReminderSchedulerTest {
+
+    private MutableClock clock;
+    private CalendarServiceImpl service;
+    private List<Reminder> delivered;
+    private ReminderScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-15T08:00:00Z"), ZoneOffset.UTC);
+        EventStorage storage = new InMemoryEventStorage();
+        service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage), clock);
+        delivered = new ArrayList<>();
+        scheduler = new ReminderScheduler(List.of(Duration.ofMinutes(10), Duration.ofHours(1)),
+            delivered::add, clock);
+        scheduler.watch(service);
+    }
+
+    @Test
+    void testAddedEvent_DeliversAtEachOffset() {
+        Event event = event("Standup", 10, 0);
+        service.addEvent(event);
+        assertEquals(2, scheduler.getPendingCount());
+
+        advanceTo("2025-12-15T09:00:00Z");
+        assertEquals(1, delivered.size());
+        assertEquals(Duration.ofHours(1), delivered.get(0).getOffset());
+
+        advanceTo("2025-12-15T09:50:00Z");
+        assertEquals(2, delivered.size());
+        assertEquals(Duration.ofMinutes(10), delivered.get(1).getOffset());
+        assertEquals(event.getId(), delivered.get(1).getEvent().getId());
+        assertEquals(0, scheduler.getPendingCount());
+    }
+
+    @Test
+    void testMovedEvent_IsRescheduled() {
+        Event event = event("Review", 10, 0);
+        service.addEvent(event);
+        service.moveEvent(event.getId(), LocalDateTime.of(2025, 12, 15, 14, 0), LocalDateTime.of(2025, 12, 15, 15, 0));
+        assertEquals(2, scheduler.getPendingCount());
+
+        advanceTo("2025-12-15T12:00:00Z");
+        assertTrue(delivered.isEmpty());
+
+        advanceTo("2025-12-15T13:50:00Z");
+        assertEquals(2, delivered.size());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 14, 0), delivered.get(1).getEvent().getStartTime());
+    }
+
+    @Test
+    void testDeletedEvent_IsCancelled() {
+        Event event = event("Lunch", 12, 0);
+        service.addEvent(event);
+        service.deleteEvent(event.getId());
+
+        assertEquals(0, scheduler.getPendingCount());
+        advanceTo("2025-12-15T12:00:00Z");
+        assertTrue(delivered.isEmpty());
+    }
+
+    @Test
+    void testOffsetsAlreadyPassed_AreSkipped() {
+        // Starts in 30 minutes - the one-hour reminder is already in the past
+        service.addEvent(event("Soon", 8, 30));
+
+        assertEquals(1, scheduler.getPendingCount());
+        advanceTo("2025-12-15T08:20:00Z");
+        assertEquals(1, delivered.size());
+    }
+
+    @Test
+    void testWatch_SchedulesExistingEvents() {
+        service.addEvent(event("Existing", 11, 0));
+        List<Reminder> other = new ArrayList<>();
+        ReminderScheduler late = new ReminderScheduler(List.of(Duration.ofMinutes(5)), other::add, clock);
+
+        late.watch(service);
+
+        assertEquals(1, late.getPendingCount());
+        clock.advance(Duration.ofMinutes(175));
+        late.deliverDue();
+        assertEquals(1, other.size());
+    }
+
+    private Event event(String title, int hour, int minute) {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 15, hour, minute);
+        return new Event(EventId.next().toString(), title, start, start.plusHours(1), ZoneOffset.UTC);
+    }
+
+    private void advanceTo(String instant) {
+        Instant target = Instant.parse(instant);
+        clock.advance(Duration.between(clock.instant(), target));
+        scheduler.deliverDue();
+    }
+}
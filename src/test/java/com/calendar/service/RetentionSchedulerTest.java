@@ -0,0 +1,51 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.RetentionPolicy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RetentionSchedulerTest {
+
+    private CalendarServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        EventStorage storage = new InMemoryEventStorage();
+        service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage));
+        service.addEvent(Event.create("Ancient",
+            LocalDateTime.of(2001, 1, 1, 10, 0),
+            LocalDateTime.of(2001, 1, 1, 11, 0)));
+        service.addEvent(Event.create("Upcoming",
+            LocalDateTime.now().plusDays(1),
+            LocalDateTime.now().plusDays(1).plusHours(1)));
+    }
+
+    @Test
+    void testRunOnce_ReportsPurgedCount() {
+        try (RetentionScheduler scheduler = new RetentionScheduler(service, RetentionPolicy.keepMonths(6))) {
+            assertEquals(1, scheduler.runOnce());
+            assertEquals(1, scheduler.getLastPurged());
+            assertEquals(0, scheduler.runOnce());
+            assertEquals(1, service.getEventCount());
+        }
+    }
+
+    @Test
+    void testStart_PurgesInBackground() throws InterruptedException {
+        try (RetentionScheduler scheduler = new RetentionScheduler(service, RetentionPolicy.keepMonths(6))) {
+            scheduler.start(Duration.ofMillis(20));
+            long deadline = System.currentTimeMillis() + 5000;
+            while (service.getPurgedEventCount() == 0 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+        }
+        assertEquals(1, service.getPurgedEventCount());
+        assertEquals("Upcoming", service.getAllEvents().get(0).getTitle());
+    }
+}
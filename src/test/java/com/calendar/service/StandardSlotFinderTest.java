@@ -5,8 +5,12 @@ import com.calendar.model.TimeSlot;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -32,6 +36,23 @@ class StandardSlotFinderTest {
         assertEquals(60, slot.get().getDurationInMinutes());
     }
 
+    @Test
+    void testFindAllAvailableSlots_EventFromAnotherZone() {
+        // Midnight in Tokyo on the 16th is 10:00 on the 15th in New York, where the calendar is kept
+        ZoneId newYork = ZoneId.of("America/New_York");
+        ZoneId tokyo = ZoneId.of("Asia/Tokyo");
+        storage = new InMemoryEventStorage(newYork);
+        slotFinder = new StandardSlotFinder(storage, Clock.fixed(Instant.parse("2025-01-01T00:00:00Z"), newYork));
+        storage.save(Event.create("Call",
+            LocalDateTime.of(2025, 12, 16, 0, 0).atZone(tokyo),
+            LocalDateTime.of(2025, 12, 16, 1, 0).atZone(tokyo)));
+
+        List<TimeSlot> slots = slotFinder.findAllAvailableSlots(60, LocalDate.of(2025, 12, 15));
+
+        assertEquals(LocalDateTime.of(2025, 12, 15, 9, 0), slots.get(0).getStartTime());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 11, 0), slots.get(1).getStartTime());
+    }
+
     @Test
     void testFindNextAvailableSlot_WithExistingEvents() {
         storage.save(Event.create("Meeting",
@@ -68,4 +89,26 @@ class StandardSlotFinderTest {
             slotFinder.findNextAvailableSlot(0, date)
         );
     }
+
+    @Test
+    void testFindNextAvailableSlot_AfterOvernightEvent() {
+        storage.save(Event.create("Night shift",
+            LocalDateTime.of(2025, 12, 14, 22, 0),
+            LocalDateTime.of(2025, 12, 15, 11, 0)));
+
+        LocalDate date = LocalDate.of(2025, 12, 15);
+        Optional<TimeSlot> slot = slotFinder.findNextAvailableSlot(60, date);
+
+        assertTrue(slot.isPresent());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 11, 0), slot.get().getStartTime());
+    }
+
+    @Test
+    void testFindAllAvailableSlots_InsideMultiDayEvent() {
+        storage.save(Event.create("Offsite",
+            LocalDateTime.of(2025, 12, 14, 9, 0),
+            LocalDateTime.of(2025, 12, 16, 17, 0)));
+
+        assertTrue(slotFinder.findAllAvailableSlots(30, LocalDate.of(2025, 12, 15)).isEmpty());
+    }
 }
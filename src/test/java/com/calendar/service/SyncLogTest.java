@@ -0,0 +1,96 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.SyncDelta;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SyncLogTest {
+
+    private SyncLog log;
+
+    @BeforeEach
+    void setUp() {
+        log = new SyncLog(2);
+    }
+
+    private static Event event(String id) {
+        return new Event(id, "Event " + id, LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+    }
+
+    @Test
+    void testNullToken_GetsFullResyncFromSnapshot() {
+        Event existing = event("a");
+
+        SyncDelta delta = log.changesSince(null, () -> List.of(existing));
+
+        assertTrue(delta.isFullResync());
+        assertEquals(List.of(existing), delta.getChangedEvents());
+    }
+
+    @Test
+    void testDelta_ContainsOnlyLatestVersionOfEachChange() {
+        String token = log.changesSince(null, List::of).getSyncToken();
+        Event a = event("a");
+        log.onEventAdded(a);
+        log.onEventAdded(event("b"));
+        Event movedA = a.withTimes(LocalDateTime.of(2025, 12, 16, 10, 0), LocalDateTime.of(2025, 12, 16, 11, 0));
+        log.onEventUpdated(a, movedA);
+        log.onEventDeleted(event("b"));
+
+        SyncDelta delta = log.changesSince(token, () -> fail("no snapshot needed"));
+
+        assertFalse(delta.isFullResync());
+        assertEquals(List.of(movedA), delta.getChangedEvents());
+        assertEquals(List.of("b"), delta.getDeletedEventIds());
+        assertEquals(4, log.getVersion());
+        assertEquals(3, log.getVersion("a"));
+        assertTrue(log.changesSince(delta.getSyncToken(), List::of).isEmpty());
+    }
+
+    @Test
+    void testWriteRacingFullResync_ShowsUpInNextDelta() {
+        Event racing = event("a");
+
+        // The write lands in storage and the log while the snapshot is being taken
+        SyncDelta resync = log.changesSince(null, () -> {
+            log.onEventAdded(racing);
+            return List.of();
+        });
+        SyncDelta next = log.changesSince(resync.getSyncToken(), () -> fail("no snapshot needed"));
+
+        assertTrue(resync.isFullResync());
+        assertEquals(List.of(racing), next.getChangedEvents());
+    }
+
+    @Test
+    void testTokenOlderThanDroppedTombstone_GetsFullResync() {
+        String token = log.currentToken();
+        log.onEventDeleted(event("a"));
+        String afterFirst = log.currentToken();
+        log.onEventDeleted(event("b"));
+        log.onEventDeleted(event("c"));
+
+        assertTrue(log.changesSince(token, List::of).isFullResync());
+        SyncDelta delta = log.changesSince(afterFirst, List::of);
+        assertFalse(delta.isFullResync());
+        assertEquals(List.of("b", "c"), delta.getDeletedEventIds());
+    }
+
+    @Test
+    void testClearAndForeignTokens_GetFullResync() {
+        String token = log.currentToken();
+        log.onEventAdded(event("a"));
+        log.onAllEventsCleared();
+
+        assertTrue(log.changesSince(token, List::of).isFullResync());
+        assertFalse(log.changesSince(log.currentToken(), List::of).isFullResync());
+        assertTrue(log.changesSince(new SyncLog(2).currentToken(), List::of).isFullResync());
+        assertTrue(log.changesSince("garbage", List::of).isFullResync());
+    }
+}
@@ -0,0 +1,146 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TieredEventStorageTest {
+
+    @TempDir
+    Path dir;
+
+    private static final Clock NOW = Clock.fixed(Instant.parse("2025-12-15T12:00:00Z"), ZoneOffset.UTC);
+    private static final ZoneId BERLIN = ZoneId.of("Europe/Berlin");
+
+    private TieredEventStorage newStorage() {
+        return new TieredEventStorage(dir, Duration.ofDays(30), NOW);
+    }
+
+    private static Event event(String title, LocalDateTime start, LocalDateTime end) {
+        return new Event(title + "-id", title, start, end, BERLIN);
+    }
+
+    @Test
+    void testArchive_MovesOnlyExpiredEventsAndKeepsThemQueryable() {
+        TieredEventStorage storage = newStorage();
+        Event old = event("Retro", LocalDateTime.of(2025, 10, 1, 10, 0), LocalDateTime.of(2025, 10, 1, 11, 0))
+            .withTags(Set.of("team"))
+            .withAttendees(List.of("alice", "bob"));
+        Event recent = event("Planning", LocalDateTime.of(2025, 12, 1, 10, 0), LocalDateTime.of(2025, 12, 1, 11, 0));
+        storage.save(old);
+        storage.save(recent);
+
+        assertEquals(1, storage.archive());
+        assertEquals(1, storage.getHotCount());
+        assertEquals(1, storage.getSegmentCount());
+        assertEquals(2, storage.count());
+
+        Event archived = storage.findById(old.getId()).orElseThrow();
+        assertEquals(old.getStartTime(), archived.getStartTime());
+        assertEquals(old.getEndTime(), archived.getEndTime());
+        assertEquals(BERLIN, archived.getZone());
+        assertEquals(Set.of("team"), archived.getTags());
+        assertEquals(List.of("alice", "bob"), archived.getAttendees());
+
+        assertEquals(List.of(old), storage.findByDate(LocalDate.of(2025, 10, 1)));
+        assertEquals(List.of(old, recent), storage.findAll());
+        assertEquals(List.of(old), storage.findByTags(Set.of("team"), false,
+            LocalDate.of(2025, 9, 1), LocalDate.of(2025, 12, 31)));
+        assertEquals(0, storage.archive());
+    }
+
+    @Test
+    void testFindByDate_ArchivedEventOnStorageZoneDays() {
+        // 23:30 Berlin time on 10-01 is already 10-02 in Tokyo
+        TieredEventStorage storage = new TieredEventStorage(dir, Duration.ofDays(30), NOW, ZoneId.of("Asia/Tokyo"));
+        Event late = event("Late", LocalDateTime.of(2025, 10, 1, 23, 30), LocalDateTime.of(2025, 10, 2, 0, 30));
+        storage.save(late);
+
+        assertEquals(1, storage.archive());
+
+        assertTrue(storage.findByDate(LocalDate.of(2025, 10, 1)).isEmpty());
+        assertEquals(List.of(late), storage.findByDate(LocalDate.of(2025, 10, 2)));
+    }
+
+    @Test
+    void testUpdateAndDelete_ArchivedEvents() {
+        TieredEventStorage storage = newStorage();
+        Event first = event("First", LocalDateTime.of(2025, 9, 1, 10, 0), LocalDateTime.of(2025, 9, 1, 11, 0));
+        Event second = event("Second", LocalDateTime.of(2025, 9, 2, 10, 0), LocalDateTime.of(2025, 9, 2, 11, 0));
+        storage.save(first);
+        storage.save(second);
+        storage.archive();
+
+        // Moving an archived event brings it back to the hot tier
+        Event moved = first.withTimes(LocalDateTime.of(2025, 12, 20, 10, 0), LocalDateTime.of(2025, 12, 20, 11, 0));
+        assertTrue(storage.update(moved));
+        assertEquals(1, storage.getHotCount());
+        assertEquals(LocalDateTime.of(2025, 12, 20, 10, 0), storage.findById(first.getId()).orElseThrow().getStartTime());
+
+        assertTrue(storage.delete(second.getId()));
+        assertFalse(storage.delete(second.getId()));
+        assertEquals(List.of(moved), storage.findAll());
+    }
+
+    @Test
+    void testReopen_RestoresSegmentsAndTombstones() {
+        Event kept = event("Kept", LocalDateTime.of(2025, 8, 1, 10, 0), LocalDateTime.of(2025, 8, 1, 11, 0));
+        Event removed = event("Removed", LocalDateTime.of(2025, 8, 2, 10, 0), LocalDateTime.of(2025, 8, 2, 11, 0));
+        TieredEventStorage storage = newStorage();
+        storage.save(kept);
+        storage.save(removed);
+        storage.archive();
+        storage.deleteWhere(e -> e.getTitle().equals("Removed"), Instant.MIN, Instant.MAX);
+        storage.close();
+
+        TieredEventStorage reopened = newStorage();
+        assertEquals(List.of(kept), reopened.findAll());
+        assertEquals(1, reopened.count());
+
+        // New segments continue the numbering instead of overwriting
+        reopened.save(event("Later", LocalDateTime.of(2025, 8, 3, 10, 0), LocalDateTime.of(2025, 8, 3, 11, 0)));
+        reopened.archive();
+        assertEquals(2, reopened.getSegmentCount());
+        assertEquals(2, reopened.count());
+    }
+
+    @Test
+    void testFindBetween_SkipsSegmentsOutsideRange() {
+        TieredEventStorage storage = newStorage();
+        Event old = event("Old", LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 1, 11, 0));
+        storage.save(old);
+        storage.archive();
+
+        Instant julyFirst = LocalDateTime.of(2025, 7, 1, 0, 0).atZone(BERLIN).toInstant();
+        assertEquals(List.of(old), storage.findBetween(julyFirst, julyFirst.plus(Duration.ofDays(1))));
+        assertTrue(storage.findBetween(julyFirst.plus(Duration.ofDays(1)), julyFirst.plus(Duration.ofDays(2))).isEmpty());
+    }
+
+    @Test
+    void testDeletingEveryArchivedEvent_RemovesSegmentFile() throws Exception {
+        TieredEventStorage storage = newStorage();
+        Event old = event("Old", LocalDateTime.of(2025, 7, 1, 10, 0), LocalDateTime.of(2025, 7, 1, 11, 0));
+        storage.save(old);
+        storage.archive();
+
+        assertTrue(storage.delete(old.getId()));
+
+        assertEquals(0, storage.getSegmentCount());
+        try (java.util.stream.Stream<Path> files = java.nio.file.Files.list(dir)) {
+            assertEquals(0, files.count());
+        }
+    }
+}
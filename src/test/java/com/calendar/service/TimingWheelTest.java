@@ -0,0 +1,103 @@
+package com.calendar.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimingWheelTest {
+
+    private MutableClock clock;
+    private TimingWheel wheel;
+    private List<String> fired;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-15T10:00:00Z"), ZoneOffset.UTC);
+        wheel = new TimingWheel(Duration.ofMillis(100), 8, clock);
+        fired = new ArrayList<>();
+    }
+
+    @Test
+    void testAdvance_FiresOnlyDueTimeouts() {
+        wheel.schedule(() -> fired.add("a"), Duration.ofMillis(250));
+        wheel.schedule(() -> fired.add("b"), Duration.ofMillis(500));
+
+        clock.advance(Duration.ofMillis(200));
+        assertEquals(0, wheel.advance());
+        clock.advance(Duration.ofMillis(100));
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("a"), fired);
+        assertEquals(1, wheel.size());
+    }
+
+    @Test
+    void testFailingTask_CountedAndOthersStillFire() {
+        wheel.schedule(() -> {
+            throw new IllegalStateException("task bug");
+        }, Duration.ofMillis(100));
+        wheel.schedule(() -> fired.add("b"), Duration.ofMillis(100));
+
+        clock.advance(Duration.ofMillis(100));
+        assertEquals(2, wheel.advance());
+        assertEquals(List.of("b"), fired);
+        assertEquals(1, wheel.getFailedTaskCount());
+    }
+
+    @Test
+    void testTimeoutBeyondOneRotation_WaitsForItsDeadline() {
+        // 8 buckets of 100ms = 800ms per rotation
+        wheel.schedule(() -> fired.add("late"), Duration.ofMillis(2_000));
+
+        for (int i = 0; i < 19; i++) {
+            clock.advance(Duration.ofMillis(100));
+            wheel.advance();
+        }
+        assertTrue(fired.isEmpty());
+
+        clock.advance(Duration.ofMillis(100));
+        wheel.advance();
+        assertEquals(List.of("late"), fired);
+    }
+
+    @Test
+    void testCancel_RemovesTimeout() {
+        TimingWheel.Timeout timeout = wheel.schedule(() -> fired.add("x"), Duration.ofMillis(100));
+
+        assertTrue(timeout.cancel());
+        assertFalse(timeout.cancel());
+        clock.advance(Duration.ofSeconds(1));
+        assertEquals(0, wheel.advance());
+        assertTrue(fired.isEmpty());
+    }
+
+    @Test
+    void testLongPause_CatchesUpInOneSweep() {
+        wheel.schedule(() -> fired.add("a"), Duration.ofMillis(300));
+        wheel.schedule(() -> fired.add("b"), Duration.ofSeconds(30));
+
+        clock.advance(Duration.ofSeconds(10));
+        assertEquals(1, wheel.advance());
+        clock.advance(Duration.ofSeconds(20));
+        assertEquals(1, wheel.advance());
+        assertEquals(List.of("a", "b"), fired);
+    }
+
+    @Test
+    void testStart_FiresOnBackgroundThread() throws InterruptedException {
+        try (TimingWheel realWheel = new TimingWheel(Duration.ofMillis(10), 64)) {
+            CountDownLatch latch = new CountDownLatch(1);
+            realWheel.schedule(latch::countDown, Duration.ofMillis(30));
+            realWheel.start();
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        }
+    }
+}
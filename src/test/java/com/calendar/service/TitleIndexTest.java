@@ -0,0 +1,93 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TitleIndexTest {
+
+    private TitleIndex index;
+    private Event standup;
+    private Event sync;
+    private Event review;
+
+    @BeforeEach
+    void setUp() {
+        index = new TitleIndex();
+        standup = event("standup", "Team Standup", 9);
+        sync = event("sync", "Standup/Sync with design", 10);
+        review = event("review", "Design review", 11);
+        index.add(standup);
+        index.add(sync);
+        index.add(review);
+    }
+
+    private Event event(String id, String title, int hour) {
+        return new Event(id, title,
+            LocalDateTime.of(2025, 12, 15, hour, 0),
+            LocalDateTime.of(2025, 12, 15, hour, 30), ZoneOffset.UTC);
+    }
+
+    private List<Event> search(String query) {
+        return index.search(query, Long.MIN_VALUE, Long.MAX_VALUE, 10);
+    }
+
+    @Test
+    void testSearch_WordIsCaseInsensitive() {
+        assertEquals(List.of(standup, sync), search("STANDUP"));
+    }
+
+    @Test
+    void testSearch_SubstringViaTrigrams() {
+        assertEquals(List.of(sync, review), search("sig"));
+    }
+
+    @Test
+    void testSearch_ShortPrefix() {
+        assertEquals(List.of(sync), search("sy"));
+    }
+
+    @Test
+    void testSearch_AllWordsMustMatch_ExactWordsRankFirst() {
+        Event designer = event("designer", "Designer standup", 8);
+        index.add(designer);
+
+        // "design" is a whole word in sync's title but only a prefix in designer's
+        assertEquals(List.of(sync, designer), search("standup design"));
+    }
+
+    @Test
+    void testSearch_RangeAndLimit() {
+        long tenOClock = LocalDateTime.of(2025, 12, 15, 10, 0).toEpochSecond(ZoneOffset.UTC);
+
+        assertEquals(List.of(sync), index.search("standup", tenOClock, Long.MAX_VALUE, 10));
+        assertEquals(1, index.search("design", Long.MIN_VALUE, Long.MAX_VALUE, 1).size());
+    }
+
+    @Test
+    void testRemove_NoLongerFound() {
+        index.remove(sync);
+
+        assertEquals(List.of(standup), search("standup"));
+        assertTrue(search("sync").isEmpty());
+    }
+
+    @Test
+    void testScan_MatchesAndRanksLikeTheIndex() {
+        Event designer = event("designer", "Designer standup", 8);
+        index.add(designer);
+        List<Event> all = List.of(designer, standup, sync, review);
+
+        for (String query : List.of("standup design", "sig", "sy", "STANDUP", "st", "review team")) {
+            assertEquals(search(query), TitleIndex.scan(all, query, Long.MIN_VALUE, Long.MAX_VALUE, 10), query);
+        }
+        // Short words match at the start of a word only, as in the index
+        assertTrue(TitleIndex.scan(all, "ta", Long.MIN_VALUE, Long.MAX_VALUE, 10).isEmpty());
+    }
+}
@@ -0,0 +1,186 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import com.calendar.model.EventId;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Flow;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class UpcomingEventsPublisherTest {
+
+    private MutableClock clock;
+    private CalendarServiceImpl service;
+    private UpcomingEventsPublisher publisher;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-12-15T08:00:00Z"), ZoneOffset.UTC);
+        EventStorage storage = new InMemoryEventStorage();
+        service = new CalendarServiceImpl(storage, new StandardSlotFinder(storage), clock);
+        service.addEvent(event("Earlier", 7, 0));
+        service.addEvent(event("Standup", 9, 0));
+        service.addEvent(event("Tomorrow", 33, 0));
+        // Signal subscribers on the calling thread so the test sees deliveries immediately
+        publisher = new UpcomingEventsPublisher(clock, Runnable::run);
+        publisher.watch(service);
+    }
+
+    @Test
+    void testSubscribe_ReceivesTodaysRemainingEvents() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        assertEquals(List.of(List.of("Standup")), subscriber.titles());
+    }
+
+    @Test
+    void testChanges_ArePushedIncrementally() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        Event review = event("Review", 11, 0);
+        service.addEvent(review);
+        service.moveEvent(review.getId(), LocalDateTime.of(2025, 12, 15, 10, 0), LocalDateTime.of(2025, 12, 15, 11, 0));
+        service.deleteEvent(review.getId());
+        service.addEvent(event("Next week", 24 * 7 + 9, 0));
+
+        assertEquals(List.of(
+            List.of("Standup"),
+            List.of("Standup", "Review"),
+            List.of("Standup", "Review"),
+            List.of("Standup")), subscriber.titles());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 0), subscriber.received.get(2).get(1).getStartTime());
+    }
+
+    @Test
+    void testAdvance_DropsFinishedEventsAndRollsOverAtMidnight() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.request(Long.MAX_VALUE);
+
+        clock.advance(Duration.ofHours(1));
+        publisher.advance();
+        clock.advance(Duration.ofHours(1));
+        publisher.advance();
+        clock.advance(Duration.ofHours(14));
+        publisher.advance();
+
+        assertEquals(List.of(List.of("Standup"), List.of(), List.of("Tomorrow")), subscriber.titles());
+    }
+
+    @Test
+    void testSlowSubscriber_GetsOnlyTheLatestWindow() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.request(1);
+
+        // No demand: these changes are conflated instead of queued
+        service.addEvent(event("A", 12, 0));
+        service.addEvent(event("B", 13, 0));
+        service.addEvent(event("C", 14, 0));
+        assertEquals(1, subscriber.received.size());
+
+        subscriber.request(1);
+        assertEquals(List.of("Standup", "A", "B", "C"), subscriber.titles().get(1));
+        subscriber.request(1);
+        assertEquals(2, subscriber.received.size());
+    }
+
+    @Test
+    void testCancelAndClose() {
+        RecordingSubscriber cancelled = new RecordingSubscriber();
+        RecordingSubscriber open = new RecordingSubscriber();
+        publisher.subscribe(cancelled);
+        publisher.subscribe(open);
+        cancelled.subscription.cancel();
+        assertEquals(1, publisher.getSubscriberCount());
+
+        publisher.close();
+        assertTrue(open.completed);
+        assertFalse(cancelled.completed);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void testNonPositiveRequest_SignalsError() {
+        RecordingSubscriber subscriber = new RecordingSubscriber();
+        publisher.subscribe(subscriber);
+        subscriber.request(0);
+
+        assertTrue(subscriber.error instanceof IllegalArgumentException);
+        assertEquals(0, publisher.getSubscriberCount());
+    }
+
+    @Test
+    void testThrowingSubscriber_DroppedAndCounted() {
+        RecordingSubscriber failing = new RecordingSubscriber() {
+            @Override
+            public void onNext(List<Event> item) {
+                throw new IllegalStateException("subscriber bug");
+            }
+        };
+        RecordingSubscriber healthy = new RecordingSubscriber();
+        publisher.subscribe(failing);
+        publisher.subscribe(healthy);
+        failing.request(1);
+        healthy.request(1);
+
+        assertEquals(1, publisher.getFailedSubscriberCount());
+        assertEquals(1, publisher.getSubscriberCount());
+        assertEquals(List.of(List.of("Standup")), healthy.titles());
+    }
+
+    private Event event(String title, int hour, int minute) {
+        LocalDateTime start = LocalDateTime.of(2025, 12, 15, 0, 0).plusHours(hour).plusMinutes(minute);
+        return new Event(EventId.next().toString(), title, start, start.plusHours(1), ZoneOffset.UTC);
+    }
+
+    private static class RecordingSubscriber implements Flow.Subscriber<List<Event>> {
+        final List<List<Event>> received = new ArrayList<>();
+        Flow.Subscription subscription;
+        Throwable error;
+        boolean completed;
+
+        void request(long n) {
+            subscription.request(n);
+        }
+
+        List<List<String>> titles() {
+            return received.stream()
+                .map(events -> events.stream().map(Event::getTitle).collect(Collectors.toList()))
+                .collect(Collectors.toList());
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(List<Event> item) {
+            received.add(item);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+    }
+}
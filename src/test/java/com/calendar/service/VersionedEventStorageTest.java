@@ -0,0 +1,123 @@
+package com.calendar.service;
+
+import com.calendar.model.Event;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class VersionedEventStorageTest {
+
+    private static final LocalDate DAY = LocalDate.of(2025, 12, 15);
+    private static final Instant START = Instant.parse("2025-12-14T09:00:00Z");
+
+    private MutableClock clock;
+    private VersionedEventStorage storage;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START, ZoneOffset.UTC);
+        storage = new VersionedEventStorage(Duration.ofDays(1), clock);
+    }
+
+    private static Event event(String id, int hour) {
+        return new Event(id, "Event " + id, DAY.atTime(hour, 0), DAY.atTime(hour + 1, 0), ZoneOffset.UTC);
+    }
+
+    @Test
+    void testEachMutation_CreatesQueryableVersion() {
+        Event standup = event("standup", 9);
+        storage.save(standup);
+        storage.save(event("review", 14));
+        Event moved = standup.withTimes(DAY.plusDays(1).atTime(9, 0), DAY.plusDays(1).atTime(10, 0));
+        storage.update(moved);
+        storage.delete("review");
+
+        assertEquals(4, storage.getCurrentVersion());
+        assertEquals(List.of(standup), storage.findByDate(DAY, 1));
+        assertEquals(2, storage.findByDate(DAY, 2).size());
+        assertEquals(List.of("review"), storage.findByDate(DAY, 3).stream().map(Event::getId).collect(Collectors.toList()));
+        assertTrue(storage.findByDate(DAY, 4).isEmpty());
+        assertEquals(List.of(moved), storage.findAll(4));
+        assertEquals(Optional.of(standup), storage.findById("standup", 2));
+        assertTrue(storage.findAll(0).isEmpty());
+
+        // Current reads see only the latest state
+        assertEquals(List.of(moved), storage.findAll());
+        assertTrue(storage.findByDate(DAY).isEmpty());
+    }
+
+    @Test
+    void testAsOfTimestamp_SeesStateAtThatMoment() {
+        storage.save(event("a", 9));
+        clock.advance(Duration.ofHours(1));
+        storage.save(event("b", 10));
+        clock.advance(Duration.ofHours(1));
+        storage.clear();
+
+        assertTrue(storage.findAll(START.minusSeconds(1)).isEmpty());
+        assertEquals(1, storage.findAll(START.plus(Duration.ofMinutes(30))).size());
+        assertEquals(2, storage.findByDate(DAY, START.plus(Duration.ofMinutes(90))).size());
+        assertTrue(storage.findAll(clock.instant()).isEmpty());
+        assertEquals(0, storage.count());
+    }
+
+    @Test
+    void testBatchDelete_IsOneVersion() {
+        storage.saveAll(List.of(event("a", 9), event("b", 10), event("c", 11)));
+        List<Event> removed = storage.deleteBetween(DAY.atTime(9, 0).toInstant(ZoneOffset.UTC), DAY.atTime(11, 0).toInstant(ZoneOffset.UTC));
+
+        assertEquals(2, removed.size());
+        assertEquals(2, storage.getCurrentVersion());
+        assertEquals(3, storage.findAll(1).size());
+        assertEquals(1, storage.findAll(2).size());
+    }
+
+    @Test
+    void testCollectGarbage_KeepsStateVisibleAtHorizon() {
+        Event a = event("a", 9);
+        storage.save(a);
+        storage.save(event("gone", 12));
+        storage.update(a.withTimes(DAY.atTime(10, 0), DAY.atTime(11, 0)));
+        storage.delete("gone");
+        clock.advance(Duration.ofDays(2));
+        Event latest = a.withTimes(DAY.atTime(15, 0), DAY.atTime(16, 0));
+        storage.update(latest);
+        assertEquals(5, storage.getVersionCount());
+
+        int removed = storage.collectGarbage();
+
+        assertEquals(3, removed);
+        assertEquals(4, storage.getOldestVersion());
+        assertEquals(2, storage.getVersionCount());
+        assertEquals(LocalDateTime.of(2025, 12, 15, 10, 0), storage.findAll(4).get(0).getStartTime());
+        assertEquals(List.of(latest), storage.findByDate(DAY, 5));
+        assertThrows(IllegalArgumentException.class, () -> storage.findAll(3));
+        assertEquals(0, storage.collectGarbage());
+    }
+
+    @Test
+    void testCollectGarbage_DropsDaysLeftWithoutVersions() {
+        Event a = event("a", 9);
+        storage.save(a);
+        storage.update(a.withTimes(DAY.plusDays(1).atTime(9, 0), DAY.plusDays(1).atTime(10, 0)));
+        clock.advance(Duration.ofDays(8));
+        storage.update(a.withTimes(DAY.plusDays(2).atTime(9, 0), DAY.plusDays(2).atTime(10, 0)));
+        assertEquals(3, storage.getIndexedDayCount());
+
+        storage.collectGarbage();
+
+        // The first day's only version is gone; the horizon version and the current one remain
+        assertEquals(2, storage.getIndexedDayCount());
+        assertTrue(storage.findByDate(DAY, storage.getOldestVersion()).isEmpty());
+    }
+}